@@ -16,10 +16,30 @@
 package org.activiti.api.process.runtime.events.listener;
 
 
+import java.util.List;
+
 import org.activiti.api.model.shared.event.RuntimeEvent;
 
 public interface ProcessRuntimeEventListener<E extends RuntimeEvent<?, ?>> {
 
     void onEvent(E event);
 
+    /**
+     * Receives the events of one transaction, in the order they were fired, once that transaction has committed.
+     * Only called for listeners that are {@link #isDeferred() deferred}. Calls {@link #onEvent(RuntimeEvent)} for each event by default.
+     */
+    default void onEvents(List<E> events) {
+        for (E event : events) {
+            onEvent(event);
+        }
+    }
+
+    /**
+     * @return whether this listener only wants events of committed transactions, delivered in a single
+     *         {@link #onEvents(List)} call after the commit, instead of each event as soon as it is fired
+     */
+    default boolean isDeferred() {
+        return false;
+    }
+
 }
@@ -23,4 +23,12 @@ public interface Page<T> {
 
     int getTotalItems();
 
+    /**
+     * Token to get the next page with {@link Pageable#after(String, int)}, null when this page was not
+     * requested with keyset pagination or is the last one.
+     */
+    default String getNextPageToken() {
+        return null;
+    }
+
 }
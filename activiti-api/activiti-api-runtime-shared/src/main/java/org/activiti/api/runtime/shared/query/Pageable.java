@@ -20,6 +20,8 @@ public class Pageable {
     private int startIndex;
     private int maxItems;
     private Order order;
+    private boolean keysetPaging;
+    private String pageToken;
 
     private Pageable(int startIndex,
                     int maxItems,
@@ -29,6 +31,14 @@ public class Pageable {
         this.order = order;
     }
 
+    private Pageable(String pageToken,
+                     int maxItems,
+                     Order order) {
+        this(0, maxItems, order);
+        this.keysetPaging = true;
+        this.pageToken = pageToken;
+    }
+
     public static Pageable of(int startIndex,
                               int maxItems){
         return new Pageable(startIndex, maxItems, null);
@@ -40,6 +50,23 @@ public class Pageable {
         return new Pageable(startIndex, maxItems, order);
     }
 
+    /**
+     * Keyset pagination: the page of items following the given page token, which is the
+     * {@link Page#getNextPageToken()} of the previous page or null for the first page.
+     * Deep pages are as fast as the first one, but the total number of items is not counted:
+     * {@link Page#getTotalItems()} is -1.
+     */
+    public static Pageable after(String pageToken,
+                                 int maxItems) {
+        return new Pageable(pageToken, maxItems, null);
+    }
+
+    public static Pageable after(String pageToken,
+                                 int maxItems,
+                                 Order order) {
+        return new Pageable(pageToken, maxItems, order);
+    }
+
     public int getStartIndex() {
         return startIndex;
     }
@@ -52,4 +79,12 @@ public class Pageable {
         return order;
     }
 
+    public boolean isKeysetPaging() {
+        return keysetPaging;
+    }
+
+    public String getPageToken() {
+        return pageToken;
+    }
+
 }
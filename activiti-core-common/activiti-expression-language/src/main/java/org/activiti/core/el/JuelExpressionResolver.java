@@ -22,16 +22,38 @@ import static org.activiti.core.el.CommonELResolversUtil.listResolver;
 import static org.activiti.core.el.CommonELResolversUtil.mapResolver;
 
 import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
 import jakarta.el.ExpressionFactory;
 import jakarta.el.ValueExpression;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class JuelExpressionResolver implements ExpressionResolver {
 
+    /** Default maximal number of parsed expressions kept per expected type */
+    public static final int DEFAULT_EXPRESSION_CACHE_LIMIT = 1024;
+
     private final ExpressionFactory expressionFactory;
     private final List<CustomFunctionProvider> customFunctionProviders;
+    private final int expressionCacheLimit;
+
+    // Parsed expressions hold no evaluation state, so they are shared by all threads.
+    // Least recently used expressions are evicted once the limit is reached.
+    private final ConcurrentMap<Class<?>, Map<String, ValueExpression>> expressionCache = new ConcurrentHashMap<>();
+
+    // Stateless resolvers: sharing them keeps the cache of bean properties of the bean resolver
+    private final ELResolver[] resolvers = {
+        arrayResolver(),
+        listResolver(),
+        mapResolver(),
+        jsonNodeResolver(),
+        beanResolver()
+    };
 
     public JuelExpressionResolver() {
         this(ExpressionFactory.newInstance());
@@ -42,8 +64,16 @@ public class JuelExpressionResolver implements ExpressionResolver {
     }
 
     public JuelExpressionResolver(ExpressionFactory expressionFactory, List<CustomFunctionProvider> customFunctionProviders) {
+        this(expressionFactory, customFunctionProviders, DEFAULT_EXPRESSION_CACHE_LIMIT);
+    }
+
+    /**
+     * @param expressionCacheLimit maximal number of parsed expressions kept per expected type, 0 disables the cache
+     */
+    public JuelExpressionResolver(ExpressionFactory expressionFactory, List<CustomFunctionProvider> customFunctionProviders, int expressionCacheLimit) {
         this.expressionFactory = expressionFactory;
         this.customFunctionProviders = customFunctionProviders;
+        this.expressionCacheLimit = expressionCacheLimit;
     }
 
     @Override
@@ -52,19 +82,39 @@ public class JuelExpressionResolver implements ExpressionResolver {
             return null;
         }
         final ELContext context = buildContext(variables);
-        final ValueExpression valueExpression = expressionFactory.createValueExpression(context, expression, type);
+        final ValueExpression valueExpression = getValueExpression(context, expression, type);
         return (T)valueExpression.getValue(context);
     }
 
+    protected ValueExpression getValueExpression(ELContext context, String expression, Class<?> type) {
+        if (expressionCacheLimit <= 0) {
+            return expressionFactory.createValueExpression(context, expression, type);
+        }
+        Map<String, ValueExpression> valueExpressions = expressionCache.computeIfAbsent(type, key -> createLruCache());
+        ValueExpression valueExpression = valueExpressions.get(expression);
+        if (valueExpression == null) {
+            valueExpression = expressionFactory.createValueExpression(context, expression, type);
+            valueExpressions.put(expression, valueExpression);
+        }
+        return valueExpression;
+    }
+
+    private Map<String, ValueExpression> createLruCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, ValueExpression>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ValueExpression> eldest) {
+                return size() > expressionCacheLimit;
+            }
+        });
+    }
+
+    public int getExpressionCacheLimit() {
+        return expressionCacheLimit;
+    }
+
     protected ELContext buildContext (Map<String, Object> variables) {
         return new ELContextBuilder()
-            .withResolvers(
-                arrayResolver(),
-                listResolver(),
-                mapResolver(),
-                jsonNodeResolver(),
-                beanResolver()
-            )
+            .withResolvers(resolvers)
             .withVariables(variables)
             .buildWithCustomFunctions(customFunctionProviders);
     }
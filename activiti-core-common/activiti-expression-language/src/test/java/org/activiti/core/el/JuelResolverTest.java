@@ -17,11 +17,19 @@ package org.activiti.core.el;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import jakarta.el.ELContext;
 import jakarta.el.ELException;
+import jakarta.el.ExpressionFactory;
 import jakarta.el.PropertyNotFoundException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -155,4 +163,25 @@ public class JuelResolverTest {
         //then
         assertThat(result).isEqualTo(bigDecimal1.add(bigDecimal2));
     }
+
+    @Test
+    public void should_keepRecentlyUsedExpressionsParsed_when_cacheLimitIsReached() {
+        //given
+        ExpressionFactory expressionFactory = spy(ExpressionFactory.newInstance());
+        ExpressionResolver expressionResolver = new JuelExpressionResolver(expressionFactory, new ArrayList<>(), 2);
+        Map<String, Object> variables = Map.of("a", 1, "b", 2, "c", 3);
+        expressionResolver.resolveExpression("${a}", variables, Integer.class);
+        expressionResolver.resolveExpression("${b}", variables, Integer.class);
+
+        //when
+        expressionResolver.resolveExpression("${a}", variables, Integer.class);
+        expressionResolver.resolveExpression("${c}", variables, Integer.class);
+        Integer value = expressionResolver.resolveExpression("${a}", variables, Integer.class);
+
+        //then
+        assertThat(value).isEqualTo(1);
+        verify(expressionFactory, times(1)).createValueExpression(any(ELContext.class), eq("${a}"), eq(Integer.class));
+        verify(expressionFactory, times(1)).createValueExpression(any(ELContext.class), eq("${b}"), eq(Integer.class));
+        verify(expressionFactory, times(1)).createValueExpression(any(ELContext.class), eq("${c}"), eq(Integer.class));
+    }
 }
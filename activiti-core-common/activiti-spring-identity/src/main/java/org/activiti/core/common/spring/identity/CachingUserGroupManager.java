@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.core.common.spring.identity;
+
+import org.activiti.api.runtime.shared.identity.UserGroupManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@link UserGroupManager} that keeps the groups and roles of each user for a limited time, so that looking them up
+ * (e.g. from LDAP) is not repeated for every task query of the same user. At most maxSize users are kept: expired
+ * entries are purged when a full cache gets a new entry, and the entry expiring first is evicted if none has expired.
+ */
+public class CachingUserGroupManager implements UserGroupManager {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final UserGroupManager delegate;
+    private final long timeToLiveMillis;
+    private final int maxSize;
+    private final Clock clock;
+
+    private final Map<String, CachedValue> userGroups = new ConcurrentHashMap<>();
+    private final Map<String, CachedValue> userRoles = new ConcurrentHashMap<>();
+
+    public CachingUserGroupManager(UserGroupManager delegate,
+                                   Duration timeToLive) {
+        this(delegate, timeToLive, DEFAULT_MAX_SIZE);
+    }
+
+    public CachingUserGroupManager(UserGroupManager delegate,
+                                   Duration timeToLive,
+                                   int maxSize) {
+        this(delegate, timeToLive, maxSize, Clock.systemUTC());
+    }
+
+    public CachingUserGroupManager(UserGroupManager delegate,
+                                   Duration timeToLive,
+                                   int maxSize,
+                                   Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.delegate = delegate;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<String> getUserGroups(String username) {
+        return getCached(userGroups, username, delegate::getUserGroups);
+    }
+
+    @Override
+    public List<String> getUserRoles(String username) {
+        return getCached(userRoles, username, delegate::getUserRoles);
+    }
+
+    @Override
+    public List<String> getGroups() {
+        return delegate.getGroups();
+    }
+
+    @Override
+    public List<String> getUsers() {
+        return delegate.getUsers();
+    }
+
+    /**
+     * Forgets the groups and roles of the given user, e.g. after its memberships have changed.
+     */
+    public void invalidate(String username) {
+        userGroups.remove(username);
+        userRoles.remove(username);
+    }
+
+    public void invalidateAll() {
+        userGroups.clear();
+        userRoles.clear();
+    }
+
+    private List<String> getCached(Map<String, CachedValue> cache,
+                                   String username,
+                                   Function<String, List<String>> loader) {
+        long now = clock.millis();
+        CachedValue cachedValue = cache.get(username);
+        if (cachedValue == null || cachedValue.expiresAt <= now) {
+            List<String> values = loader.apply(username);
+            cachedValue = new CachedValue(values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : null,
+                                          now + timeToLiveMillis);
+            if (!cache.containsKey(username)) {
+                makeRoom(cache, now);
+            }
+            cache.put(username, cachedValue);
+        }
+        return cachedValue.values;
+    }
+
+    private void makeRoom(Map<String, CachedValue> cache,
+                          long now) {
+        if (cache.size() < maxSize) {
+            return;
+        }
+        cache.values().removeIf(value -> value.expiresAt <= now);
+        while (cache.size() >= maxSize) {
+            cache.entrySet()
+                .stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private static class CachedValue {
+
+        private final List<String> values;
+        private final long expiresAt;
+
+        CachedValue(List<String> values,
+                    long expiresAt) {
+            this.values = values;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
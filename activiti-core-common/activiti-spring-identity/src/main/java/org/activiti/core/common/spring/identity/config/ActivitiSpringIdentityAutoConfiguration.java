@@ -17,18 +17,28 @@ package org.activiti.core.common.spring.identity.config;
 
 import org.activiti.api.runtime.shared.identity.UserGroupManager;
 import org.activiti.core.common.spring.identity.ActivitiUserGroupManagerImpl;
+import org.activiti.core.common.spring.identity.CachingUserGroupManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.time.Duration;
+
 @AutoConfiguration
 public class ActivitiSpringIdentityAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public UserGroupManager userGroupManager(UserDetailsService userDetailsService) {
-        return new ActivitiUserGroupManagerImpl(userDetailsService);
+    public UserGroupManager userGroupManager(UserDetailsService userDetailsService,
+                                             @Value("${activiti.identity.user-groups-cache.ttl-seconds:0}") long cacheTimeToLiveSeconds,
+                                             @Value("${activiti.identity.user-groups-cache.max-size:" + CachingUserGroupManager.DEFAULT_MAX_SIZE + "}") int cacheMaxSize) {
+        UserGroupManager userGroupManager = new ActivitiUserGroupManagerImpl(userDetailsService);
+        if (cacheTimeToLiveSeconds > 0) {
+            return new CachingUserGroupManager(userGroupManager, Duration.ofSeconds(cacheTimeToLiveSeconds), cacheMaxSize);
+        }
+        return userGroupManager;
     }
 
 }
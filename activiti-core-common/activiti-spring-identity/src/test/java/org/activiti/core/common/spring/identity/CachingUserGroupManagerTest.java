@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.core.common.spring.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.activiti.api.runtime.shared.identity.UserGroupManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingUserGroupManagerTest {
+
+    private UserGroupManager delegate = mock(UserGroupManager.class);
+
+    private Clock clock = mock(Clock.class);
+
+    private CachingUserGroupManager userGroupManager;
+
+    @BeforeEach
+    public void setUp() {
+        given(delegate.getUserGroups("user")).willReturn(List.of("hr", "sales"));
+        userGroupManager = new CachingUserGroupManager(delegate, Duration.ofSeconds(60), 2, clock);
+    }
+
+    @Test
+    public void shouldLoadGroupsOnceWithinTimeToLive() {
+        given(clock.millis()).willReturn(0L, 59_999L);
+
+        assertThat(userGroupManager.getUserGroups("user")).containsExactly("hr", "sales");
+        assertThat(userGroupManager.getUserGroups("user")).containsExactly("hr", "sales");
+
+        verify(delegate, times(1)).getUserGroups("user");
+    }
+
+    @Test
+    public void shouldReloadGroupsOnceExpired() {
+        given(clock.millis()).willReturn(0L, 60_000L);
+
+        userGroupManager.getUserGroups("user");
+        userGroupManager.getUserGroups("user");
+
+        verify(delegate, times(2)).getUserGroups("user");
+    }
+
+    @Test
+    public void shouldReloadGroupsAfterInvalidation() {
+        given(clock.millis()).willReturn(0L);
+
+        userGroupManager.getUserGroups("user");
+        userGroupManager.invalidate("user");
+        userGroupManager.getUserGroups("user");
+        userGroupManager.invalidateAll();
+        userGroupManager.getUserGroups("user");
+
+        verify(delegate, times(3)).getUserGroups("user");
+    }
+
+    @Test
+    public void shouldEvictExpiredUsersWhenFull() {
+        given(clock.millis()).willReturn(0L, 1L, 60_000L, 60_001L, 60_002L);
+
+        userGroupManager.getUserGroups("user");
+        userGroupManager.getUserGroups("other");
+        userGroupManager.getUserGroups("third");
+        userGroupManager.getUserGroups("fourth");
+        userGroupManager.getUserGroups("third");
+
+        verify(delegate, times(1)).getUserGroups("third");
+        verify(delegate, times(1)).getUserGroups("fourth");
+    }
+
+    @Test
+    public void shouldEvictUserExpiringFirstWhenFullOfLiveEntries() {
+        given(clock.millis()).willReturn(0L, 1L, 2L, 3L, 4L);
+
+        userGroupManager.getUserGroups("user");
+        userGroupManager.getUserGroups("other");
+        userGroupManager.getUserGroups("third");
+        userGroupManager.getUserGroups("other");
+        userGroupManager.getUserGroups("user");
+
+        verify(delegate, times(1)).getUserGroups("other");
+        verify(delegate, times(2)).getUserGroups("user");
+    }
+
+    @Test
+    public void shouldCacheGroupsContainingNull() {
+        given(delegate.getUserGroups("user")).willReturn(Arrays.asList("hr", null));
+        given(clock.millis()).willReturn(0L);
+
+        assertThat(userGroupManager.getUserGroups("user")).containsExactly("hr", null);
+        assertThat(userGroupManager.getUserGroups("user")).containsExactly("hr", null);
+
+        verify(delegate, times(1)).getUserGroups("user");
+    }
+}
@@ -38,13 +38,12 @@ public class ActivityStartedListenerDelegate implements ActivitiEventListener {
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (processRuntimeEventListeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiActivityEvent) {
             converter.from((ActivitiActivityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for ( BPMNElementEventListener<BPMNActivityStartedEvent> listener : processRuntimeEventListeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(processRuntimeEventListeners, convertedEvent));
         }
     }
 
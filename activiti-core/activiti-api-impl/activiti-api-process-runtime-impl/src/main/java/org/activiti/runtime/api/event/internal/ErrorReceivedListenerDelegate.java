@@ -38,13 +38,12 @@ public class ErrorReceivedListenerDelegate implements ActivitiEventListener {
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (processRuntimeEventListeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiErrorEvent) {
             converter.from((ActivitiErrorEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (BPMNElementEventListener<BPMNErrorReceivedEvent> listener : processRuntimeEventListeners) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(processRuntimeEventListeners, convertedEvent));
         }
     }
 
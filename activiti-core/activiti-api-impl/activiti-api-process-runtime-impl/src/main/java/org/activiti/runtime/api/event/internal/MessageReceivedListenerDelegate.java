@@ -38,13 +38,12 @@ public class MessageReceivedListenerDelegate implements ActivitiEventListener {
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (processRuntimeEventListeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiMessageEvent) {
             converter.from((ActivitiMessageEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (BPMNElementEventListener<BPMNMessageReceivedEvent> listener : processRuntimeEventListeners) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(processRuntimeEventListeners, convertedEvent));
         }
     }
 
@@ -40,11 +40,12 @@ public class MessageSubscriptionCancelledListenerDelegate implements ActivitiEve
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (processRuntimeEventListeners.isEmpty()) {
+            return;
+        }
         if (isValidEvent(event)) {
             converter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        processRuntimeEventListeners.forEach(listener -> listener.onEvent(convertedEvent));
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(processRuntimeEventListeners, convertedEvent));
         }
     }
 
@@ -38,13 +38,12 @@ public class ProcessCandidateStarterGroupAddedListenerDelegate implements Activi
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiEntityEvent) {
             processCandidateStarterGroupAddedEventConverter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (ProcessRuntimeEventListener<ProcessCandidateStarterGroupAddedEvent> listener : listeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
@@ -38,13 +38,12 @@ public class ProcessCandidateStarterGroupRemovedListenerDelegate implements Acti
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiEntityEvent) {
             processCandidateStarterGroupRemovedEventConverter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (ProcessRuntimeEventListener<ProcessCandidateStarterGroupRemovedEvent> listener : listeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
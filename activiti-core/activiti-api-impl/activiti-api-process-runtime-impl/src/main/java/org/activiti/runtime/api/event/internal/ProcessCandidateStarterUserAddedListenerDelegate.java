@@ -38,13 +38,12 @@ public class ProcessCandidateStarterUserAddedListenerDelegate implements Activit
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiEntityEvent) {
             processCandidateStarterUserAddedEventConverter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (ProcessRuntimeEventListener<ProcessCandidateStarterUserAddedEvent> listener : listeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
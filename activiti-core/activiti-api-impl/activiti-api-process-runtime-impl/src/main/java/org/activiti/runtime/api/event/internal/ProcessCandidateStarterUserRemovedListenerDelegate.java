@@ -38,13 +38,12 @@ public class ProcessCandidateStarterUserRemovedListenerDelegate implements Activ
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiEntityEvent) {
             processCandidateStarterUserRemovedEventConverter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (ProcessRuntimeEventListener<ProcessCandidateStarterUserRemovedEvent> listener : listeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
@@ -38,13 +38,12 @@ public class ProcessCreatedListenerDelegate implements ActivitiEventListener {
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiEntityEvent) {
             entityCreatedEventConverter.from((ActivitiEntityEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for ( ProcessRuntimeEventListener<ProcessCreatedEvent> listener : listeners ) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
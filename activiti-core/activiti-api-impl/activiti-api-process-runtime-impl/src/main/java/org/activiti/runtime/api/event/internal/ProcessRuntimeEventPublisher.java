@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.event.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.api.model.shared.event.RuntimeEvent;
+import org.activiti.api.process.runtime.events.listener.ProcessRuntimeEventListener;
+import org.activiti.engine.impl.cfg.TransactionContext;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Hands converted events to the {@link ProcessRuntimeEventListener}s of a delegate. Deferred listeners get the events
+ * buffered in the current {@link CommandContext} and receive them in one {@link ProcessRuntimeEventListener#onEvents(List)}
+ * call once the transaction has committed, so events of rolled back transactions never reach them.
+ */
+public class ProcessRuntimeEventPublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessRuntimeEventPublisher.class);
+
+    private static final String DEFERRED_EVENTS_ATTRIBUTE = "deferredProcessRuntimeEvents";
+
+    private ProcessRuntimeEventPublisher() {
+    }
+
+    public static <E extends RuntimeEvent<?, ?>> void publish(List<? extends ProcessRuntimeEventListener<E>> listeners,
+                                                              E event) {
+        for (ProcessRuntimeEventListener<E> listener : listeners) {
+            if (listener.isDeferred()) {
+                defer(listener, event);
+            } else {
+                listener.onEvent(event);
+            }
+        }
+    }
+
+    private static <E extends RuntimeEvent<?, ?>> void defer(ProcessRuntimeEventListener<E> listener,
+                                                             E event) {
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = commandContext != null ? Context.getTransactionContext() : null;
+        if (transactionContext == null) {
+            // not part of a transaction: nothing to wait for
+            listener.onEvents(singletonList(event));
+            return;
+        }
+
+        DeferredEvents deferredEvents = commandContext.getGenericAttribute(DEFERRED_EVENTS_ATTRIBUTE);
+        if (deferredEvents == null) {
+            deferredEvents = new DeferredEvents();
+            commandContext.addAttribute(DEFERRED_EVENTS_ATTRIBUTE, deferredEvents);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, deferredEvents::publish);
+        }
+        deferredEvents.add(listener, event);
+    }
+
+    private static class DeferredEvents {
+
+        private final Map<ProcessRuntimeEventListener<?>, List<RuntimeEvent<?, ?>>> eventsByListener = new LinkedHashMap<>();
+
+        void add(ProcessRuntimeEventListener<?> listener,
+                 RuntimeEvent<?, ?> event) {
+            eventsByListener.computeIfAbsent(listener, key -> new ArrayList<>()).add(event);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void publish(CommandContext commandContext) {
+            for (Map.Entry<ProcessRuntimeEventListener<?>, List<RuntimeEvent<?, ?>>> entry : eventsByListener.entrySet()) {
+                try {
+                    ((ProcessRuntimeEventListener) entry.getKey()).onEvents(entry.getValue());
+                } catch (Exception e) {
+                    // the transaction is already committed: keep notifying the remaining listeners
+                    LOGGER.warn("Exception while publishing committed events to " + entry.getKey(), e);
+                }
+            }
+        }
+    }
+}
@@ -38,13 +38,12 @@ public class SequenceFlowTakenListenerDelegate implements ActivitiEventListener
 
     @Override
     public void onEvent(ActivitiEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         if (event instanceof ActivitiSequenceFlowTakenEvent) {
             converter.from((ActivitiSequenceFlowTakenEvent) event)
-                    .ifPresent(convertedEvent -> {
-                        for (BPMNElementEventListener<BPMNSequenceFlowTakenEvent> listener : listeners) {
-                            listener.onEvent(convertedEvent);
-                        }
-                    });
+                    .ifPresent(convertedEvent -> ProcessRuntimeEventPublisher.publish(listeners, convertedEvent));
         }
     }
 
@@ -45,6 +45,7 @@ import org.activiti.api.runtime.shared.query.Pageable;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.RepositoryService;
 import org.activiti.engine.RuntimeService;
+import org.activiti.engine.query.QueryPage;
 import org.activiti.engine.repository.ProcessDefinitionQuery;
 import org.activiti.runtime.api.model.impl.APIProcessDefinitionConverter;
 import org.activiti.runtime.api.model.impl.APIProcessInstanceConverter;
@@ -205,9 +206,12 @@ public class ProcessAdminRuntimeImpl implements ProcessAdminRuntime {
                 internalQuery.superProcessInstanceId(getProcessInstancesPayload.getParentProcessInstanceId());
             }
         }
-        return new PageImpl<>(processInstanceConverter.from(internalQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems())),
-                Math.toIntExact(internalQuery.count()));
+        QueryPage<org.activiti.engine.runtime.ProcessInstance> processInstancePage = pageable.isKeysetPaging()
+                ? internalQuery.listPageAfter(pageable.getPageToken(), pageable.getMaxItems())
+                : internalQuery.listPageWithTotal(pageable.getStartIndex(), pageable.getMaxItems());
+        return new PageImpl<>(processInstanceConverter.from(processInstancePage.getResults()),
+                Math.toIntExact(processInstancePage.getTotalCount()),
+                processInstancePage.getNextPageToken());
     }
 
     @Override
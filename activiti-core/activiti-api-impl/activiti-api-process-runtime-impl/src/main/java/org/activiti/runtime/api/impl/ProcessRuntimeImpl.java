@@ -60,6 +60,7 @@ import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.RepositoryService;
 import org.activiti.engine.RuntimeService;
 import org.activiti.engine.TaskService;
+import org.activiti.engine.query.QueryPage;
 import org.activiti.engine.repository.ProcessDefinitionQuery;
 import org.activiti.engine.runtime.ProcessInstanceBuilder;
 import org.activiti.engine.task.TaskQuery;
@@ -273,9 +274,12 @@ public class ProcessRuntimeImpl implements ProcessRuntime {
             internalQuery.superProcessInstanceId(getProcessInstancesPayload.getParentProcessInstanceId());
         }
 
-        return new PageImpl<>(processInstanceConverter.from(internalQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems())),
-                Math.toIntExact(internalQuery.count()));
+        QueryPage<org.activiti.engine.runtime.ProcessInstance> processInstancePage = pageable.isKeysetPaging()
+                ? internalQuery.listPageAfter(pageable.getPageToken(), pageable.getMaxItems())
+                : internalQuery.listPageWithTotal(pageable.getStartIndex(), pageable.getMaxItems());
+        return new PageImpl<>(processInstanceConverter.from(processInstancePage.getResults()),
+                Math.toIntExact(processInstancePage.getTotalCount()),
+                processInstancePage.getNextPageToken());
     }
 
     @Override
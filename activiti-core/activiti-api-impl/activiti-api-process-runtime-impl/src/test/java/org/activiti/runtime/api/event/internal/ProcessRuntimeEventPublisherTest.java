@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.runtime.api.event.internal;
+
+import org.activiti.api.process.runtime.events.ProcessCompletedEvent;
+import org.activiti.api.process.runtime.events.listener.ProcessRuntimeEventListener;
+import org.activiti.runtime.api.event.impl.ProcessCompletedImpl;
+import org.activiti.api.runtime.model.impl.ProcessInstanceImpl;
+import org.activiti.engine.impl.cfg.TransactionContext;
+import org.activiti.engine.impl.cfg.TransactionListener;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessRuntimeEventPublisherTest {
+
+    @Mock
+    private ProcessRuntimeEventListener<ProcessCompletedEvent> listener;
+
+    @Mock
+    private CommandContext commandContext;
+
+    @Mock
+    private TransactionContext transactionContext;
+
+    @AfterEach
+    public void tearDown() {
+        Context.removeCommandContext();
+        Context.removeTransactionContext();
+    }
+
+    @Test
+    public void shouldCallListenerRightAwayWhenItIsNotDeferred() {
+        ProcessCompletedEvent event = processCompleted();
+
+        ProcessRuntimeEventPublisher.publish(singletonList(listener), event);
+
+        verify(listener).onEvent(event);
+    }
+
+    @Test
+    public void shouldPublishDeferredEventsInOneBatchAfterCommit() {
+        given(listener.isDeferred()).willReturn(true);
+        Map<String, Object> attributes = new HashMap<>();
+        willAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .given(commandContext).addAttribute(anyString(), any());
+        willAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)))
+            .given(commandContext).getGenericAttribute(anyString());
+        Context.setCommandContext(commandContext);
+        Context.setTransactionContext(transactionContext);
+        ProcessCompletedEvent first = processCompleted();
+        ProcessCompletedEvent second = processCompleted();
+
+        ProcessRuntimeEventPublisher.publish(singletonList(listener), first);
+        ProcessRuntimeEventPublisher.publish(singletonList(listener), second);
+
+        ArgumentCaptor<TransactionListener> transactionListener = ArgumentCaptor.forClass(TransactionListener.class);
+        verify(transactionContext).addTransactionListener(eq(TransactionState.COMMITTED), transactionListener.capture());
+        verify(listener, never()).onEvent(any());
+        verify(listener, never()).onEvents(anyList());
+
+        transactionListener.getValue().execute(commandContext);
+
+        verify(listener).onEvents(asList(first, second));
+    }
+
+    @Test
+    public void shouldPublishDeferredEventRightAwayWhenThereIsNoTransaction() {
+        given(listener.isDeferred()).willReturn(true);
+        ProcessCompletedEvent event = processCompleted();
+
+        ProcessRuntimeEventPublisher.publish(singletonList(listener), event);
+
+        verify(listener).onEvents(singletonList(event));
+    }
+
+    private ProcessCompletedEvent processCompleted() {
+        return new ProcessCompletedImpl(new ProcessInstanceImpl());
+    }
+}
@@ -23,6 +23,7 @@ public class PageImpl<T> implements Page<T> {
 
     private List<T> content;
     private int totalItems;
+    private String nextPageToken;
 
     public PageImpl(List<T> content,
                     int totalItems) {
@@ -30,6 +31,13 @@ public class PageImpl<T> implements Page<T> {
         this.totalItems = totalItems;
     }
 
+    public PageImpl(List<T> content,
+                    int totalItems,
+                    String nextPageToken) {
+        this(content, totalItems);
+        this.nextPageToken = nextPageToken;
+    }
+
     @Override
     public List<T> getContent() {
         return content;
@@ -39,4 +47,9 @@ public class PageImpl<T> implements Page<T> {
     public int getTotalItems() {
         return totalItems;
     }
+
+    @Override
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
 }
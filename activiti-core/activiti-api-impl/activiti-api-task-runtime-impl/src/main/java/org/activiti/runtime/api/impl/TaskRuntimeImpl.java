@@ -42,6 +42,7 @@ import org.activiti.api.task.runtime.conf.TaskRuntimeConfiguration;
 import org.activiti.engine.TaskService;
 import org.activiti.engine.task.IdentityLink;
 import org.activiti.engine.task.IdentityLinkType;
+import org.activiti.engine.query.QueryPage;
 import org.activiti.engine.task.TaskQuery;
 import org.activiti.runtime.api.model.impl.APITaskConverter;
 import org.activiti.runtime.api.model.impl.APIVariableInstanceConverter;
@@ -133,10 +134,13 @@ public class TaskRuntimeImpl implements TaskRuntime {
         if (getTasksPayload.getParentTaskId() != null) {
             taskQuery = taskQuery.taskParentTaskId(getTasksPayload.getParentTaskId());
         }
-        List<Task> tasks = taskConverter.from(taskQuery.listPage(pageable.getStartIndex(),
-                pageable.getMaxItems()));
+        QueryPage<org.activiti.engine.task.Task> taskPage = pageable.isKeysetPaging()
+                ? taskQuery.listPageAfter(pageable.getPageToken(), pageable.getMaxItems())
+                : taskQuery.listPageWithTotal(pageable.getStartIndex(), pageable.getMaxItems());
+        List<Task> tasks = taskConverter.from(taskPage.getResults());
         return new PageImpl<>(tasks,
-                Math.toIntExact(taskQuery.count()));
+                Math.toIntExact(taskPage.getTotalCount()),
+                taskPage.getNextPageToken());
     }
 
     @Override
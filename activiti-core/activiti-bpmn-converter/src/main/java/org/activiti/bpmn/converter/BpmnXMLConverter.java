@@ -19,7 +19,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -27,6 +29,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
@@ -114,6 +120,23 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
   protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<String, BaseBpmnXMLConverter>();
   protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<Class<? extends BaseElement>, BaseBpmnXMLConverter>();
 
+  /** Maximal number of idle StAX factories kept for reuse, per factory type */
+  protected static final int MAX_POOLED_XML_FACTORIES = 16;
+
+  /**
+   * Compiled BPMN schemas by XSD location. A {@link Schema} is immutable and thread-safe, while compiling the whole
+   * BPMN 2.0 XSD set is expensive: it is done once per location instead of once per validated model.
+   */
+  protected static final ConcurrentMap<String, Schema> schemas = new ConcurrentHashMap<String, Schema>();
+
+  /**
+   * Configured StAX factories. The StAX API does not guarantee that factories are thread-safe, so a factory is only
+   * used by one thread at a time and handed back once the reader or writer is created.
+   * Input factories are pooled per converter class, as subclasses can configure them in {@link #createXMLInputFactory()}.
+   */
+  protected static final ConcurrentMap<Class<?>, Queue<XMLInputFactory>> xmlInputFactories = new ConcurrentHashMap<Class<?>, Queue<XMLInputFactory>>();
+  protected static final Queue<XMLOutputFactory> xmlOutputFactories = new ConcurrentLinkedQueue<XMLOutputFactory>();
+
   protected ClassLoader classloader;
   protected List<String> userTaskFormTypes;
   protected List<String> startEventFormTypes;
@@ -226,19 +249,28 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
   }
 
   protected Schema createSchema() throws SAXException {
-    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    Schema schema = null;
+    URL schemaUrl = null;
     if (classloader != null) {
-      schema = createSchema(factory, classloader.getResource(BPMN_XSD));
+      schemaUrl = classloader.getResource(BPMN_XSD);
     }
 
-    if (schema == null) {
-      schema = createSchema(factory, BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+    if (schemaUrl == null) {
+      schemaUrl = BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD);
     }
 
-    if (schema == null) {
+    if (schemaUrl == null) {
       throw new XMLException("BPMN XSD could not be found");
     }
+
+    String schemaLocation = schemaUrl.toExternalForm();
+    Schema schema = schemas.get(schemaLocation);
+    if (schema == null) {
+      schema = createSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI), schemaUrl);
+      Schema existingSchema = schemas.putIfAbsent(schemaLocation, schema);
+      if (existingSchema != null) {
+        schema = existingSchema;
+      }
+    }
     return schema;
   }
 
@@ -256,24 +288,10 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
   }
 
   public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-    XMLInputFactory xif = XMLInputFactory.newInstance();
-
-    if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-      xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-    }
-
-    if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-      xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-    }
-
-    if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-      xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-    }
-
     InputStreamReader in = null;
     try {
       in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-      XMLStreamReader xtr = xif.createXMLStreamReader(in);
+      XMLStreamReader xtr = createXMLStreamReader(in);
 
       try {
         if (validateSchema) {
@@ -286,7 +304,7 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
 
           // The input stream is closed after schema validation
           in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding);
-          xtr = xif.createXMLStreamReader(in);
+          xtr = createXMLStreamReader(in);
         }
 
       } catch (Exception e) {
@@ -310,6 +328,38 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
   }
 
+  protected XMLStreamReader createXMLStreamReader(Reader in) throws XMLStreamException {
+    Queue<XMLInputFactory> pooledFactories = xmlInputFactories.computeIfAbsent(getClass(), key -> new ConcurrentLinkedQueue<XMLInputFactory>());
+    XMLInputFactory xif = pooledFactories.poll();
+    if (xif == null) {
+      xif = createXMLInputFactory();
+    }
+    try {
+      return xif.createXMLStreamReader(in);
+    } finally {
+      if (pooledFactories.size() < MAX_POOLED_XML_FACTORIES) {
+        pooledFactories.offer(xif);
+      }
+    }
+  }
+
+  protected XMLInputFactory createXMLInputFactory() {
+    XMLInputFactory xif = XMLInputFactory.newInstance();
+
+    if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+      xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+    }
+
+    if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+      xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+      xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    }
+    return xif;
+  }
+
   public BpmnModel convertToBpmnModel(XMLStreamReader xtr) {
     BpmnModel model = new BpmnModel();
     model.setStartEventFormTypes(startEventFormTypes);
@@ -520,10 +570,9 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
 
       ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-      XMLOutputFactory xof = XMLOutputFactory.newInstance();
       OutputStreamWriter out = new OutputStreamWriter(outputStream, encoding);
 
-      XMLStreamWriter writer = xof.createXMLStreamWriter(out);
+      XMLStreamWriter writer = createXMLStreamWriter(out);
       XMLStreamWriter xtw = new IndentingXMLStreamWriter(writer);
 
       DefinitionsRootExport.writeRootElement(model, xtw, encoding);
@@ -572,6 +621,20 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
   }
 
+  protected XMLStreamWriter createXMLStreamWriter(Writer out) throws XMLStreamException {
+    XMLOutputFactory xof = xmlOutputFactories.poll();
+    if (xof == null) {
+      xof = XMLOutputFactory.newInstance();
+    }
+    try {
+      return xof.createXMLStreamWriter(out);
+    } finally {
+      if (xmlOutputFactories.size() < MAX_POOLED_XML_FACTORIES) {
+        xmlOutputFactories.offer(xof);
+      }
+    }
+  }
+
   protected void createXML(FlowElement flowElement, BpmnModel model, XMLStreamWriter xtw) throws Exception {
 
     if (flowElement instanceof SubProcess) {
@@ -18,13 +18,22 @@ package org.activiti.bpmn.converter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import org.activiti.bpmn.model.BpmnModel;
 import org.junit.jupiter.api.Test;
 
 public class BpmnXMLConverterTest {
@@ -52,4 +61,49 @@ public class BpmnXMLConverterTest {
         assertThat(schema).isNotNull();
     }
 
+    @Test
+    public void should_reuseCompiledSchema() throws Exception {
+        Schema schema = bpmnXMLConverter.createSchema();
+
+        assertThat(new BpmnXMLConverter().createSchema()).isSameAs(schema);
+    }
+
+    @Test
+    public void should_notShareInputFactoriesOfSubclasses() throws Exception {
+        XMLInputFactory customFactory = XMLInputFactory.newInstance();
+        BpmnXMLConverter customConverter = new BpmnXMLConverter() {
+            @Override
+            protected XMLInputFactory createXMLInputFactory() {
+                return customFactory;
+            }
+        };
+        customConverter.createXMLStreamReader(new StringReader("<definitions/>"));
+        new BpmnXMLConverter().createXMLStreamReader(new StringReader("<definitions/>"));
+
+        assertThat(BpmnXMLConverter.xmlInputFactories.get(customConverter.getClass())).contains(customFactory);
+        assertThat(BpmnXMLConverter.xmlInputFactories.get(BpmnXMLConverter.class)).doesNotContain(customFactory);
+    }
+
+    @Test
+    public void should_convertModels_when_convertingConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BpmnModel>> models = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                models.add(executorService.submit(() -> {
+                    BpmnModel model = new BpmnXMLConverter().convertToBpmnModel(
+                        () -> getClass().getClassLoader().getResourceAsStream("completemodel.bpmn"), false, false);
+                    byte[] xml = new BpmnXMLConverter().convertToXML(model);
+                    return new BpmnXMLConverter().convertToBpmnModel(() -> new ByteArrayInputStream(xml), false, false);
+                }));
+            }
+
+            for (Future<BpmnModel> model : models) {
+                assertThat(model.get().getMainProcess().getId()).isEqualTo("process");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
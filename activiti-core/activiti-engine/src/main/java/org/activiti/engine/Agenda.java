@@ -44,4 +44,11 @@ public interface Agenda {
    */
   void planOperation(Runnable operation);
 
+  /**
+   * Called once the given operation, returned by {@link #getNextOperation()}, has been executed,
+   * so the agenda can reuse it. Does nothing by default.
+   */
+  default void operationExecuted(Runnable operation) {
+  }
+
 }
@@ -43,7 +43,7 @@ import org.activiti.engine.api.internal.Internal;
 public interface ProcessEngine {
 
   /** the version of the activiti library */
-  public static String VERSION = "8.1.0"; // Note the extra -x at the end. To cater for snapshot releases with different database changes
+  public static String VERSION = "8.2.0"; // Note the extra -x at the end. To cater for snapshot releases with different database changes
 
   /**
    * The name as specified in 'process-engine-name' in the activiti.cfg.xml configuration file. The default name for a process engine is 'default
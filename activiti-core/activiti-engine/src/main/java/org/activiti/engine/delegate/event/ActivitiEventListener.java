@@ -16,6 +16,8 @@
 
 package org.activiti.engine.delegate.event;
 
+import java.util.Set;
+
 /**
  * Describes a class that listens for {@link ActivitiEvent}s dispatched by the engine.
  *
@@ -35,4 +37,12 @@ public interface ActivitiEventListener {
    * @return whether or not the current operation should fail when this listeners execution throws an exception.
    */
   boolean isFailOnException();
+
+  /**
+   * @return the event types this listener is interested in, or null when it should receive all events. Used when the listener is
+   *         added without explicit types, so that it is never called for events it would ignore.
+   */
+  default Set<ActivitiEventType> getSupportedEventTypes() {
+    return null;
+  }
 }
@@ -16,10 +16,11 @@
 
 package org.activiti.engine.delegate.event.impl;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiIllegalArgumentException;
@@ -32,27 +33,46 @@ import org.slf4j.LoggerFactory;
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  *
+ * Listeners are registered under a lock, after which an immutable snapshot of the listeners of each event type is published.
+ * Dispatching reads that snapshot without locking and only calls the listeners of the type of the event.
+ *
 
  */
 public class ActivitiEventSupport {
 
   private static final Logger LOG = LoggerFactory.getLogger(ActivitiEventSupport.class);
 
+  private static final ActivitiEventListener[] NO_LISTENERS = new ActivitiEventListener[0];
+
   protected List<ActivitiEventListener> eventListeners;
   protected Map<ActivitiEventType, List<ActivitiEventListener>> typedListeners;
 
+  /** Global listeners followed by the typed listeners, for each event type. Never changed once published. */
+  protected volatile EnumMap<ActivitiEventType, ActivitiEventListener[]> dispatchListeners;
+
   public ActivitiEventSupport() {
-    eventListeners = new CopyOnWriteArrayList<ActivitiEventListener>();
-    typedListeners = new HashMap<ActivitiEventType, List<ActivitiEventListener>>();
+    eventListeners = new ArrayList<ActivitiEventListener>();
+    typedListeners = new EnumMap<ActivitiEventType, List<ActivitiEventListener>>(ActivitiEventType.class);
+    dispatchListeners = createDispatchListeners();
   }
 
+  /**
+   * Adds a listener for all events, or only for the events of {@link ActivitiEventListener#getSupportedEventTypes()} if the listener declares them.
+   */
   public synchronized void addEventListener(ActivitiEventListener listenerToAdd) {
     if (listenerToAdd == null) {
       throw new ActivitiIllegalArgumentException("Listener cannot be null.");
     }
-    if (!eventListeners.contains(listenerToAdd)) {
+
+    Set<ActivitiEventType> supportedEventTypes = listenerToAdd.getSupportedEventTypes();
+    if (supportedEventTypes != null && !supportedEventTypes.isEmpty()) {
+      for (ActivitiEventType type : supportedEventTypes) {
+        addTypedEventListener(listenerToAdd, type);
+      }
+    } else if (!eventListeners.contains(listenerToAdd)) {
       eventListeners.add(listenerToAdd);
     }
+    dispatchListeners = createDispatchListeners();
   }
 
   public synchronized void addEventListener(ActivitiEventListener listenerToAdd, ActivitiEventType... types) {
@@ -67,15 +87,24 @@ public class ActivitiEventSupport {
       for (ActivitiEventType type : types) {
         addTypedEventListener(listenerToAdd, type);
       }
+      dispatchListeners = createDispatchListeners();
     }
   }
 
-  public void removeEventListener(ActivitiEventListener listenerToRemove) {
+  public synchronized void removeEventListener(ActivitiEventListener listenerToRemove) {
     eventListeners.remove(listenerToRemove);
 
     for (List<ActivitiEventListener> listeners : typedListeners.values()) {
       listeners.remove(listenerToRemove);
     }
+    dispatchListeners = createDispatchListeners();
+  }
+
+  /**
+   * Whether an event of the given type would be dispatched to at least one listener.
+   */
+  public boolean hasListeners(ActivitiEventType type) {
+    return dispatchListeners.get(type).length > 0;
   }
 
   public void dispatchEvent(ActivitiEvent event) {
@@ -87,19 +116,8 @@ public class ActivitiEventSupport {
       throw new ActivitiIllegalArgumentException("Event type cannot be null.");
     }
 
-    // Call global listeners
-    if (!eventListeners.isEmpty()) {
-      for (ActivitiEventListener listener : eventListeners) {
-        dispatchEvent(event, listener);
-      }
-    }
-
-    // Call typed listeners, if any
-    List<ActivitiEventListener> typed = typedListeners.get(event.getType());
-    if (typed != null && !typed.isEmpty()) {
-      for (ActivitiEventListener listener : typed) {
-        dispatchEvent(event, listener);
-      }
+    for (ActivitiEventListener listener : dispatchListeners.get(event.getType())) {
+      dispatchEvent(event, listener);
     }
   }
 
@@ -118,10 +136,15 @@ public class ActivitiEventSupport {
   }
 
   protected synchronized void addTypedEventListener(ActivitiEventListener listener, ActivitiEventType type) {
+    if (type == null) {
+      // A listener for a null type never receives any events
+      return;
+    }
+
     List<ActivitiEventListener> listeners = typedListeners.get(type);
     if (listeners == null) {
       // Add an empty list of listeners for this type
-      listeners = new CopyOnWriteArrayList<ActivitiEventListener>();
+      listeners = new ArrayList<ActivitiEventListener>();
       typedListeners.put(type, listeners);
     }
 
@@ -129,4 +152,23 @@ public class ActivitiEventSupport {
       listeners.add(listener);
     }
   }
+
+  protected EnumMap<ActivitiEventType, ActivitiEventListener[]> createDispatchListeners() {
+    EnumMap<ActivitiEventType, ActivitiEventListener[]> result = new EnumMap<ActivitiEventType, ActivitiEventListener[]>(ActivitiEventType.class);
+    ActivitiEventListener[] globalListeners = eventListeners.toArray(NO_LISTENERS);
+    for (ActivitiEventType type : ActivitiEventType.values()) {
+      List<ActivitiEventListener> listeners = typedListeners.get(type);
+      if (listeners == null || listeners.isEmpty()) {
+        result.put(type, globalListeners);
+      } else {
+        List<ActivitiEventListener> allListeners = new ArrayList<ActivitiEventListener>(globalListeners.length + listeners.size());
+        for (ActivitiEventListener globalListener : globalListeners) {
+          allListeners.add(globalListener);
+        }
+        allListeners.addAll(listeners);
+        result.put(type, allListeners.toArray(NO_LISTENERS));
+      }
+    }
+    return result;
+  }
 }
@@ -17,6 +17,7 @@
 package org.activiti.engine.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.activiti.engine.ActivitiException;
@@ -29,6 +30,7 @@ import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.query.Query;
+import org.activiti.engine.query.QueryPage;
 import org.activiti.engine.query.QueryProperty;
 
 /**
@@ -44,7 +46,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
   public static final String SORTORDER_DESC = "desc";
 
   private static enum ResultType {
-    LIST, LIST_PAGE, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, LIST_PAGE_WITH_TOTAL, LIST_PAGE_WITH_HAS_NEXT, LIST_PAGE_AFTER, SINGLE_RESULT, COUNT
   }
 
   protected transient CommandExecutor commandExecutor;
@@ -64,6 +66,23 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
   protected NullHandlingOnOrder nullHandlingOnOrder;
 
+  /** Column results are ordered by last for keyset pagination, and by default */
+  protected static final String KEYSET_ID_COLUMN = "RES.ID_";
+
+  // ordering as needed for keyset pagination
+  protected QueryProperty firstOrderProperty;
+  protected Direction firstOrderDirection;
+  protected int orderCount;
+  protected boolean orderWithNullHandling;
+
+  // keyset pagination parameters, only set while fetching a page after a token
+  protected String pageToken;
+  protected String keysetColumn;
+  protected Object keysetValue;
+  protected String keysetId;
+  protected boolean keysetDescending;
+  protected String keysetTieBreaker;
+
   protected AbstractQuery() {
     parameter = this;
   }
@@ -114,6 +133,11 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
       throw new ActivitiIllegalArgumentException("You should call any of the orderBy methods first before specifying a direction");
     }
     addOrder(orderProperty.getName(), direction.getName(), nullHandlingOnOrder);
+    if (orderCount++ == 0) {
+      firstOrderProperty = orderProperty;
+      firstOrderDirection = direction;
+    }
+    orderWithNullHandling |= nullHandlingOnOrder != null;
     orderProperty = null;
     nullHandlingOnOrder = null;
     return (T) this;
@@ -154,6 +178,40 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     return executeList(Context.getCommandContext(), new Page(firstResult, maxResults));
   }
 
+  @SuppressWarnings("unchecked")
+  public QueryPage<U> listPageWithTotal(int firstResult, int maxResults) {
+    this.firstResult = firstResult;
+    this.maxResults = maxResults;
+    this.resultType = ResultType.LIST_PAGE_WITH_TOTAL;
+    if (commandExecutor != null) {
+      return (QueryPage<U>) commandExecutor.execute(this);
+    }
+    return executeListPageWithTotal(Context.getCommandContext());
+  }
+
+  @SuppressWarnings("unchecked")
+  public QueryPage<U> listPageWithHasNext(int firstResult, int maxResults) {
+    this.firstResult = firstResult;
+    this.maxResults = maxResults;
+    this.resultType = ResultType.LIST_PAGE_WITH_HAS_NEXT;
+    if (commandExecutor != null) {
+      return (QueryPage<U>) commandExecutor.execute(this);
+    }
+    return executeListPageWithHasNext(Context.getCommandContext());
+  }
+
+  @SuppressWarnings("unchecked")
+  public QueryPage<U> listPageAfter(String pageToken, int maxResults) {
+    this.pageToken = pageToken;
+    this.firstResult = 0;
+    this.maxResults = maxResults;
+    this.resultType = ResultType.LIST_PAGE_AFTER;
+    if (commandExecutor != null) {
+      return (QueryPage<U>) commandExecutor.execute(this);
+    }
+    return executeListPageAfter(Context.getCommandContext());
+  }
+
   public long count() {
     this.resultType = ResultType.COUNT;
     if (commandExecutor != null) {
@@ -169,6 +227,12 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
       return executeSingleResult(commandContext);
     } else if (resultType == ResultType.LIST_PAGE) {
       return executeList(commandContext, null);
+    } else if (resultType == ResultType.LIST_PAGE_WITH_TOTAL) {
+      return executeListPageWithTotal(commandContext);
+    } else if (resultType == ResultType.LIST_PAGE_WITH_HAS_NEXT) {
+      return executeListPageWithHasNext(commandContext);
+    } else if (resultType == ResultType.LIST_PAGE_AFTER) {
+      return executeListPageAfter(commandContext);
     } else {
       return executeCount(commandContext);
     }
@@ -184,6 +248,110 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
    */
   public abstract List<U> executeList(CommandContext commandContext, Page page);
 
+  protected QueryPage<U> executeListPageWithTotal(CommandContext commandContext) {
+    // Some queries page in memory and change the paging parameters while listing
+    int pageFirstResult = firstResult;
+    int pageSize = maxResults;
+    List<U> results;
+    try {
+      results = executeList(commandContext, null);
+    } finally {
+      firstResult = pageFirstResult;
+      maxResults = pageSize;
+    }
+
+    long totalCount;
+    if ((results.isEmpty() && pageFirstResult == 0) || (!results.isEmpty() && results.size() < pageSize)) {
+      // Last page: no need to count
+      totalCount = pageFirstResult + results.size();
+    } else {
+      totalCount = executeCount(commandContext);
+    }
+    return new QueryPage<U>(results, totalCount, pageFirstResult + results.size() < totalCount);
+  }
+
+  protected QueryPage<U> executeListPageWithHasNext(CommandContext commandContext) {
+    int pageFirstResult = firstResult;
+    int pageSize = maxResults;
+    if (pageSize < Integer.MAX_VALUE) {
+      maxResults = pageSize + 1;
+    }
+    List<U> results;
+    try {
+      results = executeList(commandContext, null);
+    } finally {
+      firstResult = pageFirstResult;
+      maxResults = pageSize;
+    }
+
+    boolean hasNext = results.size() > pageSize;
+    if (hasNext) {
+      results = new ArrayList<U>(results.subList(0, pageSize));
+    }
+    return new QueryPage<U>(results, QueryPage.UNKNOWN_TOTAL_COUNT, hasNext);
+  }
+
+  protected QueryPage<U> executeListPageAfter(CommandContext commandContext) {
+    checkQueryOk();
+    if (maxResults <= 0) {
+      throw new ActivitiIllegalArgumentException("maxResults must be positive for keyset pagination");
+    }
+    if (orderCount > 1 || orderWithNullHandling) {
+      throw new ActivitiIllegalArgumentException("Keyset pagination requires the query to be ordered by at most one property, without null handling");
+    }
+    KeysetPaginationSupport<U> keysetPagination = getKeysetPaginationSupport();
+    if (keysetPagination == null || !keysetPagination.supportsKeysetOrder(firstOrderProperty)) {
+      throw new ActivitiIllegalArgumentException("Keyset pagination is not supported by " + getClass().getSimpleName()
+          + (firstOrderProperty != null ? " when ordering by " + firstOrderProperty.getName() : ""));
+    }
+
+    String orderColumn = firstOrderProperty != null ? firstOrderProperty.getName() : KEYSET_ID_COLUMN;
+    boolean descending = firstOrderProperty != null && firstOrderDirection == Direction.DESCENDING;
+    boolean orderedById = KEYSET_ID_COLUMN.equals(orderColumn);
+
+    QueryPage<U> page;
+    try {
+      if (pageToken != null) {
+        KeysetPageToken token = KeysetPageToken.decode(pageToken);
+        if (!token.matches(orderColumn, descending)) {
+          throw new ActivitiIllegalArgumentException("The page token was created for a query with another order");
+        }
+        keysetColumn = orderedById ? null : orderColumn;
+        keysetValue = token.getValue();
+        keysetId = token.getId();
+        keysetDescending = descending;
+      }
+      if (!orderedById) {
+        keysetTieBreaker = KEYSET_ID_COLUMN + " " + (descending ? SORTORDER_DESC : SORTORDER_ASC);
+      }
+      page = executeListPageWithHasNext(commandContext);
+    } finally {
+      keysetColumn = null;
+      keysetValue = null;
+      keysetId = null;
+      keysetTieBreaker = null;
+    }
+
+    String nextPageToken = null;
+    if (page.hasNext()) {
+      U last = page.getResults().get(page.getResults().size() - 1);
+      Object value = null;
+      if (!orderedById) {
+        value = keysetPagination.getKeysetOrderValue(last, firstOrderProperty);
+        if (value == null) {
+          throw new ActivitiException("Cannot create a page token, " + orderColumn + " is null for the last result of the page");
+        }
+      }
+      nextPageToken = new KeysetPageToken(orderColumn, descending, value, keysetPagination.getKeysetResultId(last)).encode();
+    }
+    return new QueryPage<U>(page.getResults(), QueryPage.UNKNOWN_TOTAL_COUNT, page.hasNext(), nextPageToken);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected KeysetPaginationSupport<U> getKeysetPaginationSupport() {
+    return this instanceof KeysetPaginationSupport ? (KeysetPaginationSupport<U>) this : null;
+  }
+
   public U executeSingleResult(CommandContext commandContext) {
     List<U> results = executeList(commandContext, null);
     if (results.size() == 1) {
@@ -241,17 +409,33 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
   }
 
   public String getOrderBy() {
-    if (orderBy == null) {
-      return super.getOrderBy();
-    } else {
-      return orderBy;
+    String orderBy = this.orderBy == null ? super.getOrderBy() : this.orderBy;
+    if (keysetTieBreaker != null) {
+      orderBy = orderBy + ", " + keysetTieBreaker;
     }
+    return orderBy;
   }
 
   public String getOrderByColumns() {
       return getOrderBy();
   }
 
+  public String getKeysetColumn() {
+    return keysetColumn;
+  }
+
+  public Object getKeysetValue() {
+    return keysetValue;
+  }
+
+  public String getKeysetId() {
+    return keysetId;
+  }
+
+  public String getKeysetOperator() {
+    return keysetDescending ? "<" : ">";
+  }
+
   public String getDatabaseType() {
     return databaseType;
   }
@@ -48,6 +48,7 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
   protected Date duedateLowerThanOrEqual;
   protected boolean withException;
   protected String exceptionMessage;
+  protected String handlerType;
   protected String tenantId;
   protected String tenantIdLike;
   protected boolean withoutTenantId;
@@ -169,6 +170,14 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
     return this;
   }
 
+  public DeadLetterJobQueryImpl handlerType(String handlerType) {
+    if (handlerType == null) {
+      throw new ActivitiIllegalArgumentException("Provided handler type is null");
+    }
+    this.handlerType = handlerType;
+    return this;
+  }
+
   public DeadLetterJobQueryImpl jobTenantId(String tenantId) {
     if (tenantId == null) {
       throw new ActivitiIllegalArgumentException("job is null");
@@ -254,6 +263,10 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
     return exceptionMessage;
   }
 
+  public String getHandlerType() {
+    return handlerType;
+  }
+
   public String getTenantId() {
     return tenantId;
   }
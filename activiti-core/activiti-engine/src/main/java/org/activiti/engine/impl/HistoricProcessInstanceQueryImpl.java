@@ -31,6 +31,7 @@ import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.activiti.engine.query.QueryProperty;
 import org.activiti.engine.repository.ProcessDefinition;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -43,7 +44,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 
  */
-public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricProcessInstanceQuery, HistoricProcessInstance> implements HistoricProcessInstanceQuery {
+public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricProcessInstanceQuery, HistoricProcessInstance> implements HistoricProcessInstanceQuery, KeysetPaginationSupport<HistoricProcessInstance> {
 
   private static final long serialVersionUID = 1L;
   protected String processInstanceId;
@@ -575,6 +576,25 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
   }
 
+  @Override
+  public boolean supportsKeysetOrder(QueryProperty property) {
+    return !includeProcessVariables
+        && (property == null || property == HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_ || property == HistoricProcessInstanceQueryProperty.START_TIME);
+  }
+
+  @Override
+  public Object getKeysetOrderValue(HistoricProcessInstance historicProcessInstance, QueryProperty property) {
+    if (property == HistoricProcessInstanceQueryProperty.START_TIME) {
+      return historicProcessInstance.getStartTime();
+    }
+    return historicProcessInstance.getId();
+  }
+
+  @Override
+  public String getKeysetResultId(HistoricProcessInstance historicProcessInstance) {
+    return historicProcessInstance.getId();
+  }
+
   public String getMssqlOrDB2OrderBy() {
     String specialOrderBy = super.getOrderBy();
     if (specialOrderBy != null && specialOrderBy.length() > 0) {
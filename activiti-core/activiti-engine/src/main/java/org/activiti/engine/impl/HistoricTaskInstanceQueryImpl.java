@@ -34,10 +34,11 @@ import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.activiti.engine.impl.variable.VariableTypes;
+import org.activiti.engine.query.QueryProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricTaskInstanceQuery, HistoricTaskInstance> implements HistoricTaskInstanceQuery {
+public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricTaskInstanceQuery, HistoricTaskInstance> implements HistoricTaskInstanceQuery, KeysetPaginationSupport<HistoricTaskInstance> {
 
   private static final long serialVersionUID = 1L;
 
@@ -1290,6 +1291,28 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     }
   }
 
+  @Override
+  public boolean supportsKeysetOrder(QueryProperty property) {
+    return !includeTaskLocalVariables && !includeProcessVariables
+        && (property == null || property == HistoricTaskInstanceQueryProperty.HISTORIC_TASK_INSTANCE_ID
+            || property == HistoricTaskInstanceQueryProperty.START || property == HistoricTaskInstanceQueryProperty.TASK_PRIORITY);
+  }
+
+  @Override
+  public Object getKeysetOrderValue(HistoricTaskInstance historicTaskInstance, QueryProperty property) {
+    if (property == HistoricTaskInstanceQueryProperty.START) {
+      return historicTaskInstance.getStartTime();
+    } else if (property == HistoricTaskInstanceQueryProperty.TASK_PRIORITY) {
+      return historicTaskInstance.getPriority();
+    }
+    return historicTaskInstance.getId();
+  }
+
+  @Override
+  public String getKeysetResultId(HistoricTaskInstance historicTaskInstance) {
+    return historicTaskInstance.getId();
+  }
+
   public String getMssqlOrDB2OrderBy() {
     String specialOrderBy = super.getOrderBy();
     if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -50,6 +50,7 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
   protected Date duedateLowerThanOrEqual;
   protected boolean withException;
   protected String exceptionMessage;
+  protected String handlerType;
   protected String tenantId;
   protected String tenantIdLike;
   protected boolean withoutTenantId;
@@ -184,6 +185,14 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
     return this;
   }
 
+  public JobQuery handlerType(String handlerType) {
+    if (handlerType == null) {
+      throw new ActivitiIllegalArgumentException("Provided handler type is null");
+    }
+    this.handlerType = handlerType;
+    return this;
+  }
+
   public JobQuery jobTenantId(String tenantId) {
     if (tenantId == null) {
       throw new ActivitiIllegalArgumentException("job is null");
@@ -283,6 +292,10 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
     return exceptionMessage;
   }
 
+  public String getHandlerType() {
+    return handlerType;
+  }
+
   public String getTenantId() {
     return tenantId;
   }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiIllegalArgumentException;
+
+/**
+ * Opaque token pointing after the last result of a page, for keyset pagination: holds the order column and direction
+ * the page was fetched with, the value of that column for the last result and the id of the last result.
+ */
+class KeysetPageToken {
+
+  private static final byte VERSION = 1;
+
+  private static final char TYPE_NONE = 'N';
+  private static final char TYPE_STRING = 'S';
+  private static final char TYPE_INTEGER = 'I';
+  private static final char TYPE_LONG = 'L';
+  private static final char TYPE_DATE = 'D';
+  private static final char TYPE_TIMESTAMP = 'T';
+
+  protected String orderColumn;
+  protected boolean descending;
+  protected Object value;
+  protected String id;
+
+  KeysetPageToken(String orderColumn, boolean descending, Object value, String id) {
+    this.orderColumn = orderColumn;
+    this.descending = descending;
+    this.value = value;
+    this.id = id;
+  }
+
+  boolean matches(String orderColumn, boolean descending) {
+    return this.orderColumn.equals(orderColumn) && this.descending == descending;
+  }
+
+  Object getValue() {
+    return value;
+  }
+
+  String getId() {
+    return id;
+  }
+
+  String encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeUTF(orderColumn);
+      out.writeBoolean(descending);
+      writeValue(out);
+      out.writeUTF(id);
+    } catch (IOException e) {
+      throw new ActivitiException("Could not create page token", e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  protected void writeValue(DataOutputStream out) throws IOException {
+    if (value == null) {
+      out.writeChar(TYPE_NONE);
+    } else if (value instanceof String) {
+      out.writeChar(TYPE_STRING);
+      out.writeUTF((String) value);
+    } else if (value instanceof Integer) {
+      out.writeChar(TYPE_INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeChar(TYPE_LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Timestamp) {
+      out.writeChar(TYPE_TIMESTAMP);
+      out.writeLong(((Timestamp) value).getTime());
+      out.writeInt(((Timestamp) value).getNanos());
+    } else if (value instanceof Date) {
+      out.writeChar(TYPE_DATE);
+      out.writeLong(((Date) value).getTime());
+    } else {
+      throw new ActivitiException("Unsupported value type for a page token: " + value.getClass().getName());
+    }
+  }
+
+  static KeysetPageToken decode(String pageToken) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(pageToken)))) {
+      if (in.readByte() != VERSION) {
+        throw new ActivitiIllegalArgumentException("Unsupported page token: " + pageToken);
+      }
+      String orderColumn = in.readUTF();
+      boolean descending = in.readBoolean();
+      Object value = readValue(in);
+      String id = in.readUTF();
+      return new KeysetPageToken(orderColumn, descending, value, id);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new ActivitiIllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+
+  protected static Object readValue(DataInputStream in) throws IOException {
+    char type = in.readChar();
+    switch (type) {
+      case TYPE_NONE:
+        return null;
+      case TYPE_STRING:
+        return in.readUTF();
+      case TYPE_INTEGER:
+        return in.readInt();
+      case TYPE_LONG:
+        return in.readLong();
+      case TYPE_DATE:
+        return new Date(in.readLong());
+      case TYPE_TIMESTAMP:
+        Timestamp timestamp = new Timestamp(in.readLong());
+        timestamp.setNanos(in.readInt());
+        return timestamp;
+      default:
+        throw new IOException("Unknown value type " + type);
+    }
+  }
+
+}
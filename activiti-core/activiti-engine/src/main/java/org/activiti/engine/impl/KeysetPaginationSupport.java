@@ -0,0 +1,39 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl;
+
+import org.activiti.engine.query.QueryProperty;
+
+/**
+ * Implemented by the queries that support keyset pagination, see {@link AbstractQuery#listPageAfter(String, int)}:
+ * tells which order properties can be paged by, and reads the order value and id of the last result of a page.
+ */
+public interface KeysetPaginationSupport<U> {
+
+  /**
+   * Whether keyset pagination is supported when ordering by the given property, or by id when the property is null.
+   */
+  boolean supportsKeysetOrder(QueryProperty property);
+
+  /**
+   * Returns the value of a supported order property for the given result.
+   */
+  Object getKeysetOrderValue(U result, QueryProperty property);
+
+  String getKeysetResultId(U result);
+
+}
@@ -31,6 +31,7 @@ import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
 import org.activiti.engine.impl.asyncexecutor.AsyncExecutor;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.cfg.TransactionContextFactory;
+import org.activiti.engine.impl.db.StripedDbIdGenerator;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.impl.interceptor.SessionFactory;
 import org.slf4j.Logger;
@@ -80,6 +81,14 @@ public class ProcessEngineImpl implements ProcessEngine {
 
     ProcessEngines.registerProcessEngine(this);
 
+    if (processEngineConfiguration.getJobNotificationChannel() != null) {
+      processEngineConfiguration.getJobNotificationChannel().start();
+    }
+
+    if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+      processEngineConfiguration.getAsyncEventLogWriter().start(commandExecutor);
+    }
+
     if (asyncExecutor != null && asyncExecutor.isAutoActivate()) {
       asyncExecutor.start();
     }
@@ -97,6 +106,18 @@ public class ProcessEngineImpl implements ProcessEngine {
       asyncExecutor.shutdown();
     }
 
+    if (processEngineConfiguration.getJobNotificationChannel() != null) {
+      processEngineConfiguration.getJobNotificationChannel().close();
+    }
+
+    if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+      processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+    }
+
+    if (processEngineConfiguration.getIdGenerator() instanceof StripedDbIdGenerator) {
+      ((StripedDbIdGenerator) processEngineConfiguration.getIdGenerator()).shutdown();
+    }
+
     commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationProcessEngineClose());
 
     if (processEngineConfiguration.getProcessEngineLifecycleListener() != null) {
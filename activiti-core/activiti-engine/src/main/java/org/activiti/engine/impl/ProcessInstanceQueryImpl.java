@@ -31,6 +31,7 @@ import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.SuspensionState;
+import org.activiti.engine.query.QueryProperty;
 import org.activiti.engine.runtime.ProcessInstance;
 import org.activiti.engine.runtime.ProcessInstanceQuery;
 
@@ -46,7 +47,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 
  */
-public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessInstanceQuery, ProcessInstance> implements ProcessInstanceQuery, Serializable {
+public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessInstanceQuery, ProcessInstance> implements ProcessInstanceQuery, Serializable, KeysetPaginationSupport<ProcessInstance> {
 
   private static final long serialVersionUID = 1L;
   protected String executionId;
@@ -608,6 +609,21 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     return this;
   }
 
+  @Override
+  public boolean supportsKeysetOrder(QueryProperty property) {
+    return !includeProcessVariables && (property == null || property == ProcessInstanceQueryProperty.PROCESS_INSTANCE_ID);
+  }
+
+  @Override
+  public Object getKeysetOrderValue(ProcessInstance processInstance, QueryProperty property) {
+    return processInstance.getId();
+  }
+
+  @Override
+  public String getKeysetResultId(ProcessInstance processInstance) {
+    return processInstance.getId();
+  }
+
   public String getMssqlOrDB2OrderBy() {
     String specialOrderBy = super.getOrderBy();
     if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -49,6 +49,7 @@ public class SuspendedJobQueryImpl extends AbstractQuery<SuspendedJobQuery, Job>
   protected Date duedateLowerThanOrEqual;
   protected boolean withException;
   protected String exceptionMessage;
+  protected String handlerType;
   protected String tenantId;
   protected String tenantIdLike;
   protected boolean withoutTenantId;
@@ -181,6 +182,14 @@ public class SuspendedJobQueryImpl extends AbstractQuery<SuspendedJobQuery, Job>
     return this;
   }
 
+  public SuspendedJobQueryImpl handlerType(String handlerType) {
+    if (handlerType == null) {
+      throw new ActivitiIllegalArgumentException("Provided handler type is null");
+    }
+    this.handlerType = handlerType;
+    return this;
+  }
+
   public SuspendedJobQueryImpl jobTenantId(String tenantId) {
     if (tenantId == null) {
       throw new ActivitiIllegalArgumentException("job is null");
@@ -270,6 +279,10 @@ public class SuspendedJobQueryImpl extends AbstractQuery<SuspendedJobQuery, Job>
     return exceptionMessage;
   }
 
+  public String getHandlerType() {
+    return handlerType;
+  }
+
   public String getTenantId() {
     return tenantId;
   }
@@ -26,11 +26,14 @@ import org.activiti.api.runtime.shared.identity.UserGroupManager;
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.DynamicBpmnConstants;
+import org.activiti.engine.impl.cfg.PerformanceSettings;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
 import org.activiti.engine.impl.persistence.entity.SuspensionState;
 import org.activiti.engine.impl.variable.VariableTypes;
+import org.activiti.engine.query.QueryProperty;
 import org.activiti.engine.task.DelegationState;
 import org.activiti.engine.task.Task;
 import org.activiti.engine.task.TaskQuery;
@@ -43,7 +46,7 @@ import org.slf4j.LoggerFactory;
 
 
  */
-public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> implements TaskQuery {
+public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> implements TaskQuery, KeysetPaginationSupport<Task> {
 
   private static final long serialVersionUID = 1L;
 
@@ -1341,6 +1344,27 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     return orderBy(TaskQueryProperty.TENANT_ID);
   }
 
+  @Override
+  public boolean supportsKeysetOrder(QueryProperty property) {
+    return !includeTaskLocalVariables && !includeProcessVariables
+        && (property == null || property == TaskQueryProperty.TASK_ID || property == TaskQueryProperty.CREATE_TIME || property == TaskQueryProperty.PRIORITY);
+  }
+
+  @Override
+  public Object getKeysetOrderValue(Task task, QueryProperty property) {
+    if (property == TaskQueryProperty.CREATE_TIME) {
+      return task.getCreateTime();
+    } else if (property == TaskQueryProperty.PRIORITY) {
+      return task.getPriority();
+    }
+    return task.getId();
+  }
+
+  @Override
+  public String getKeysetResultId(Task task) {
+    return task.getId();
+  }
+
   public String getMssqlOrDB2OrderBy() {
     String specialOrderBy = super.getOrderBy();
     if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -1641,6 +1665,14 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     return bothCandidateAndAssigned;
   }
 
+  /**
+   * Whether assigned and candidate tasks are selected in separate subqueries, see {@link PerformanceSettings#isEnableSplitCandidateOrAssignedQuery()}.
+   */
+  public boolean isSplitCandidateOrAssignedQuery() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    return processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableSplitCandidateOrAssignedQuery();
+  }
+
   public String getNameLikeIgnoreCase() {
     return nameLikeIgnoreCase;
   }
@@ -41,6 +41,9 @@ public abstract class AbstractOperation implements Runnable {
   protected Agenda agenda;
   protected ExecutionEntity execution;
 
+  /** True if the operation was created by a {@link PooledActivitiEngineAgenda}, which reuses it once executed */
+  protected boolean pooled;
+
   public AbstractOperation() {
 
   }
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.agenda;
+
+import java.util.ArrayDeque;
+
+import org.activiti.engine.ActivitiEngineAgenda;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Alternative to the {@link DefaultActivitiEngineAgenda} that allocates less for processes executing many steps
+ * in one command:
+ *
+ * <ul>
+ * <li>the operations are kept in an {@link ArrayDeque} instead of a linked list;</li>
+ * <li>the operations planned through the <code>plan...Operation</code> methods are reused once executed
+ * (see {@link #operationExecuted(Runnable)}), a few instances per type;</li>
+ * <li>an execution is only added to the involved executions of the command context when it differs from the one of
+ * the previous operation, which is the common case of an execution going from one flow node to the next.</li>
+ * </ul>
+ *
+ * An agenda wrapping this one must delegate {@link #operationExecuted(Runnable)}, otherwise no operation is reused.
+ */
+public class PooledActivitiEngineAgenda implements ActivitiEngineAgenda {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledActivitiEngineAgenda.class);
+
+    /** Maximal number of executed operations kept for reuse, per type of operation */
+    protected static final int MAX_POOLED_OPERATIONS = 8;
+
+    protected ArrayDeque<Runnable> operations = new ArrayDeque<Runnable>();
+    protected CommandContext commandContext;
+
+    protected ExecutionEntity lastInvolvedExecution;
+
+    protected ArrayDeque<ContinueProcessOperation> continueProcessOperations = new ArrayDeque<ContinueProcessOperation>();
+    protected ArrayDeque<ContinueMultiInstanceOperation> continueMultiInstanceOperations = new ArrayDeque<ContinueMultiInstanceOperation>();
+    protected ArrayDeque<TakeOutgoingSequenceFlowsOperation> takeOutgoingSequenceFlowsOperations = new ArrayDeque<TakeOutgoingSequenceFlowsOperation>();
+    protected ArrayDeque<EndExecutionOperation> endExecutionOperations = new ArrayDeque<EndExecutionOperation>();
+    protected ArrayDeque<TriggerExecutionOperation> triggerExecutionOperations = new ArrayDeque<TriggerExecutionOperation>();
+    protected ArrayDeque<DestroyScopeOperation> destroyScopeOperations = new ArrayDeque<DestroyScopeOperation>();
+
+    public PooledActivitiEngineAgenda(CommandContext commandContext) {
+        this.commandContext = commandContext;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    @Override
+    public Runnable getNextOperation() {
+        return operations.poll();
+    }
+
+    /**
+     * Generic method to plan a {@link Runnable}.
+     */
+    @Override
+    public void planOperation(Runnable operation) {
+        operations.add(operation);
+
+        if (operation instanceof AbstractOperation) {
+            ExecutionEntity execution = ((AbstractOperation) operation).getExecution();
+            if (execution != null && execution != lastInvolvedExecution) {
+                commandContext.addInvolvedExecution(execution);
+
+                // Executions without id are not added, so they are checked again next time
+                if (execution.getId() != null) {
+                    lastInvolvedExecution = execution;
+                }
+            }
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Operation {} added to agenda", operation.getClass());
+        }
+    }
+
+    @Override
+    public void operationExecuted(Runnable operation) {
+        if (!(operation instanceof AbstractOperation) || !((AbstractOperation) operation).pooled) {
+            return;
+        }
+
+        AbstractOperation abstractOperation = (AbstractOperation) operation;
+        abstractOperation.execution = null;
+
+        if (operation instanceof ContinueProcessOperation) {
+            release(continueProcessOperations, (ContinueProcessOperation) operation);
+        } else if (operation instanceof TakeOutgoingSequenceFlowsOperation) {
+            release(takeOutgoingSequenceFlowsOperations, (TakeOutgoingSequenceFlowsOperation) operation);
+        } else if (operation instanceof EndExecutionOperation) {
+            release(endExecutionOperations, (EndExecutionOperation) operation);
+        } else if (operation instanceof TriggerExecutionOperation) {
+            release(triggerExecutionOperations, (TriggerExecutionOperation) operation);
+        } else if (operation instanceof DestroyScopeOperation) {
+            release(destroyScopeOperations, (DestroyScopeOperation) operation);
+        } else if (operation instanceof ContinueMultiInstanceOperation) {
+            release(continueMultiInstanceOperations, (ContinueMultiInstanceOperation) operation);
+        }
+    }
+
+    protected <T extends AbstractOperation> void release(ArrayDeque<T> pool, T operation) {
+        if (pool.size() < MAX_POOLED_OPERATIONS) {
+            pool.push(operation);
+        }
+    }
+
+    @Override
+    public void planContinueProcessOperation(ExecutionEntity execution) {
+        planContinueProcessOperation(execution, false, false);
+    }
+
+    @Override
+    public void planContinueProcessSynchronousOperation(ExecutionEntity execution) {
+        planContinueProcessOperation(execution, true, false);
+    }
+
+    @Override
+    public void planContinueProcessInCompensation(ExecutionEntity execution) {
+        planContinueProcessOperation(execution, false, true);
+    }
+
+    protected void planContinueProcessOperation(ExecutionEntity execution, boolean forceSynchronousOperation, boolean inCompensation) {
+        ContinueProcessOperation operation = continueProcessOperations.poll();
+        if (operation == null) {
+            operation = new ContinueProcessOperation(commandContext, execution, forceSynchronousOperation, inCompensation);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+            operation.forceSynchronousOperation = forceSynchronousOperation;
+            operation.inCompensation = inCompensation;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planContinueMultiInstanceOperation(ExecutionEntity execution) {
+        ContinueMultiInstanceOperation operation = continueMultiInstanceOperations.poll();
+        if (operation == null) {
+            operation = new ContinueMultiInstanceOperation(commandContext, execution);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planTakeOutgoingSequenceFlowsOperation(ExecutionEntity execution, boolean evaluateConditions) {
+        TakeOutgoingSequenceFlowsOperation operation = takeOutgoingSequenceFlowsOperations.poll();
+        if (operation == null) {
+            operation = new TakeOutgoingSequenceFlowsOperation(commandContext, execution, evaluateConditions);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+            operation.evaluateConditions = evaluateConditions;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planEndExecutionOperation(ExecutionEntity execution) {
+        EndExecutionOperation operation = endExecutionOperations.poll();
+        if (operation == null) {
+            operation = new EndExecutionOperation(commandContext, execution);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planTriggerExecutionOperation(ExecutionEntity execution) {
+        TriggerExecutionOperation operation = triggerExecutionOperations.poll();
+        if (operation == null) {
+            operation = new TriggerExecutionOperation(commandContext, execution);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planDestroyScopeOperation(ExecutionEntity execution) {
+        DestroyScopeOperation operation = destroyScopeOperations.poll();
+        if (operation == null) {
+            operation = new DestroyScopeOperation(commandContext, execution);
+            operation.pooled = true;
+        } else {
+            operation.execution = execution;
+        }
+        planOperation(operation);
+    }
+
+    @Override
+    public void planExecuteInactiveBehaviorsOperation() {
+        planOperation(new ExecuteInactiveBehaviorsOperation(commandContext));
+    }
+}
@@ -128,6 +128,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
   }
 
+  /**
+   * Ends the current wait, if any, so new jobs are acquired right away.
+   */
+  public void wakeUp() {
+    synchronized (MONITOR) {
+      if (isWaiting.compareAndSet(true, false)) {
+        MONITOR.notifyAll();
+      }
+    }
+  }
+
   public long getMillisToWait() {
     return millisToWait;
   }
@@ -25,6 +25,8 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationChannel;
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationListener;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
@@ -82,10 +84,24 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
 
   protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
 
+  /** Wakes up the async job acquisition when other nodes notify new jobs, see {@link JobNotificationChannel} */
+  protected JobNotificationListener jobNotificationListener;
+
   protected boolean isAutoActivate;
   protected boolean isActive;
   protected boolean isMessageQueueMode;
 
+  /** If true, async jobs are acquired by a {@link PipelinedAcquireAsyncJobsDueRunnable} */
+  protected boolean isPipelinedAcquisition;
+
+  /** If positive, timer jobs due within this time are acquired ahead and fired by a {@link TimerWheelAcquireTimerJobsRunnable} */
+  protected int timerJobLookaheadInMillis;
+  protected int timerWheelTickInMillis = 100;
+
+  /** If positive, exclusive jobs are executed in this number of {@link ExclusiveJobLanes}, serialized per process instance */
+  protected int exclusiveJobLaneCount;
+  protected ExclusiveJobLanes exclusiveJobLanes;
+
   protected int maxTimerJobsPerAcquisition = 1;
   protected int maxAsyncJobsDuePerAcquisition = 1;
   protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
@@ -117,6 +133,18 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     Runnable runnable = null;
     if (isActive) {
       runnable = createRunnableForJob(job);
+      if (exclusiveJobLanes != null && exclusiveJobLanes.isLaneJob(job)) {
+        if (!exclusiveJobLanes.execute(job, runnable)) {
+          // The lane of the process instance is full: the job is unlocked like a rejected one
+          unacquireJob(job);
+          return false;
+        }
+        return true;
+      }
+
+      if (asyncJobsDueRunnable instanceof PipelinedAcquireAsyncJobsDueRunnable) {
+        runnable = ((PipelinedAcquireAsyncJobsDueRunnable) asyncJobsDueRunnable).wrap(runnable);
+      }
 
       try {
         executorService.execute(runnable);
@@ -128,22 +156,7 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
         // so other executors can pick the job up (or this async executor, the next time the
         // acquire query is executed.
 
-        // This can happen while already in a command context (for example in a transaction listener
-        // after the async executor has been hinted that a new async job is created)
-        // or not (when executed in the acquire thread runnable)
-
-        CommandContext commandContext = Context.getCommandContext();
-        if (commandContext != null) {
-          commandContext.getJobManager().unacquire(job);
-
-        } else {
-          processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
-            public Void execute(CommandContext commandContext) {
-              commandContext.getJobManager().unacquire(job);
-              return null;
-            }
-          });
-        }
+        unacquireJob(job);
 
         // Job queue full, returning true so (if wanted) the acquiring can be throttled
         return false;
@@ -156,6 +169,28 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     return true;
   }
 
+  /**
+   * Unlocks a job that could not be handed over for execution, so it can be acquired again.
+   */
+  protected void unacquireJob(final Job job) {
+    // This can happen while already in a command context (for example in a transaction listener
+    // after the async executor has been hinted that a new async job is created)
+    // or not (when executed in the acquire thread runnable)
+
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      commandContext.getJobManager().unacquire(job);
+
+    } else {
+      processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          commandContext.getJobManager().unacquire(job);
+          return null;
+        }
+      });
+    }
+  }
+
   protected Runnable createRunnableForJob(final Job job) {
     if (executeAsyncRunnableFactory == null) {
       return new ExecuteAsyncRunnable(job, processEngineConfiguration);
@@ -173,7 +208,12 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     log.info("Starting up the default async job executor [{}].", getClass().getName());
 
     if (timerJobRunnable == null) {
-      timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+      if (timerJobLookaheadInMillis > 0) {
+        timerJobRunnable = new TimerWheelAcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager(),
+            timerJobLookaheadInMillis, timerWheelTickInMillis);
+      } else {
+        timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+      }
     }
 
     if (resetExpiredJobsRunnable == null) {
@@ -181,12 +221,17 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     }
 
     if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
-      asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(this);
+      if (isPipelinedAcquisition) {
+        asyncJobsDueRunnable = new PipelinedAcquireAsyncJobsDueRunnable(this);
+      } else {
+        asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(this);
+      }
     }
 
     if (!isMessageQueueMode) {
       initAsyncJobExecutionThreadPool();
       startJobAcquisitionThread();
+      addJobNotificationListener();
     }
 
     startTimerAcquisitionThread();
@@ -197,6 +242,26 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     executeTemporaryJobs();
   }
 
+  protected void addJobNotificationListener() {
+    JobNotificationChannel jobNotificationChannel = processEngineConfiguration.getJobNotificationChannel();
+    if (jobNotificationChannel != null && jobNotificationListener == null) {
+      final AcquireAsyncJobsDueRunnable acquireAsyncJobsDueRunnable = asyncJobsDueRunnable;
+      jobNotificationListener = new JobNotificationListener() {
+        public void jobsAvailable() {
+          acquireAsyncJobsDueRunnable.wakeUp();
+        }
+      };
+      jobNotificationChannel.addListener(jobNotificationListener);
+    }
+  }
+
+  protected void removeJobNotificationListener() {
+    if (jobNotificationListener != null) {
+      processEngineConfiguration.getJobNotificationChannel().removeListener(jobNotificationListener);
+      jobNotificationListener = null;
+    }
+  }
+
   protected void executeTemporaryJobs() {
     while (!temporaryJobQueue.isEmpty()) {
       Job job = temporaryJobQueue.pop();
@@ -211,6 +276,8 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     }
     log.info("Shutting down the default async job executor [{}].", getClass().getName());
 
+    removeJobNotificationListener();
+
     if (timerJobRunnable != null) {
       timerJobRunnable.stop();
     }
@@ -245,6 +312,11 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
       BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("activiti-async-job-executor-thread-%d").build();
       executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
     }
+
+    if (exclusiveJobLaneCount > 0 && exclusiveJobLanes == null) {
+      log.info("Creating {} exclusive job lanes", exclusiveJobLaneCount);
+      exclusiveJobLanes = new ExclusiveJobLanes(exclusiveJobLaneCount, queueSize, executorService, processEngineConfiguration);
+    }
   }
 
   protected void stopExecutingAsyncJobs() {
@@ -264,6 +336,7 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
 
       executorService = null;
     }
+    exclusiveJobLanes = null;
   }
 
   /** Starts the acquisition thread */
@@ -327,6 +400,10 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
 
   public void applyConfig(ProcessEngineConfigurationImpl processEngineConfiguration){
     isMessageQueueMode = processEngineConfiguration.isAsyncExecutorIsMessageQueueMode();
+    isPipelinedAcquisition = processEngineConfiguration.isAsyncExecutorPipelinedAcquisition();
+    timerJobLookaheadInMillis = processEngineConfiguration.getAsyncExecutorTimerJobLookaheadInMillis();
+    timerWheelTickInMillis = processEngineConfiguration.getAsyncExecutorTimerWheelTickInMillis();
+    exclusiveJobLaneCount = processEngineConfiguration.getAsyncExecutorExclusiveJobLaneCount();
     applyThreadPoolConfig(processEngineConfiguration);
     applyQueueConfig(processEngineConfiguration);
 
@@ -423,6 +500,38 @@ public class DefaultAsyncJobExecutor implements AsyncExecutor {
     this.isMessageQueueMode = isMessageQueueMode;
   }
 
+  public boolean isPipelinedAcquisition() {
+    return isPipelinedAcquisition;
+  }
+
+  public void setPipelinedAcquisition(boolean isPipelinedAcquisition) {
+    this.isPipelinedAcquisition = isPipelinedAcquisition;
+  }
+
+  public int getTimerJobLookaheadInMillis() {
+    return timerJobLookaheadInMillis;
+  }
+
+  public void setTimerJobLookaheadInMillis(int timerJobLookaheadInMillis) {
+    this.timerJobLookaheadInMillis = timerJobLookaheadInMillis;
+  }
+
+  public int getTimerWheelTickInMillis() {
+    return timerWheelTickInMillis;
+  }
+
+  public void setTimerWheelTickInMillis(int timerWheelTickInMillis) {
+    this.timerWheelTickInMillis = timerWheelTickInMillis;
+  }
+
+  public int getExclusiveJobLaneCount() {
+    return exclusiveJobLaneCount;
+  }
+
+  public void setExclusiveJobLaneCount(int exclusiveJobLaneCount) {
+    this.exclusiveJobLaneCount = exclusiveJobLaneCount;
+  }
+
   public int getQueueSize() {
     return queueSize;
   }
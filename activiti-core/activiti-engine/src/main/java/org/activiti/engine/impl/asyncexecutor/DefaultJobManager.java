@@ -34,6 +34,7 @@ import org.activiti.engine.delegate.VariableScope;
 import org.activiti.engine.delegate.event.ActivitiEventDispatcher;
 import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.activiti.engine.impl.calendar.BusinessCalendar;
 import org.activiti.engine.impl.calendar.CycleBusinessCalendar;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -46,6 +47,7 @@ import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.activiti.engine.impl.jobexecutor.AsyncJobAddedNotification;
 import org.activiti.engine.impl.jobexecutor.JobHandler;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerEventHandler;
 import org.activiti.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.activiti.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
@@ -68,6 +70,8 @@ public class DefaultJobManager implements JobManager {
 
   private static Logger logger = LoggerFactory.getLogger(DefaultJobManager.class);
 
+  protected static final String JOB_NOTIFICATION_ATTRIBUTE = "jobNotification";
+
   protected ProcessEngineConfigurationImpl processEngineConfiguration;
 
   public DefaultJobManager() {
@@ -101,7 +105,30 @@ public class DefaultJobManager implements JobManager {
     // When the async executor is activated, the job is directly passed on to the async executor thread
     if (isAsyncExecutorActive()) {
       hintAsyncExecutor(jobEntity);
+
+    } else if (processEngineConfiguration.getJobNotificationChannel() != null) {
+      // The job waits to be acquired by the async executor of another node
+      notifyJobsAvailable();
+    }
+  }
+
+  /**
+   * Notifies the other nodes of the new jobs once the transaction is committed, only once per transaction.
+   */
+  protected void notifyJobsAvailable() {
+    CommandContext commandContext = getCommandContext();
+    if (commandContext.getAttribute(JOB_NOTIFICATION_ATTRIBUTE) != null) {
+      return;
     }
+    commandContext.addAttribute(JOB_NOTIFICATION_ATTRIBUTE, Boolean.TRUE);
+
+    final JobNotificationChannel jobNotificationChannel = processEngineConfiguration.getJobNotificationChannel();
+    Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+      @Override
+      public void execute(CommandContext commandContext) {
+        jobNotificationChannel.notifyJobsAvailable();
+      }
+    });
   }
 
   @Override
@@ -196,6 +223,9 @@ public class DefaultJobManager implements JobManager {
   @Override
   public DeadLetterJobEntity moveJobToDeadLetterJob(AbstractJobEntity job) {
     DeadLetterJobEntity deadLetterJob = createDeadLetterJobFromOtherJob(job);
+    if (SignalBroadcastJobHandler.TYPE.equals(job.getJobHandlerType())) {
+      SignalBroadcastJobHandler.detachDeadLetterChunk(deadLetterJob, getCommandContext());
+    }
     processEngineConfiguration.getDeadLetterJobEntityManager().insert(deadLetterJob);
     if (job instanceof TimerJobEntity) {
       processEngineConfiguration.getTimerJobEntityManager().delete((TimerJobEntity) job);
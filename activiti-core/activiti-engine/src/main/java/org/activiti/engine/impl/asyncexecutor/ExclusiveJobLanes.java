@@ -0,0 +1,288 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cmd.LockExclusiveJobCmd;
+import org.activiti.engine.impl.cmd.UnlockExclusiveJobCmd;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serial lanes for the exclusive jobs of the {@link DefaultAsyncJobExecutor}: the exclusive jobs of a process instance
+ * always go to the same lane (by hash of the process instance id), and the jobs of a lane execute one after the other
+ * on the threads of the executor. Exclusive jobs of the same process instance therefore never run concurrently
+ * within this executor, and don't fail on the lock of their process instance.
+ *
+ * The lock of the process instance remains as a fence against the other nodes: it's taken before the first job of a
+ * process instance and released when the lane has no next job of the same process instance, instead of once per job.
+ * Before each following job of the same process instance it's renewed, as is the lock of every job, but only once less
+ * than half of the lock time is left: the expiration times are tracked here, so most jobs don't need extra transactions.
+ * This only applies to {@link ExecuteAsyncRunnable}s: other runnables lock and unlock the process instance themselves.
+ */
+public class ExclusiveJobLanes {
+
+  private static Logger log = LoggerFactory.getLogger(ExclusiveJobLanes.class);
+
+  protected final Lane[] lanes;
+  protected final ExecutorService executorService;
+  protected final int maxJobsPerLane;
+  protected final ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  public ExclusiveJobLanes(int laneCount, int maxJobsPerLane, ExecutorService executorService,
+      ProcessEngineConfigurationImpl processEngineConfiguration) {
+    this.lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane();
+    }
+    this.maxJobsPerLane = maxJobsPerLane;
+    this.executorService = executorService;
+    this.processEngineConfiguration = processEngineConfiguration;
+  }
+
+  public boolean isLaneJob(Job job) {
+    return job.isExclusive() && job.getProcessInstanceId() != null;
+  }
+
+  /**
+   * Queues the job in its lane. Returns false if the lane is full or the executor rejects it: the job then needs to be unacquired.
+   */
+  public boolean execute(Job job, Runnable runnable) {
+    boolean lockedByLane = runnable instanceof ExecuteAsyncRunnable;
+    if (lockedByLane) {
+      ((ExecuteAsyncRunnable) runnable).setExclusiveLockHandled(true);
+    }
+
+    final Lane lane = lanes[Math.floorMod(job.getProcessInstanceId().hashCode(), lanes.length)];
+    synchronized (lane) {
+      if (lane.jobs.size() >= maxJobsPerLane) {
+        return false;
+      }
+      lane.jobs.add(new LaneJob(job, runnable, lockedByLane));
+      if (lane.isScheduled) {
+        return true;
+      }
+
+      try {
+        executorService.execute(new Runnable() {
+          public void run() {
+            executeLaneJobs(lane);
+          }
+        });
+        lane.isScheduled = true;
+      } catch (RejectedExecutionException e) {
+        lane.jobs.removeLast();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Executes the jobs of the lane until it's empty. Queued jobs may wait longer than their lock time: the lock of each
+   * job, and the lock of its process instance when it's kept from the previous job, are renewed right before it runs
+   * when they are about to expire.
+   */
+  protected void executeLaneJobs(Lane lane) {
+    Job lockedJob = null;
+    long processInstanceLockExpirationTime = 0L;
+    while (true) {
+      LaneJob laneJob;
+      synchronized (lane) {
+        laneJob = lane.jobs.poll();
+        if (laneJob == null) {
+          lane.isScheduled = false;
+          return;
+        }
+      }
+
+      if (laneJob.isLockedByLane) {
+        if (lockedJob != null && isLockExpiring(processInstanceLockExpirationTime)) {
+          long lockExpirationTime = getNewLockExpirationTime();
+          if (renewProcessInstanceLock(lockedJob)) {
+            processInstanceLockExpirationTime = lockExpirationTime;
+          } else {
+            lockedJob = null;
+          }
+        }
+        if (lockedJob == null) {
+          long lockExpirationTime = getNewLockExpirationTime();
+          if (!lockProcessInstance(laneJob.job)) {
+            continue;
+          }
+          lockedJob = laneJob.job;
+          processInstanceLockExpirationTime = lockExpirationTime;
+        }
+      }
+
+      if (renewJobLock(laneJob.job)) {
+        try {
+          laneJob.runnable.run();
+        } catch (Throwable t) {
+          log.error("Error while executing exclusive job {}", laneJob.job.getId(), t);
+        }
+      }
+
+      if (lockedJob != null) {
+        LaneJob nextLaneJob;
+        synchronized (lane) {
+          nextLaneJob = lane.jobs.peek();
+        }
+        if (nextLaneJob == null || !nextLaneJob.isLockedByLane
+            || !lockedJob.getProcessInstanceId().equals(nextLaneJob.job.getProcessInstanceId())) {
+          unlockProcessInstance(lockedJob);
+          lockedJob = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * Extends the lock of the process instance kept from the previous job. Returns false if it expired in the meantime:
+   * the process instance then needs to be locked again, as another node may have locked it.
+   */
+  protected boolean renewProcessInstanceLock(final Job job) {
+    try {
+      processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          commandContext.getExecutionEntityManager().renewProcessInstanceLockTime(job.getProcessInstanceId());
+          return null;
+        }
+      });
+      return true;
+
+    } catch (Throwable t) {
+      if (log.isDebugEnabled()) {
+        log.debug("Could not renew the lock of process instance {}, locking it again: {}", job.getProcessInstanceId(), t.getMessage());
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Extends the lock of a job that waited in its lane, if it's about to expire. Returns false if the job isn't locked
+   * by this executor anymore: its lock expired and it was reset, so it's not executed here.
+   */
+  protected boolean renewJobLock(final Job job) {
+    if (!(job instanceof JobEntity) || ((JobEntity) job).getLockOwner() == null) {
+      return true;
+    }
+    final JobEntity jobEntity = (JobEntity) job;
+    if (jobEntity.getLockExpirationTime() != null && !isLockExpiring(jobEntity.getLockExpirationTime().getTime())) {
+      return true;
+    }
+
+    final String lockOwner = jobEntity.getLockOwner();
+    final Date lockExpirationTime = new Date(getNewLockExpirationTime());
+    try {
+      boolean renewed = processEngineConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
+        public Boolean execute(CommandContext commandContext) {
+          return commandContext.getJobEntityManager().renewJobLock(job.getId(), lockOwner, lockExpirationTime);
+        }
+      });
+      if (renewed) {
+        // The renewal increments the revision of the job, the entity keeps up with it
+        jobEntity.setLockExpirationTime(lockExpirationTime);
+        jobEntity.setRevision(jobEntity.getRevision() + 1);
+      } else if (log.isDebugEnabled()) {
+        log.debug("Exclusive job {} is not locked by {} anymore and is not executed", job.getId(), lockOwner);
+      }
+      return renewed;
+
+    } catch (Throwable t) {
+      log.error("Error while renewing the lock of exclusive job " + job.getId(), t);
+      return false;
+    }
+  }
+
+  /**
+   * A lock is renewed once less than half of the lock time is left.
+   */
+  protected boolean isLockExpiring(long lockExpirationTime) {
+    long lockTimeInMillis = processEngineConfiguration.getAsyncExecutor().getAsyncJobLockTimeInMillis();
+    return lockExpirationTime - processEngineConfiguration.getClock().getCurrentTime().getTime() < lockTimeInMillis / 2;
+  }
+
+  /**
+   * The expiration time of a lock taken now. Taken before the lock itself, so it's never later than the one stored.
+   */
+  protected long getNewLockExpirationTime() {
+    return processEngineConfiguration.getClock().getCurrentTime().getTime()
+        + processEngineConfiguration.getAsyncExecutor().getAsyncJobLockTimeInMillis();
+  }
+
+  protected boolean lockProcessInstance(final Job job) {
+    try {
+      processEngineConfiguration.getCommandExecutor().execute(new LockExclusiveJobCmd(job));
+      return true;
+
+    } catch (Throwable lockException) {
+      if (log.isDebugEnabled()) {
+        log.debug("Could not lock exclusive job. Unlocking job so it can be acquired again. Catched exception: " + lockException.getMessage());
+      }
+
+      // Locked by another node: the job is released so it can be acquired again
+      try {
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+          public Void execute(CommandContext commandContext) {
+            commandContext.getJobManager().unacquire(job);
+            return null;
+          }
+        });
+      } catch (Throwable t) {
+        log.error("Error while unacquiring exclusive job " + job.getId(), t);
+      }
+      return false;
+    }
+  }
+
+  protected void unlockProcessInstance(Job job) {
+    try {
+      processEngineConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd(job));
+    } catch (Throwable t) {
+      log.error("Error while unlocking exclusive job " + job.getId(), t);
+    }
+  }
+
+  protected static class Lane {
+
+    protected final ArrayDeque<LaneJob> jobs = new ArrayDeque<LaneJob>();
+    protected boolean isScheduled;
+  }
+
+  protected static class LaneJob {
+
+    protected final Job job;
+    protected final Runnable runnable;
+    protected final boolean isLockedByLane;
+
+    public LaneJob(Job job, Runnable runnable, boolean isLockedByLane) {
+      this.job = job;
+      this.runnable = runnable;
+      this.isLockedByLane = isLockedByLane;
+    }
+  }
+}
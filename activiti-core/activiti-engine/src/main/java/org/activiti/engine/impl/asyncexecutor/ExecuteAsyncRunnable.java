@@ -42,6 +42,9 @@ public class ExecuteAsyncRunnable implements Runnable {
   protected Job job;
   protected ProcessEngineConfigurationImpl processEngineConfiguration;
 
+  /** If true, the process instance of an exclusive job is locked and unlocked by the caller, see {@link ExclusiveJobLanes} */
+  protected boolean exclusiveLockHandled;
+
   public ExecuteAsyncRunnable(String jobId, ProcessEngineConfigurationImpl processEngineConfiguration) {
     this.jobId = jobId;
     this.processEngineConfiguration = processEngineConfiguration;
@@ -101,7 +104,7 @@ public class ExecuteAsyncRunnable implements Runnable {
 
   protected void unlockJobIfNeeded() {
     try {
-      if (job.isExclusive()) {
+      if (job.isExclusive() && !exclusiveLockHandled) {
         processEngineConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd(job));
       }
 
@@ -124,7 +127,7 @@ public class ExecuteAsyncRunnable implements Runnable {
    */
   protected boolean lockJobIfNeeded() {
     try {
-      if (job.isExclusive()) {
+      if (job.isExclusive() && !exclusiveLockHandled) {
         processEngineConfiguration.getCommandExecutor().execute(new LockExclusiveJobCmd(job));
       }
 
@@ -162,4 +165,12 @@ public class ExecuteAsyncRunnable implements Runnable {
     );
   }
 
+  public boolean isExclusiveLockHandled() {
+    return exclusiveLockHandled;
+  }
+
+  public void setExclusiveLockHandled(boolean exclusiveLockHandled) {
+    this.exclusiveLockHandled = exclusiveLockHandled;
+  }
+
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.concurrent.BlockingQueue;
+
+import org.activiti.engine.impl.cmd.BulkAcquireJobsCmd;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pipelined alternative to the {@link AcquireAsyncJobsDueRunnable}:
+ *
+ * <ul>
+ * <li>a page of jobs is locked with one bulk update ({@link BulkAcquireJobsCmd});</li>
+ * <li>the size of a page is the room left in the queue of the executor, so the acquired jobs don't get rejected (and unacquired);</li>
+ * <li>the next page is acquired as soon as half of the queue is free again, while the workers are still executing the
+ * rest of the previous page. The workers wake this thread up when they take a job from the queue;</li>
+ * <li>a page with less jobs than asked for means all due jobs are acquired: only then the thread waits for the
+ * default acquire wait time.</li>
+ * </ul>
+ */
+public class PipelinedAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+  private static Logger log = LoggerFactory.getLogger(PipelinedAcquireAsyncJobsDueRunnable.class);
+
+  /** The ids of a page are passed in one IN clause, which is limited to 1000 elements on some databases */
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  protected final DefaultAsyncJobExecutor defaultAsyncJobExecutor;
+
+  protected volatile boolean isWaitingForQueueRoom;
+
+  public PipelinedAcquireAsyncJobsDueRunnable(DefaultAsyncJobExecutor asyncExecutor) {
+    super(asyncExecutor);
+    this.defaultAsyncJobExecutor = asyncExecutor;
+  }
+
+  @Override
+  public synchronized void run() {
+    log.info("{} starting to acquire async jobs due (pipelined)", getClass().getSimpleName());
+    Thread.currentThread().setName("activiti-acquire-async-jobs");
+
+    final CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+
+    while (!isInterrupted) {
+
+      try {
+        if (!hasQueueRoom()) {
+          // Woken up by a worker as soon as there is room again
+          millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+          isWaitingForQueueRoom = true;
+
+        } else {
+          int pageSize = Math.min(getMaxPageSize(), getQueue().remainingCapacity());
+          BulkAcquireJobsCmd acquireJobsCmd = new BulkAcquireJobsCmd(asyncExecutor, pageSize);
+          AcquiredJobEntities acquiredJobs = commandExecutor.execute(acquireJobsCmd);
+
+          boolean allJobsSuccessfullyOffered = true;
+          for (JobEntity job : acquiredJobs.getJobs()) {
+            if (!asyncExecutor.executeAsyncJob(job)) {
+              allJobsSuccessfullyOffered = false;
+            }
+          }
+
+          // Jobs locked concurrently by other executors still count: there can be more due jobs
+          millisToWait = 0;
+          if (acquireJobsCmd.getCandidateCount() < pageSize) {
+            millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+          } else if (!allJobsSuccessfullyOffered) {
+            millisToWait = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+          }
+        }
+
+      } catch (Throwable e) {
+        log.error("exception during pipelined async job acquisition: {}", e.getMessage(), e);
+        millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+      }
+
+      if (millisToWait > 0) {
+        waitForNextAcquisition();
+      }
+    }
+
+    log.info("{} stopped async job due acquisition", getClass().getSimpleName());
+  }
+
+  protected void waitForNextAcquisition() {
+    try {
+      if (log.isDebugEnabled()) {
+        log.debug("async job acquisition thread sleeping for {} millis", millisToWait);
+      }
+      synchronized (MONITOR) {
+        // Checked again while holding the monitor, as the workers need it to wake this thread up
+        if (!isInterrupted && !(isWaitingForQueueRoom && hasQueueRoom())) {
+          isWaiting.set(true);
+          MONITOR.wait(millisToWait);
+        }
+      }
+    } catch (InterruptedException e) {
+      if (log.isDebugEnabled()) {
+        log.debug("async job acquisition wait interrupted");
+      }
+    } finally {
+      isWaiting.set(false);
+      isWaitingForQueueRoom = false;
+    }
+  }
+
+  /**
+   * Called by a worker when it takes a job from the queue: wakes up the acquisition thread if it waits for that room.
+   */
+  public void queueRoomAvailable() {
+    if (isWaitingForQueueRoom && hasQueueRoom()) {
+      synchronized (MONITOR) {
+        if (isWaiting.compareAndSet(true, false)) {
+          MONITOR.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * Wraps the runnable of a job so that it calls {@link #queueRoomAvailable()} when it is taken from the queue.
+   */
+  public Runnable wrap(final Runnable jobRunnable) {
+    return new Runnable() {
+      public void run() {
+        queueRoomAvailable();
+        jobRunnable.run();
+      }
+    };
+  }
+
+  /**
+   * @return true if at least half a page (or half the queue, if smaller) fits in the queue
+   */
+  protected boolean hasQueueRoom() {
+    BlockingQueue<Runnable> queue = getQueue();
+    int capacity = queue.size() + queue.remainingCapacity();
+    int threshold = Math.max(1, Math.min(getMaxPageSize(), capacity) / 2);
+    return queue.remainingCapacity() >= threshold;
+  }
+
+  protected int getMaxPageSize() {
+    return Math.max(1, Math.min(asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), MAX_PAGE_SIZE));
+  }
+
+  protected BlockingQueue<Runnable> getQueue() {
+    return defaultAsyncJobExecutor.getThreadPoolQueue();
+  }
+
+}
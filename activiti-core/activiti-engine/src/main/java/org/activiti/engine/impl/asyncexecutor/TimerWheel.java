@@ -0,0 +1,137 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashed timer wheel: the time is cut in ticks, and an item due at a given time goes in the bucket of its tick
+ * (modulo the number of buckets). Advancing the wheel only looks at the buckets of the ticks that have passed,
+ * so scheduling and firing don't depend on the number of scheduled items. Items due more than one turn of
+ * the wheel ahead share the bucket with earlier ones and are skipped until their tick has come.
+ *
+ * Not thread safe: it is meant to be used by one acquisition thread.
+ */
+public class TimerWheel<T> {
+
+  protected final long tickInMillis;
+  protected final List<List<Entry<T>>> buckets;
+
+  /** The first tick that hasn't been fired yet */
+  protected long currentTick;
+  protected int size;
+
+  public TimerWheel(int wheelSize, long tickInMillis, long startTime) {
+    if (wheelSize <= 0 || tickInMillis <= 0) {
+      throw new IllegalArgumentException("The wheel size and the tick must be positive");
+    }
+    this.tickInMillis = tickInMillis;
+    this.buckets = new ArrayList<List<Entry<T>>>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      buckets.add(new ArrayList<Entry<T>>());
+    }
+    this.currentTick = startTime / tickInMillis;
+  }
+
+  /**
+   * Schedules the item at the first tick at or after the due time. An item that is already due fires with the next tick.
+   */
+  public void schedule(T item, long dueTime) {
+    long tick = Math.max((dueTime + tickInMillis - 1) / tickInMillis, currentTick);
+    buckets.get(bucketIndex(tick)).add(new Entry<T>(item, tick));
+    size++;
+  }
+
+  /**
+   * Removes and returns the items of all the ticks up to the given time.
+   */
+  public List<T> advance(long now) {
+    List<T> dueItems = new ArrayList<T>();
+    long nowTick = now / tickInMillis;
+    if (size == 0) {
+      // Follows the clock, also when it was set back
+      currentTick = nowTick;
+      return dueItems;
+    }
+    if (nowTick < currentTick) {
+      return dueItems;
+    }
+
+    // Past one turn of the wheel, every bucket has been passed once
+    long lastTick = Math.min(nowTick, currentTick + buckets.size() - 1);
+    for (long tick = currentTick; tick <= lastTick && size > 0; tick++) {
+      Iterator<Entry<T>> entries = buckets.get(bucketIndex(tick)).iterator();
+      while (entries.hasNext()) {
+        Entry<T> entry = entries.next();
+        if (entry.tick <= nowTick) {
+          dueItems.add(entry.item);
+          entries.remove();
+          size--;
+        }
+      }
+    }
+    currentTick = nowTick + 1;
+    return dueItems;
+  }
+
+  /**
+   * Removes and returns all items, whether they are due or not.
+   */
+  public List<T> clear() {
+    List<T> items = new ArrayList<T>(size);
+    for (List<Entry<T>> bucket : buckets) {
+      for (Entry<T> entry : bucket) {
+        items.add(entry.item);
+      }
+      bucket.clear();
+    }
+    size = 0;
+    return items;
+  }
+
+  /**
+   * The time of the next tick, at which {@link #advance(long)} should be called, or -1 when the wheel is empty.
+   */
+  public long getNextTickTime() {
+    return size == 0 ? -1 : currentTick * tickInMillis;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  protected int bucketIndex(long tick) {
+    return (int) (tick % buckets.size());
+  }
+
+  protected static class Entry<T> {
+
+    protected final T item;
+    protected final long tick;
+
+    public Entry(T item, long tick) {
+      this.item = item;
+      this.tick = tick;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.activiti.engine.ActivitiOptimisticLockingException;
+import org.activiti.engine.impl.cmd.AcquireTimerJobsCmd;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Alternative to the {@link AcquireTimerJobsRunnable} that fires timers on time instead of at the next acquisition:
+ *
+ * <ul>
+ * <li>every acquisition locks the timers that are due within the lookahead, and schedules them in a {@link TimerWheel};</li>
+ * <li>in between acquisitions, the thread wakes up at every tick of the wheel while it holds timers, and moves
+ * the timers that are due to the executable jobs (in one transaction per timer, so a timer that was removed
+ * in the meantime doesn't hold back the others);</li>
+ * <li>the lock of a scheduled timer is its lease: it expires after the lookahead and the timer lock time,
+ * so the timers of an executor that went down are acquired again by the others. The timers still in the wheel
+ * are unlocked one by one when the executor stops.</li>
+ * </ul>
+ */
+public class TimerWheelAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+  private static Logger log = LoggerFactory.getLogger(TimerWheelAcquireTimerJobsRunnable.class);
+
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  protected final int lookaheadInMillis;
+  protected final TimerWheel<TimerJobEntity> timerWheel;
+
+  public TimerWheelAcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int lookaheadInMillis, int tickInMillis) {
+    super(asyncExecutor, jobManager);
+    this.lookaheadInMillis = lookaheadInMillis;
+    this.timerWheel = new TimerWheel<TimerJobEntity>(DEFAULT_WHEEL_SIZE, tickInMillis, getCurrentTime());
+  }
+
+  @Override
+  public synchronized void run() {
+    log.info("{} starting to acquire and schedule timer jobs", getClass().getSimpleName());
+    Thread.currentThread().setName("activiti-acquire-timer-jobs");
+
+    final CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+
+    // The acquisitions follow the system time, as the process engine clock may stand still
+    long nextAcquisitionTime = 0L;
+
+    while (!isInterrupted) {
+
+      if (System.currentTimeMillis() >= nextAcquisitionTime) {
+        nextAcquisitionTime = System.currentTimeMillis() + acquireTimerJobs(commandExecutor);
+      }
+
+      moveDueTimerJobs(commandExecutor);
+
+      millisToWait = Math.max(0L, nextAcquisitionTime - System.currentTimeMillis());
+      long nextTickTime = timerWheel.getNextTickTime();
+      if (nextTickTime >= 0) {
+        millisToWait = Math.min(millisToWait, Math.max(1L, nextTickTime - getCurrentTime()));
+      }
+
+      if (millisToWait > 0) {
+        try {
+          synchronized (MONITOR) {
+            if (!isInterrupted) {
+              isWaiting.set(true);
+              MONITOR.wait(millisToWait);
+            }
+          }
+        } catch (InterruptedException e) {
+          if (log.isDebugEnabled()) {
+            log.debug("timer job acquisition wait interrupted");
+          }
+        } finally {
+          isWaiting.set(false);
+        }
+      }
+    }
+
+    releaseScheduledTimerJobs(commandExecutor);
+
+    log.info("{} stopped timer job acquisition", getClass().getSimpleName());
+  }
+
+  /**
+   * Acquires and schedules the timers due within the lookahead, and returns the time to wait until the next acquisition.
+   */
+  protected long acquireTimerJobs(CommandExecutor commandExecutor) {
+    try {
+      AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, lookaheadInMillis));
+      for (TimerJobEntity job : acquiredJobs.getJobs()) {
+        long dueTime = job.getDuedate() != null ? job.getDuedate().getTime() : getCurrentTime();
+        timerWheel.schedule(job, dueTime);
+      }
+
+      if (acquiredJobs.size() >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+        return 0L;
+      }
+
+    } catch (ActivitiOptimisticLockingException optimisticLockingException) {
+      if (log.isDebugEnabled()) {
+        log.debug("Optimistic locking exception during timer job acquisition, the timer jobs were acquired by another executor: {}",
+            optimisticLockingException.getMessage());
+      }
+      return 0L;
+
+    } catch (Throwable e) {
+      log.error("exception during timer job acquisition: {}", e.getMessage(), e);
+    }
+    return asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+  }
+
+  protected void moveDueTimerJobs(CommandExecutor commandExecutor) {
+    List<TimerJobEntity> dueJobs = timerWheel.advance(getCurrentTime());
+    for (final TimerJobEntity job : dueJobs) {
+      try {
+        commandExecutor.execute(new Command<Void>() {
+
+          @Override
+          public Void execute(CommandContext commandContext) {
+            jobManager.moveTimerJobToExecutableJob(job);
+            return null;
+          }
+        });
+
+      } catch (ActivitiOptimisticLockingException optimisticLockingException) {
+        // The timer was deleted (e.g. its boundary event was cancelled) or acquired again after its lock expired
+        if (log.isDebugEnabled()) {
+          log.debug("Scheduled timer job {} was changed by another transaction and is not moved: {}", job.getId(),
+              optimisticLockingException.getMessage());
+        }
+
+      } catch (Throwable e) {
+        // The timer stays locked until its lock expires, then it's acquired again
+        log.error("exception while moving scheduled timer job {}: {}", job.getId(), e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Unlocks the timers still in the wheel, in one transaction per timer like when they are moved: a timer that was
+   * changed in the meantime doesn't roll back the unlocking of the others.
+   */
+  protected void releaseScheduledTimerJobs(CommandExecutor commandExecutor) {
+    List<TimerJobEntity> scheduledJobs = timerWheel.clear();
+    for (final TimerJobEntity job : scheduledJobs) {
+      try {
+        commandExecutor.execute(new Command<Void>() {
+
+          @Override
+          public Void execute(CommandContext commandContext) {
+            job.setLockOwner(null);
+            job.setLockExpirationTime(null);
+            commandContext.getTimerJobEntityManager().update(job, false);
+            return null;
+          }
+        });
+
+      } catch (ActivitiOptimisticLockingException optimisticLockingException) {
+        // The timer was deleted or acquired again after its lock expired, there's nothing to release
+        if (log.isDebugEnabled()) {
+          log.debug("Scheduled timer job {} was changed by another transaction and is not unlocked: {}", job.getId(),
+              optimisticLockingException.getMessage());
+        }
+
+      } catch (Throwable e) {
+        // The lock expires on its own
+        log.warn("Could not unlock scheduled timer job {}: {}", job.getId(), e.getMessage());
+      }
+    }
+  }
+
+  protected long getCurrentTime() {
+    return asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime().getTime();
+  }
+
+  public TimerWheel<TimerJobEntity> getTimerWheel() {
+    return timerWheel;
+  }
+}
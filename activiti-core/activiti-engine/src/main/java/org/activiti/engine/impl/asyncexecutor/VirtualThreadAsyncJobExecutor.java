@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Async executor that runs every job on its own virtual thread.
+ *
+ * There is no thread pool queue: a semaphore with {@link #maxConcurrentJobs} permits limits the number of jobs that
+ * execute at the same time. A job that gets no permit is unacquired right away, exactly like a job that is rejected
+ * by a full queue in the {@link DefaultAsyncJobExecutor}, so the acquisition throttles on
+ * {@link #getDefaultQueueSizeFullWaitTimeInMillis()}.
+ *
+ * The thread pool settings (core/max pool size, keep alive time, queue size) are ignored, as is pipelined acquisition
+ * (which sizes its pages on the thread pool queue).
+ *
+ * Optionally, a {@link VirtualThreadPinningReporter} logs the engine code that pins a job thread to its carrier thread.
+ */
+public class VirtualThreadAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+  private static Logger log = LoggerFactory.getLogger(VirtualThreadAsyncJobExecutor.class);
+
+  /** Name prefix of the job threads, the only virtual threads reported by the {@link VirtualThreadPinningReporter} */
+  public static final String JOB_THREAD_NAME_PREFIX = "activiti-async-job-executor-vthread-";
+
+  /** The maximal number of jobs executed concurrently */
+  protected int maxConcurrentJobs = 100;
+
+  protected Semaphore concurrentJobsPermits;
+
+  /** If true, virtual threads pinned to their carrier thread for longer than {@link #pinningThresholdInMillis} are logged */
+  protected boolean isReportPinning;
+
+  protected long pinningThresholdInMillis = 20L;
+
+  protected VirtualThreadPinningReporter pinningReporter;
+
+  @Override
+  public boolean executeAsyncJob(final Job job) {
+    if (isMessageQueueMode) {
+      // When running with a message queue based job executor,
+      // the job is not executed here.
+      return true;
+    }
+
+    if (!isActive) {
+      temporaryJobQueue.add(job);
+      return true;
+    }
+
+    if (!concurrentJobsPermits.tryAcquire()) {
+      // All permits are taken: the job is unlocked so it can be acquired again later
+      unacquireJob(job);
+      return false;
+    }
+
+    final Runnable jobRunnable = createRunnableForJob(job);
+    try {
+      executorService.execute(new Runnable() {
+        public void run() {
+          try {
+            jobRunnable.run();
+          } finally {
+            concurrentJobsPermits.release();
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // Only happens while shutting down
+      concurrentJobsPermits.release();
+      unacquireJob(job);
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void start() {
+    if (isActive) {
+      return;
+    }
+    if (isPipelinedAcquisition) {
+      log.info("Pipelined acquisition is not supported by the virtual thread async executor, using default acquisition");
+      isPipelinedAcquisition = false;
+    }
+    if (isReportPinning && pinningReporter == null) {
+      pinningReporter = new VirtualThreadPinningReporter(Duration.ofMillis(pinningThresholdInMillis), JOB_THREAD_NAME_PREFIX);
+    }
+    if (pinningReporter != null) {
+      pinningReporter.start();
+    }
+    super.start();
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    super.shutdown();
+    if (pinningReporter != null) {
+      pinningReporter.stop();
+    }
+  }
+
+  @Override
+  protected void initAsyncJobExecutionThreadPool() {
+    if (concurrentJobsPermits == null) {
+      log.info("Limiting the number of concurrently executed jobs to {}", maxConcurrentJobs);
+      concurrentJobsPermits = new Semaphore(maxConcurrentJobs);
+    }
+
+    if (executorService == null) {
+      log.info("Creating virtual thread per job executor service");
+      executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(JOB_THREAD_NAME_PREFIX, 0).factory());
+    }
+  }
+
+  @Override
+  public void applyConfig(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    super.applyConfig(processEngineConfiguration);
+    maxConcurrentJobs = processEngineConfiguration.getAsyncExecutorMaxConcurrentJobs();
+    isReportPinning = processEngineConfiguration.isAsyncExecutorReportVirtualThreadPinning();
+    pinningThresholdInMillis = processEngineConfiguration.getAsyncExecutorVirtualThreadPinningThresholdInMillis();
+  }
+
+  /* getters and setters */
+
+  public int getMaxConcurrentJobs() {
+    return maxConcurrentJobs;
+  }
+
+  public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+    this.maxConcurrentJobs = maxConcurrentJobs;
+  }
+
+  public int getAvailableJobPermits() {
+    return concurrentJobsPermits != null ? concurrentJobsPermits.availablePermits() : maxConcurrentJobs;
+  }
+
+  public boolean isReportPinning() {
+    return isReportPinning;
+  }
+
+  public void setReportPinning(boolean isReportPinning) {
+    this.isReportPinning = isReportPinning;
+  }
+
+  public long getPinningThresholdInMillis() {
+    return pinningThresholdInMillis;
+  }
+
+  public void setPinningThresholdInMillis(long pinningThresholdInMillis) {
+    this.pinningThresholdInMillis = pinningThresholdInMillis;
+  }
+
+  public VirtualThreadPinningReporter getPinningReporter() {
+    return pinningReporter;
+  }
+
+  public void setPinningReporter(VirtualThreadPinningReporter pinningReporter) {
+    this.pinningReporter = pinningReporter;
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import java.time.Duration;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs a warning with the stack trace each time a virtual thread stays pinned to its carrier thread for longer than
+ * a threshold, typically because it blocks inside a <code>synchronized</code> block or method.
+ * Pinned job threads hold on to one of the few carrier threads, so the reported engine code should be fixed
+ * (for example by using a {@link java.util.concurrent.locks.ReentrantLock} instead).
+ *
+ * The <code>jdk.VirtualThreadPinned</code> events are read from an in-process JFR stream. They cover every virtual
+ * thread of the JVM, so only the threads whose name starts with the given prefix (the job threads) are reported.
+ */
+public class VirtualThreadPinningReporter {
+
+  private static Logger log = LoggerFactory.getLogger(VirtualThreadPinningReporter.class);
+
+  protected static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  protected Duration threshold;
+
+  protected String threadNamePrefix;
+
+  protected RecordingStream recordingStream;
+
+  public VirtualThreadPinningReporter(Duration threshold, String threadNamePrefix) {
+    this.threshold = threshold;
+    this.threadNamePrefix = threadNamePrefix;
+  }
+
+  public synchronized void start() {
+    if (recordingStream != null) {
+      return;
+    }
+
+    try {
+      RecordingStream stream = new RecordingStream();
+      stream.enable(VIRTUAL_THREAD_PINNED_EVENT).withThreshold(threshold).withStackTrace();
+      stream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::report);
+      stream.startAsync();
+      recordingStream = stream;
+      log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+
+    } catch (RuntimeException e) {
+      // JFR can be disabled or unavailable on the running JVM
+      log.warn("Could not start reporting pinned virtual threads: {}", e.getMessage());
+    }
+  }
+
+  public synchronized void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  protected void report(RecordedEvent event) {
+    String threadName = event.getThread() != null ? event.getThread().getJavaName() : null;
+    if (!isReportedThread(threadName)) {
+      return;
+    }
+    log.warn("Virtual thread {} was pinned to its carrier thread for {} ms:{}", threadName, event.getDuration().toMillis(), formatStackTrace(event.getStackTrace()));
+  }
+
+  protected boolean isReportedThread(String threadName) {
+    return threadNamePrefix == null || (threadName != null && threadName.startsWith(threadNamePrefix));
+  }
+
+  protected String formatStackTrace(RecordedStackTrace stackTrace) {
+    StringBuilder builder = new StringBuilder();
+    if (stackTrace != null) {
+      for (RecordedFrame frame : stackTrace.getFrames()) {
+        builder.append(System.lineSeparator())
+            .append("\tat ")
+            .append(frame.getMethod().getType().getName())
+            .append('.')
+            .append(frame.getMethod().getName())
+            .append(':')
+            .append(frame.getLineNumber());
+      }
+    }
+    return builder.toString();
+  }
+
+  public Duration getThreshold() {
+    return threshold;
+  }
+
+  public String getThreadNamePrefix() {
+    return threadNamePrefix;
+  }
+
+  public boolean isStarted() {
+    return recordingStream != null;
+  }
+
+}
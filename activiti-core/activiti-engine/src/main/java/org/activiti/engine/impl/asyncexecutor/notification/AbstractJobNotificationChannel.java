@@ -0,0 +1,57 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the listeners of a {@link JobNotificationChannel}.
+ */
+public abstract class AbstractJobNotificationChannel implements JobNotificationChannel {
+
+  private static Logger log = LoggerFactory.getLogger(AbstractJobNotificationChannel.class);
+
+  protected final List<JobNotificationListener> listeners = new CopyOnWriteArrayList<JobNotificationListener>();
+
+  @Override
+  public void addListener(JobNotificationListener listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeListener(JobNotificationListener listener) {
+    listeners.remove(listener);
+  }
+
+  protected void notifyListeners() {
+    for (JobNotificationListener listener : listeners) {
+      try {
+        listener.jobsAvailable();
+      } catch (RuntimeException e) {
+        log.warn("Exception while notifying job notification listener {}: {}", listener, e.getMessage(), e);
+      }
+    }
+  }
+
+  public List<JobNotificationListener> getListeners() {
+    return listeners;
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+import org.activiti.engine.api.internal.Internal;
+
+/**
+ * Channel on which the nodes of a cluster tell each other that new async jobs can be acquired, so the idle
+ * acquisition threads don't have to wait for their next poll of the job table.
+ *
+ * A notification is only a hint: it carries no job data, and a lost notification just means the job is found by
+ * the next regular acquisition.
+ */
+@Internal
+public interface JobNotificationChannel {
+
+  /**
+   * Opens the channel. Called when the process engine is built.
+   */
+  void start();
+
+  /**
+   * Closes the channel. Called when the process engine is closed.
+   */
+  void close();
+
+  /**
+   * Tells the async executors of all nodes (including this one) that new async jobs are available for acquisition.
+   * Called after the transaction that created the jobs is committed.
+   */
+  void notifyJobsAvailable();
+
+  void addListener(JobNotificationListener listener);
+
+  void removeListener(JobNotificationListener listener);
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+import org.activiti.engine.api.internal.Internal;
+
+/**
+ * Receives the notifications of a {@link JobNotificationChannel}.
+ */
+@Internal
+public interface JobNotificationListener {
+
+  /**
+   * New async jobs are available for acquisition. Must return quickly, as it is called on the thread of the channel.
+   */
+  void jobsAvailable();
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+/**
+ * In-JVM {@link JobNotificationChannel}: the notifications are delivered directly to the listeners.
+ *
+ * Share one instance between the process engines of the same JVM (for example an engine that only creates jobs and
+ * another one that executes them) so that a job created by one engine wakes up the async executor of the other.
+ */
+public class LoopbackJobNotificationChannel extends AbstractJobNotificationChannel {
+
+  @Override
+  public void start() {
+    // Nothing to open
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close, the listeners are removed by their async executor
+  }
+
+  @Override
+  public void notifyJobsAvailable() {
+    notifyListeners();
+  }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.activiti.engine.ActivitiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobNotificationChannel} between the nodes of a cluster, using UDP multicast.
+ *
+ * A notification is one small datagram with the name of the cluster and the id of the sending node, so nodes of
+ * other clusters on the same group are ignored, as are the datagrams a node receives from itself (its own listeners
+ * are notified directly). Notifications are not acknowledged: a lost datagram only means the job is found by the
+ * next regular acquisition. Notifications that arrive while an acquisition thread is busy are naturally coalesced,
+ * as only a waiting acquisition thread is woken up.
+ *
+ * All nodes of a cluster must use the same group address, port and cluster name.
+ */
+public class MulticastJobNotificationChannel extends AbstractJobNotificationChannel {
+
+  private static Logger log = LoggerFactory.getLogger(MulticastJobNotificationChannel.class);
+
+  /** An address of the organization-local scope, not routed outside the network by default */
+  public static final String DEFAULT_GROUP_ADDRESS = "239.255.42.99";
+  public static final int DEFAULT_PORT = 45399;
+
+  protected static final String MESSAGE_SEPARATOR = "\n";
+  protected static final int MAX_MESSAGE_LENGTH = 512;
+
+  protected String groupAddress = DEFAULT_GROUP_ADDRESS;
+  protected int port = DEFAULT_PORT;
+  protected String networkInterfaceName;
+  protected int timeToLive = 1;
+  protected String clusterName = "activiti";
+
+  protected final String nodeId = UUID.randomUUID().toString();
+
+  protected MulticastSocket socket;
+  protected InetSocketAddress group;
+  protected NetworkInterface networkInterface;
+  protected Thread receiverThread;
+  protected volatile boolean isActive;
+
+  public MulticastJobNotificationChannel() {
+  }
+
+  public MulticastJobNotificationChannel(String groupAddress, int port, String clusterName) {
+    this.groupAddress = groupAddress;
+    this.port = port;
+    this.clusterName = clusterName;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (isActive) {
+      return;
+    }
+
+    try {
+      group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+      socket = new MulticastSocket(port);
+      socket.setTimeToLive(timeToLive);
+      if (networkInterfaceName != null) {
+        networkInterface = NetworkInterface.getByName(networkInterfaceName);
+        if (networkInterface == null) {
+          throw new ActivitiException("Unknown network interface for job notifications: " + networkInterfaceName);
+        }
+        socket.setNetworkInterface(networkInterface);
+      }
+      socket.joinGroup(group, networkInterface);
+
+    } catch (IOException e) {
+      closeSocket();
+      throw new ActivitiException("Could not open job notification channel on " + groupAddress + ":" + port, e);
+    }
+
+    isActive = true;
+    receiverThread = new Thread(this::receive, "activiti-job-notification-receiver");
+    receiverThread.setDaemon(true);
+    receiverThread.start();
+
+    log.info("Job notification channel of cluster '{}' joined multicast group {}:{}", clusterName, groupAddress, port);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+
+    // Closing the socket unblocks the receiver thread
+    closeSocket();
+    try {
+      receiverThread.join();
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while waiting for the job notification receiver thread to terminate", e);
+    }
+    receiverThread = null;
+  }
+
+  @Override
+  public void notifyJobsAvailable() {
+    notifyListeners();
+
+    MulticastSocket currentSocket = socket;
+    if (!isActive || currentSocket == null) {
+      return;
+    }
+
+    byte[] message = (clusterName + MESSAGE_SEPARATOR + nodeId).getBytes(StandardCharsets.UTF_8);
+    try {
+      currentSocket.send(new DatagramPacket(message, message.length, group));
+    } catch (IOException e) {
+      // The other nodes will find the jobs when polling
+      log.warn("Could not send job notification: {}", e.getMessage());
+    }
+  }
+
+  protected void receive() {
+    byte[] buffer = new byte[MAX_MESSAGE_LENGTH];
+    while (isActive) {
+      try {
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        socket.receive(packet);
+        if (isNotificationOfOtherNode(new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8))) {
+          notifyListeners();
+        }
+
+      } catch (IOException e) {
+        if (isActive) {
+          log.warn("Exception while receiving job notifications: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  protected boolean isNotificationOfOtherNode(String message) {
+    int separatorIndex = message.indexOf(MESSAGE_SEPARATOR);
+    if (separatorIndex < 0) {
+      return false;
+    }
+    return clusterName.equals(message.substring(0, separatorIndex)) && !nodeId.equals(message.substring(separatorIndex + 1));
+  }
+
+  protected void closeSocket() {
+    if (socket != null) {
+      if (group != null) {
+        try {
+          socket.leaveGroup(group, networkInterface);
+        } catch (IOException e) {
+          // The socket is closed anyway
+        }
+      }
+      socket.close();
+      socket = null;
+    }
+  }
+
+  public String getGroupAddress() {
+    return groupAddress;
+  }
+
+  public void setGroupAddress(String groupAddress) {
+    this.groupAddress = groupAddress;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public void setPort(int port) {
+    this.port = port;
+  }
+
+  public String getNetworkInterfaceName() {
+    return networkInterfaceName;
+  }
+
+  /**
+   * Name of the network interface to send and receive the notifications on. By default the one of the system.
+   */
+  public void setNetworkInterfaceName(String networkInterfaceName) {
+    this.networkInterfaceName = networkInterfaceName;
+  }
+
+  public int getTimeToLive() {
+    return timeToLive;
+  }
+
+  /**
+   * The number of routers a notification can pass. Default 1: the notifications don't leave the local network.
+   */
+  public void setTimeToLive(int timeToLive) {
+    this.timeToLive = timeToLive;
+  }
+
+  public String getClusterName() {
+    return clusterName;
+  }
+
+  public void setClusterName(String clusterName) {
+    this.clusterName = clusterName;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  public boolean isActive() {
+    return isActive;
+  }
+
+}
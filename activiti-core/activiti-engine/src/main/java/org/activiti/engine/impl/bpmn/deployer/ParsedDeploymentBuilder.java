@@ -25,10 +25,17 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.impl.bpmn.parser.BpmnParse;
 import org.activiti.engine.impl.bpmn.parser.BpmnParser;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.cmd.DeploymentSettings;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.activiti.engine.impl.persistence.entity.ResourceEntity;
@@ -42,6 +49,7 @@ public class ParsedDeploymentBuilder {
   protected DeploymentEntity deployment;
   protected BpmnParser bpmnParser;
   protected Map<String, Object> deploymentSettings;
+  protected int parseParallelism = 1;
 
   public ParsedDeploymentBuilder(DeploymentEntity deployment,
       BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
@@ -50,6 +58,12 @@ public class ParsedDeploymentBuilder {
     this.deploymentSettings = deploymentSettings;
   }
 
+  public ParsedDeploymentBuilder(DeploymentEntity deployment,
+      BpmnParser bpmnParser, Map<String, Object> deploymentSettings, int parseParallelism) {
+    this(deployment, bpmnParser, deploymentSettings);
+    this.parseParallelism = parseParallelism;
+  }
+
   public ParsedDeployment build() {
     List<ProcessDefinitionEntity> processDefinitions = new ArrayList<ProcessDefinitionEntity>();
     Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap
@@ -57,20 +71,26 @@ public class ParsedDeploymentBuilder {
     Map<ProcessDefinitionEntity, ResourceEntity> processDefinitionsToResourceMap
       = new LinkedHashMap<ProcessDefinitionEntity, ResourceEntity>();
 
+    List<ResourceEntity> bpmnResources = new ArrayList<ResourceEntity>();
     for (ResourceEntity resource : deployment.getResources().values()) {
       if (isBpmnResource(resource.getName())) {
         if (deploymentSettings == null || mayBeContainsProcessDefinitionResourceName(resource.getName())) {
-          log.debug("Processing BPMN resource {}", resource.getName());
-          BpmnParse parse = createBpmnParseFromResource(resource);
-          for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-              processDefinitions.add(processDefinition);
-              processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-              processDefinitionsToResourceMap.put(processDefinition, resource);
-            }
+          bpmnResources.add(resource);
         }
       }
     }
 
+    List<BpmnParse> parses = createBpmnParsesFromResources(bpmnResources);
+    for (int i = 0; i < bpmnResources.size(); i++) {
+      ResourceEntity resource = bpmnResources.get(i);
+      BpmnParse parse = parses.get(i);
+      for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+        processDefinitions.add(processDefinition);
+        processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+        processDefinitionsToResourceMap.put(processDefinition, resource);
+      }
+    }
+
     return new ParsedDeployment(deployment, processDefinitions,
         processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
   }
@@ -84,6 +104,81 @@ public class ParsedDeploymentBuilder {
             .isPresent();
   }
 
+  /**
+   * Parses the given resources, on a pool of {@link #parseParallelism} threads if there is more than one.
+   * The parses are returned in the order of the resources, whatever the order they complete in.
+   * Pooled parses only see the engine configuration: {@link Context#getCommandContext()} is null for their parse
+   * handlers and validators.
+   */
+  protected List<BpmnParse> createBpmnParsesFromResources(List<ResourceEntity> resources) {
+    List<BpmnParse> parses = new ArrayList<BpmnParse>(resources.size());
+    if (parseParallelism <= 1 || resources.size() <= 1) {
+      for (ResourceEntity resource : resources) {
+        log.debug("Processing BPMN resource {}", resource.getName());
+        parses.add(createBpmnParseFromResource(resource));
+      }
+      return parses;
+    }
+
+    // parse handlers look up the engine configuration and classes as seen from the calling thread. The command
+    // context is not thread-safe and stays on the calling thread: parse handlers run without one in the pool
+    CommandContext commandContext = Context.getCommandContext();
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext != null
+        ? commandContext.getProcessEngineConfiguration() : Context.getProcessEngineConfiguration();
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+    ForkJoinPool pool = new ForkJoinPool(Math.min(parseParallelism, resources.size()), forkJoinPool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+      thread.setContextClassLoader(classLoader);
+      return thread;
+    }, null, false);
+    try {
+      List<Future<BpmnParse>> futures = new ArrayList<Future<BpmnParse>>(resources.size());
+      for (ResourceEntity resource : resources) {
+        futures.add(pool.submit(() -> createBpmnParseFromResource(resource, processEngineConfiguration)));
+      }
+      for (Future<BpmnParse> future : futures) {
+        parses.add(getBpmnParse(future));
+      }
+      return parses;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  protected BpmnParse createBpmnParseFromResource(ResourceEntity resource, ProcessEngineConfigurationImpl processEngineConfiguration) {
+    log.debug("Processing BPMN resource {}", resource.getName());
+    if (processEngineConfiguration != null) {
+      Context.setProcessEngineConfiguration(processEngineConfiguration);
+    }
+    try {
+      return createBpmnParseFromResource(resource);
+    } finally {
+      if (processEngineConfiguration != null) {
+        Context.removeProcessEngineConfiguration();
+      }
+    }
+  }
+
+  protected BpmnParse getBpmnParse(Future<BpmnParse> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ActivitiException("Interrupted while parsing BPMN resources", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ActivitiException(cause.getMessage(), cause);
+    }
+  }
+
   protected BpmnParse createBpmnParseFromResource(ResourceEntity resource) {
     String resourceName = resource.getName();
 
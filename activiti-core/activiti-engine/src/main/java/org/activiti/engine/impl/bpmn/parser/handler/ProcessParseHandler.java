@@ -26,8 +26,10 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.delegate.event.impl.ActivitiEventSupport;
 import org.activiti.engine.impl.bpmn.parser.BpmnParse;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +55,7 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
   }
 
   protected ProcessDefinitionEntity transformProcess(BpmnParse bpmnParse, Process process) {
-    ProcessDefinitionEntity currentProcessDefinition = Context.getCommandContext().getProcessDefinitionEntityManager().create();
+    ProcessDefinitionEntity currentProcessDefinition = getProcessDefinitionEntityManager().create();
     bpmnParse.setCurrentProcessDefinition(currentProcessDefinition);
 
     /*
@@ -81,6 +83,17 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
     return currentProcessDefinition;
   }
 
+  /**
+   * Not looked up through the command context, which BPMN resources parsed in parallel do not have.
+   */
+  protected ProcessDefinitionEntityManager getProcessDefinitionEntityManager() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null) {
+      return processEngineConfiguration.getProcessDefinitionEntityManager();
+    }
+    return Context.getCommandContext().getProcessDefinitionEntityManager();
+  }
+
   protected void createEventListeners(BpmnParse bpmnParse, List<EventListener> eventListeners) {
 
     if (eventListeners != null && !eventListeners.isEmpty()) {
@@ -16,6 +16,8 @@
 
 package org.activiti.engine.impl.cfg;
 
+import java.util.Set;
+
 /**
 
  */
@@ -54,6 +56,31 @@ public class PerformanceSettings {
    */
   protected boolean enableLocalization = true;
 
+  /**
+   * Experimental setting: if true, the first time variables of an execution are fetched in a command,
+   * the variables of all executions of its process instance are fetched in the same roundtrip.
+   *
+   * Looking up a variable walks up the execution tree, which otherwise does a fetch
+   * for each level of the tree (e.g. when evaluating conditions in nested subprocesses).
+   */
+  protected boolean enableVariablePrefetch;
+
+  /**
+   * Restricts the variables fetched by {@link #enableVariablePrefetch} to the given names.
+   * Only lookups of these variables by name are then served from the prefetched variables.
+   * If null, all variables are prefetched.
+   */
+  protected Set<String> variablePrefetchNames;
+
+  /**
+   * Experimental setting: if true, task queries for the tasks a user is assigned to or a candidate for (through
+   * the user or one of its groups) select the assigned tasks and the candidate tasks in separate subqueries
+   * that are combined with a union, instead of checking the identity links of every task.
+   *
+   * Helps for users with many groups, where the group list otherwise ends up in a correlated subquery.
+   */
+  protected boolean enableSplitCandidateOrAssignedQuery;
+
   public boolean isEnableEagerExecutionTreeFetching() {
     return enableEagerExecutionTreeFetching;
   }
@@ -86,4 +113,28 @@ public class PerformanceSettings {
     this.enableLocalization = enableLocalization;
   }
 
+  public boolean isEnableVariablePrefetch() {
+    return enableVariablePrefetch;
+  }
+
+  public void setEnableVariablePrefetch(boolean enableVariablePrefetch) {
+    this.enableVariablePrefetch = enableVariablePrefetch;
+  }
+
+  public Set<String> getVariablePrefetchNames() {
+    return variablePrefetchNames;
+  }
+
+  public void setVariablePrefetchNames(Set<String> variablePrefetchNames) {
+    this.variablePrefetchNames = variablePrefetchNames;
+  }
+
+  public boolean isEnableSplitCandidateOrAssignedQuery() {
+    return enableSplitCandidateOrAssignedQuery;
+  }
+
+  public void setEnableSplitCandidateOrAssignedQuery(boolean enableSplitCandidateOrAssignedQuery) {
+    this.enableSplitCandidateOrAssignedQuery = enableSplitCandidateOrAssignedQuery;
+  }
+
 }
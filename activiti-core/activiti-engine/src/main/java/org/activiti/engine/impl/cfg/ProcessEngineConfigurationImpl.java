@@ -75,6 +75,8 @@ import org.activiti.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.activiti.engine.impl.asyncexecutor.DefaultJobManager;
 import org.activiti.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.activiti.engine.impl.asyncexecutor.JobManager;
+import org.activiti.engine.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.activiti.engine.impl.bpmn.data.ItemInstance;
 import org.activiti.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.activiti.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
@@ -132,6 +134,7 @@ import org.activiti.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
 import org.activiti.engine.impl.db.DbIdGenerator;
 import org.activiti.engine.impl.db.DbSqlSessionFactory;
 import org.activiti.engine.impl.db.IbatisVariableTypeHandler;
+import org.activiti.engine.impl.db.StripedDbIdGenerator;
 import org.activiti.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.activiti.engine.impl.el.ExpressionManager;
 import org.activiti.engine.impl.event.CompensationEventHandler;
@@ -139,6 +142,7 @@ import org.activiti.engine.impl.event.EventHandler;
 import org.activiti.engine.impl.event.EventSubscriptionPayloadMappingProvider;
 import org.activiti.engine.impl.event.MessageEventHandler;
 import org.activiti.engine.impl.event.SignalEventHandler;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter;
 import org.activiti.engine.impl.event.logger.EventLogger;
 import org.activiti.engine.impl.history.DefaultHistoryManager;
 import org.activiti.engine.impl.history.HistoryLevel;
@@ -159,6 +163,7 @@ import org.activiti.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.activiti.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.activiti.engine.impl.jobexecutor.JobHandler;
 import org.activiti.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.activiti.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.activiti.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -166,12 +171,17 @@ import org.activiti.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.activiti.engine.impl.persistence.GenericManagerFactory;
 import org.activiti.engine.impl.persistence.cache.EntityCache;
 import org.activiti.engine.impl.persistence.cache.EntityCacheImpl;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCache;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.activiti.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.activiti.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.activiti.engine.impl.persistence.deploy.Deployer;
 import org.activiti.engine.impl.persistence.deploy.DeploymentCache;
 import org.activiti.engine.impl.persistence.deploy.DeploymentManager;
 import org.activiti.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.activiti.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.activiti.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.activiti.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.activiti.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.activiti.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
 import org.activiti.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -303,6 +313,7 @@ import org.activiti.engine.impl.variable.JodaDateTimeType;
 import org.activiti.engine.impl.variable.JodaDateType;
 import org.activiti.engine.impl.variable.JsonType;
 import org.activiti.engine.impl.variable.JsonTypeConverter;
+import org.activiti.engine.impl.variable.JsonVariableSerializer;
 import org.activiti.engine.impl.variable.LocalDateTimeType;
 import org.activiti.engine.impl.variable.LocalDateType;
 import org.activiti.engine.impl.variable.LongJsonType;
@@ -469,6 +480,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected BpmnDeployer bpmnDeployer;
   protected BpmnParser bpmnParser;
   protected ParsedDeploymentBuilderFactory parsedDeploymentBuilderFactory;
+
+  /**
+   * Number of BPMN resources of a deployment that are parsed and validated at the same time.
+   * When more than 1, custom parse handlers and validators must be thread-safe, and must not use the command context:
+   * they run on pooled threads without one.
+   */
+  protected int deploymentParseParallelism = 1;
   protected TimerManager timerManager;
   protected EventSubscriptionManager eventSubscriptionManager;
   protected BpmnDeploymentHelper bpmnDeploymentHelper;
@@ -481,12 +499,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected int processDefinitionCacheLimit = -1; // By default, no limit
   protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+  /**
+   * If true, the process definition and process definition info caches are {@link ConcurrentDeploymentCache}s,
+   * which don't lock on reads and keep hit, miss, eviction and load time statistics.
+   */
+  protected boolean isConcurrentDeploymentCacheEnabled;
+
+  /**
+   * Max total weight of the process definition cache, where the weight of an entry is the size of its BPMN model
+   * (see {@link ProcessDefinitionCacheEntryWeigher}). Only used by the {@link ConcurrentDeploymentCache}. By default, no limit.
+   */
+  protected long processDefinitionCacheMaxWeight = -1;
+
   protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
   protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
   protected int knowledgeBaseCacheLimit = -1;
   protected DeploymentCache<Object> knowledgeBaseCache;
 
+  /**
+   * If true, deployments, process definitions and deployment resources are kept in a {@link SharedEntityCache}
+   * that outlives a single command, so they don't need to be selected again by every command.
+   */
+  protected boolean isSharedEntityCacheEnabled;
+  protected int sharedEntityCacheLimit = 10000; // per entity class
+  protected long sharedEntityCacheMaxWeight = 64L * 1024 * 1024; // approximate bytes, per entity class
+  protected SharedEntityCache sharedEntityCache;
+
   // JOB EXECUTOR /////////////////////////////////////////////////////////////
 
   protected List<JobHandler> customJobHandlers;
@@ -617,6 +656,103 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected int asyncExecutorDefaultQueueSizeFullWaitTime = 0;
 
+  /**
+   * If true, async jobs are acquired in pages that are locked with one bulk update, sized to the room left in the
+   * queue of the executor, and acquired ahead while the workers still execute the previous page.
+   * See {@link org.activiti.engine.impl.asyncexecutor.PipelinedAcquireAsyncJobsDueRunnable}.
+   * Set {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition} higher than 1 for this to be effective.
+   *
+   * (This property is only applicable when using the
+   * {@link DefaultAsyncJobExecutor}).
+   */
+  protected boolean asyncExecutorPipelinedAcquisition;
+
+  /**
+   * If positive, every timer acquisition also locks the timer jobs that are due within this time (in milliseconds),
+   * and they are moved to the executable jobs on time by a timer wheel instead of at the next acquisition.
+   * Set it higher than {@link #asyncExecutorDefaultTimerJobAcquireWaitTime}, so that the timers are scheduled before they are due.
+   * See {@link org.activiti.engine.impl.asyncexecutor.TimerWheelAcquireTimerJobsRunnable}. Default value = 0 (disabled).
+   *
+   * (This property is only applicable when using the
+   * {@link DefaultAsyncJobExecutor}).
+   */
+  protected int asyncExecutorTimerJobLookaheadInMillis;
+
+  /**
+   * The precision (in milliseconds) with which timer jobs are fired when {@link #asyncExecutorTimerJobLookaheadInMillis} is set.
+   * Default value = 100 milliseconds.
+   */
+  protected int asyncExecutorTimerWheelTickInMillis = 100;
+
+  /**
+   * If positive, exclusive jobs are executed in this number of serial lanes, shared by the process instances: each
+   * process instance goes to a lane picked by the hash of its id, so a lane also serializes the exclusive jobs of the
+   * other process instances hashed to it. Exclusive jobs of the same process instance then run one after the other
+   * instead of failing on the lock of their process instance, and that lock is only taken once (and renewed) for
+   * consecutive jobs of the same process instance.
+   * Keep it below {@link #asyncExecutorMaxPoolSize}, as a busy lane occupies a thread of the pool.
+   * See {@link org.activiti.engine.impl.asyncexecutor.ExclusiveJobLanes}. Default value = 0 (disabled).
+   *
+   * (This property is only applicable when using the
+   * {@link DefaultAsyncJobExecutor}).
+   */
+  protected int asyncExecutorExclusiveJobLaneCount;
+
+  /**
+   * If true, the default async executor is a {@link org.activiti.engine.impl.asyncexecutor.VirtualThreadAsyncJobExecutor}
+   * that executes every job on its own virtual thread, limited by {@link #asyncExecutorMaxConcurrentJobs} instead of a
+   * thread pool and its queue.
+   */
+  protected boolean asyncExecutorVirtualThreads;
+
+  /**
+   * The maximal number of jobs executed at the same time on virtual threads. Default value = 100.
+   *
+   * (This property is only applicable when {@link #asyncExecutorVirtualThreads} is true).
+   */
+  protected int asyncExecutorMaxConcurrentJobs = 100;
+
+  /**
+   * If true, a warning with the stack trace is logged when a job thread stays pinned to its carrier thread,
+   * typically because of blocking inside synchronized code.
+   *
+   * (This property is only applicable when {@link #asyncExecutorVirtualThreads} is true).
+   */
+  protected boolean asyncExecutorReportVirtualThreadPinning;
+
+  /**
+   * The time (in milliseconds) a job thread has to stay pinned to its carrier thread before it is reported.
+   * Default value = 20 milliseconds.
+   *
+   * (This property is only applicable when {@link #asyncExecutorReportVirtualThreadPinning} is true).
+   */
+  protected long asyncExecutorVirtualThreadPinningThresholdInMillis = 20L;
+
+  /**
+   * Channel on which the nodes of a cluster notify each other of new async jobs, so idle async executors acquire them
+   * right away instead of at their next poll. Null (the default) means no notifications.
+   * See {@link org.activiti.engine.impl.asyncexecutor.notification.LoopbackJobNotificationChannel} and
+   * {@link org.activiti.engine.impl.asyncexecutor.notification.MulticastJobNotificationChannel}.
+   */
+  protected JobNotificationChannel jobNotificationChannel;
+
+  /**
+   * If positive, a signal thrown globally to more subscriptions than this number is not delivered in the throwing
+   * transaction: the subscriptions are split in chunks of this size (by id), each delivered by its own async job
+   * (see {@link org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler}). The remaining chunks of a
+   * broadcast can be followed with the job and suspended job queries of the ManagementService.
+   * Default value = 0 (every broadcast is synchronous).
+   */
+  protected int signalBroadcastChunkSize;
+
+  /**
+   * The maximal number of chunks of one signal broadcast that are executable at the same time, the others wait
+   * as suspended jobs until a chunk is done. Default value = 4.
+   *
+   * (This property is only applicable when {@link #signalBroadcastChunkSize} is positive).
+   */
+  protected int signalBroadcastParallelism = 4;
+
   /**
    * When a job is acquired, it is locked so other async executors can't lock
    * and execute it. While doing this, the 'name' of the lock owner is written
@@ -706,6 +842,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected DataSource idGeneratorDataSource;
   protected String idGeneratorDataSourceJndiName;
 
+  /**
+   * If true, a {@link StripedDbIdGenerator} is used instead of the {@link DbIdGenerator}:
+   * ids are handed out without locking and the next id block is prefetched in the background.
+   */
+  protected boolean isStripedIdGeneratorEnabled;
+
+  /**
+   * Size of the sub-blocks each thread reserves when the {@link StripedDbIdGenerator} is used.
+   * The default of 1 means all threads share the current id block.
+   */
+  protected int idThreadBlockSize = 1;
+
   // BPMN PARSER //////////////////////////////////////////////////////////////
 
   protected List<BpmnParseHandler> preBpmnParseHandlers;
@@ -743,6 +891,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected String javaClassFieldForJackson = JsonTypeInfo.Id.CLASS.getDefaultPropertyName();
 
   protected ExpressionManager expressionManager;
+
+  /**
+   * Maximal number of parsed expressions the {@link ExpressionManager} keeps, shared by all commands.
+   * 0 disables the cache. See {@link ExpressionManager#getExpressionCacheStatistics()} for its hit rate.
+   */
+  protected int expressionCacheLimit = ExpressionManager.DEFAULT_EXPRESSION_CACHE_LIMIT;
+
   protected List<String> customScriptingEngineClasses;
   protected ScriptingEngines scriptingEngines;
   protected List<ResolverFactory> resolverFactories;
@@ -797,6 +952,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   // Event logging to database
   protected boolean enableDatabaseEventLogging;
 
+  /**
+   * When true (and database event logging is enabled), the event log entries are written after commit by an
+   * {@link AsyncEventLogWriter}, in batches on a background thread, instead of inside each transaction.
+   * Queued entries are lost if the JVM stops abruptly.
+   */
+  protected boolean enableAsyncDatabaseEventLogging;
+
+  /** The maximal number of event log entries waiting to be written by the asynchronous writer. */
+  protected int asyncEventLogQueueSize = 10000;
+
+  /** The maximal number of event log entries inserted in one transaction by the asynchronous writer. */
+  protected int asyncEventLogBatchSize = 500;
+
+  /** What happens to event log entries when the queue of the asynchronous writer is full. */
+  protected AsyncEventLogWriter.OverflowStrategy asyncEventLogOverflowStrategy = AsyncEventLogWriter.OverflowStrategy.CALLER_WRITES;
+
+  /** Whether queued event log entries are written when the engine closes. */
+  protected boolean asyncEventLogDrainOnShutdown = true;
+
+  /** Whether batches that could not be written are retried instead of dropped. */
+  protected boolean asyncEventLogAtLeastOnce;
+
+  protected AsyncEventLogWriter asyncEventLogWriter;
+
   /**
    * Using field injection together with a delegate expression for a service
    * task / execution listener / task listener is not thread-sade , see user
@@ -830,6 +1009,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected int maxNrOfStatementsInBulkInsert = 100;
 
+  /**
+   * If set to true, the updates and deletes of a flush are grouped per sql statement
+   * and sent to the database as JDBC batches, instead of one round trip per entity.
+   * Default false. The optimistic locking check relies on the update counts returned by the
+   * jdbc driver, so only enable it for drivers that report them for batched statements.
+   */
+  protected boolean isBatchUpdateEnabled;
+
   public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
   protected ObjectMapper objectMapper = new ObjectMapper();
@@ -900,6 +1087,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initProcessDefinitionCache();
     initProcessDefinitionInfoCache();
     initKnowledgeBaseCache();
+    initSharedEntityCache();
     initJobHandlers();
     initJobManager();
     initAsyncExecutor();
@@ -1522,6 +1710,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
     dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
     dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+    dbSqlSessionFactory.setBatchUpdateEnabled(isBatchUpdateEnabled);
+    dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
     addSessionFactory(dbSqlSessionFactory);
   }
 
@@ -1611,7 +1801,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   public void initProcessDefinitionCache() {
     if (processDefinitionCache == null) {
-      if (processDefinitionCacheLimit <= 0) {
+      if (isConcurrentDeploymentCacheEnabled) {
+        processDefinitionCache = new ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit,
+            processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+      } else if (processDefinitionCacheLimit <= 0) {
         processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>();
       } else {
         processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit);
@@ -1621,7 +1814,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   public void initProcessDefinitionInfoCache() {
     if (processDefinitionInfoCache == null) {
-      if (processDefinitionInfoCacheLimit <= 0) {
+      if (isConcurrentDeploymentCacheEnabled) {
+        processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor,
+            new ConcurrentDeploymentCache<ProcessDefinitionInfoCacheObject>(processDefinitionInfoCacheLimit));
+      } else if (processDefinitionInfoCacheLimit <= 0) {
         processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor);
       } else {
         processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
@@ -1639,6 +1835,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  public void initSharedEntityCache() {
+    if (sharedEntityCache == null && isSharedEntityCacheEnabled) {
+      sharedEntityCache = new SharedEntityCacheImpl(sharedEntityCacheLimit, sharedEntityCacheMaxWeight).registerDeploymentEntities();
+    }
+  }
+
   public void initDeployers() {
     if (this.deployers == null) {
       this.deployers = new ArrayList<Deployer>();
@@ -1672,6 +1874,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
       parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
     }
+    parsedDeploymentBuilderFactory.setParseParallelism(deploymentParseParallelism);
 
     if (timerManager == null) {
       timerManager = new TimerManager();
@@ -1866,6 +2069,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
     jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+    SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+    jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
     // if we have custom job handlers, register them
     if (getCustomJobHandlers() != null) {
       for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1879,7 +2085,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   public void initAsyncExecutor() {
     if (asyncExecutor == null) {
-      DefaultAsyncJobExecutor defaultAsyncExecutor = new DefaultAsyncJobExecutor();
+      DefaultAsyncJobExecutor defaultAsyncExecutor = asyncExecutorVirtualThreads ? new VirtualThreadAsyncJobExecutor() : new DefaultAsyncJobExecutor();
       defaultAsyncExecutor.applyConfig(this);
       asyncExecutor = defaultAsyncExecutor;
     }
@@ -1919,11 +2125,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         idGeneratorCommandExecutor = getCommandExecutor();
       }
 
-      DbIdGenerator dbIdGenerator = new DbIdGenerator();
-      dbIdGenerator.setIdBlockSize(idBlockSize);
-      dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
-      dbIdGenerator.setCommandConfig(getDefaultCommandConfig().transactionRequiresNew());
-      idGenerator = dbIdGenerator;
+      if (isStripedIdGeneratorEnabled) {
+        StripedDbIdGenerator stripedDbIdGenerator = new StripedDbIdGenerator();
+        stripedDbIdGenerator.setIdBlockSize(idBlockSize);
+        stripedDbIdGenerator.setThreadBlockSize(idThreadBlockSize);
+        stripedDbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
+        stripedDbIdGenerator.setCommandConfig(getDefaultCommandConfig().transactionRequiresNew());
+        idGenerator = stripedDbIdGenerator;
+      } else {
+        DbIdGenerator dbIdGenerator = new DbIdGenerator();
+        dbIdGenerator.setIdBlockSize(idBlockSize);
+        dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
+        dbIdGenerator.setCommandConfig(getDefaultCommandConfig().transactionRequiresNew());
+        idGenerator = dbIdGenerator;
+      }
     }
   }
 
@@ -1980,9 +2195,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             .setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
       JsonTypeConverter jsonTypeConverter = new JsonTypeConverter(objectMapper,
             javaClassFieldForJackson);
-      variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper,serializePOJOsInVariablesToJson,
+      JsonVariableSerializer jsonVariableSerializer = new JsonVariableSerializer(objectMapper);
+      variableTypes.addType(new JsonType(getMaxLengthString(), jsonVariableSerializer, serializePOJOsInVariablesToJson,
             jsonTypeConverter));
-      variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper,serializePOJOsInVariablesToJson,
+      variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, jsonVariableSerializer, serializePOJOsInVariablesToJson,
           jsonTypeConverter));
 
       //java serialization only supported OOTB if not defaulting to json
@@ -2031,6 +2247,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         expressionManager.setCustomFunctionProviders(customFunctionProviders);
       }
     }
+    if (expressionCacheLimit != ExpressionManager.DEFAULT_EXPRESSION_CACHE_LIMIT) {
+      expressionManager.setExpressionCacheLimit(expressionCacheLimit);
+    }
   }
 
   public void initBusinessCalendarManager() {
@@ -2144,7 +2363,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (enableDatabaseEventLogging) {
       // Database event logging uses the default logging mechanism and adds
       // a specific event listener to the list of event listeners
-      getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+      if (enableAsyncDatabaseEventLogging) {
+        if (asyncEventLogWriter == null) {
+          asyncEventLogWriter = new AsyncEventLogWriter(asyncEventLogQueueSize, asyncEventLogBatchSize);
+          asyncEventLogWriter.setOverflowStrategy(asyncEventLogOverflowStrategy);
+          asyncEventLogWriter.setDrainOnShutdown(asyncEventLogDrainOnShutdown);
+          asyncEventLogWriter.setAtLeastOnce(asyncEventLogAtLeastOnce);
+        }
+        getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper, asyncEventLogWriter));
+      } else {
+        getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+      }
     }
   }
 
@@ -2378,6 +2607,15 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public int getDeploymentParseParallelism() {
+    return deploymentParseParallelism;
+  }
+
+  public ProcessEngineConfigurationImpl setDeploymentParseParallelism(int deploymentParseParallelism) {
+    this.deploymentParseParallelism = deploymentParseParallelism;
+    return this;
+  }
+
   public TimerManager getTimerManager() {
     return timerManager;
   }
@@ -2518,6 +2756,15 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public int getExpressionCacheLimit() {
+    return expressionCacheLimit;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCacheLimit(int expressionCacheLimit) {
+    this.expressionCacheLimit = expressionCacheLimit;
+    return this;
+  }
+
   public BusinessCalendarManager getBusinessCalendarManager() {
     return businessCalendarManager;
   }
@@ -2854,6 +3101,24 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isStripedIdGeneratorEnabled() {
+    return isStripedIdGeneratorEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setStripedIdGeneratorEnabled(boolean isStripedIdGeneratorEnabled) {
+    this.isStripedIdGeneratorEnabled = isStripedIdGeneratorEnabled;
+    return this;
+  }
+
+  public int getIdThreadBlockSize() {
+    return idThreadBlockSize;
+  }
+
+  public ProcessEngineConfigurationImpl setIdThreadBlockSize(int idThreadBlockSize) {
+    this.idThreadBlockSize = idThreadBlockSize;
+    return this;
+  }
+
   public int getBatchSizeProcessInstances() {
     return batchSizeProcessInstances;
   }
@@ -2881,6 +3146,24 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isConcurrentDeploymentCacheEnabled() {
+    return isConcurrentDeploymentCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setConcurrentDeploymentCacheEnabled(boolean isConcurrentDeploymentCacheEnabled) {
+    this.isConcurrentDeploymentCacheEnabled = isConcurrentDeploymentCacheEnabled;
+    return this;
+  }
+
+  public long getProcessDefinitionCacheMaxWeight() {
+    return processDefinitionCacheMaxWeight;
+  }
+
+  public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+    this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+    return this;
+  }
+
   public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
     return processDefinitionCache;
   }
@@ -2899,6 +3182,42 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isSharedEntityCacheEnabled() {
+    return isSharedEntityCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheEnabled(boolean isSharedEntityCacheEnabled) {
+    this.isSharedEntityCacheEnabled = isSharedEntityCacheEnabled;
+    return this;
+  }
+
+  public int getSharedEntityCacheLimit() {
+    return sharedEntityCacheLimit;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheLimit(int sharedEntityCacheLimit) {
+    this.sharedEntityCacheLimit = sharedEntityCacheLimit;
+    return this;
+  }
+
+  public long getSharedEntityCacheMaxWeight() {
+    return sharedEntityCacheMaxWeight;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheMaxWeight(long sharedEntityCacheMaxWeight) {
+    this.sharedEntityCacheMaxWeight = sharedEntityCacheMaxWeight;
+    return this;
+  }
+
+  public SharedEntityCache getSharedEntityCache() {
+    return sharedEntityCache;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+    this.sharedEntityCache = sharedEntityCache;
+    return this;
+  }
+
   public DeploymentCache<Object> getKnowledgeBaseCache() {
     return knowledgeBaseCache;
   }
@@ -2971,6 +3290,69 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isEnableAsyncDatabaseEventLogging() {
+    return enableAsyncDatabaseEventLogging;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableAsyncDatabaseEventLogging(boolean enableAsyncDatabaseEventLogging) {
+    this.enableAsyncDatabaseEventLogging = enableAsyncDatabaseEventLogging;
+    return this;
+  }
+
+  public int getAsyncEventLogQueueSize() {
+    return asyncEventLogQueueSize;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogQueueSize(int asyncEventLogQueueSize) {
+    this.asyncEventLogQueueSize = asyncEventLogQueueSize;
+    return this;
+  }
+
+  public int getAsyncEventLogBatchSize() {
+    return asyncEventLogBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogBatchSize(int asyncEventLogBatchSize) {
+    this.asyncEventLogBatchSize = asyncEventLogBatchSize;
+    return this;
+  }
+
+  public AsyncEventLogWriter.OverflowStrategy getAsyncEventLogOverflowStrategy() {
+    return asyncEventLogOverflowStrategy;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogOverflowStrategy(AsyncEventLogWriter.OverflowStrategy asyncEventLogOverflowStrategy) {
+    this.asyncEventLogOverflowStrategy = asyncEventLogOverflowStrategy;
+    return this;
+  }
+
+  public boolean isAsyncEventLogDrainOnShutdown() {
+    return asyncEventLogDrainOnShutdown;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogDrainOnShutdown(boolean asyncEventLogDrainOnShutdown) {
+    this.asyncEventLogDrainOnShutdown = asyncEventLogDrainOnShutdown;
+    return this;
+  }
+
+  public boolean isAsyncEventLogAtLeastOnce() {
+    return asyncEventLogAtLeastOnce;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogAtLeastOnce(boolean asyncEventLogAtLeastOnce) {
+    this.asyncEventLogAtLeastOnce = asyncEventLogAtLeastOnce;
+    return this;
+  }
+
+  public AsyncEventLogWriter getAsyncEventLogWriter() {
+    return asyncEventLogWriter;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+    this.asyncEventLogWriter = asyncEventLogWriter;
+    return this;
+  }
+
   public int getMaxLengthStringVariableType() {
     return maxLengthStringVariableType;
   }
@@ -2998,6 +3380,15 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isBatchUpdateEnabled() {
+    return isBatchUpdateEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+    this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+    return this;
+  }
+
   public boolean isUsingRelationalDatabase() {
     return usingRelationalDatabase;
   }
@@ -3039,6 +3430,21 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public ProcessEngineConfigurationImpl setEnableVariablePrefetch(boolean enableVariablePrefetch) {
+    this.performanceSettings.setEnableVariablePrefetch(enableVariablePrefetch);
+    return this;
+  }
+
+  public ProcessEngineConfigurationImpl setVariablePrefetchNames(Set<String> variablePrefetchNames) {
+    this.performanceSettings.setVariablePrefetchNames(variablePrefetchNames);
+    return this;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableSplitCandidateOrAssignedQuery(boolean enableSplitCandidateOrAssignedQuery) {
+    this.performanceSettings.setEnableSplitCandidateOrAssignedQuery(enableSplitCandidateOrAssignedQuery);
+    return this;
+  }
+
   public AttachmentDataManager getAttachmentDataManager() {
     return attachmentDataManager;
   }
@@ -3718,6 +4124,105 @@ public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
     return this;
   }
 
+  public boolean isAsyncExecutorPipelinedAcquisition() {
+    return asyncExecutorPipelinedAcquisition;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorPipelinedAcquisition(boolean asyncExecutorPipelinedAcquisition) {
+    this.asyncExecutorPipelinedAcquisition = asyncExecutorPipelinedAcquisition;
+    return this;
+  }
+
+  public int getAsyncExecutorTimerJobLookaheadInMillis() {
+    return asyncExecutorTimerJobLookaheadInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobLookaheadInMillis(int asyncExecutorTimerJobLookaheadInMillis) {
+    this.asyncExecutorTimerJobLookaheadInMillis = asyncExecutorTimerJobLookaheadInMillis;
+    return this;
+  }
+
+  public int getAsyncExecutorTimerWheelTickInMillis() {
+    return asyncExecutorTimerWheelTickInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelTickInMillis(int asyncExecutorTimerWheelTickInMillis) {
+    this.asyncExecutorTimerWheelTickInMillis = asyncExecutorTimerWheelTickInMillis;
+    return this;
+  }
+
+  public int getAsyncExecutorExclusiveJobLaneCount() {
+    return asyncExecutorExclusiveJobLaneCount;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobLaneCount(int asyncExecutorExclusiveJobLaneCount) {
+    this.asyncExecutorExclusiveJobLaneCount = asyncExecutorExclusiveJobLaneCount;
+    return this;
+  }
+
+  public boolean isAsyncExecutorVirtualThreads() {
+    return asyncExecutorVirtualThreads;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreads(boolean asyncExecutorVirtualThreads) {
+    this.asyncExecutorVirtualThreads = asyncExecutorVirtualThreads;
+    return this;
+  }
+
+  public int getAsyncExecutorMaxConcurrentJobs() {
+    return asyncExecutorMaxConcurrentJobs;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+    this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+    return this;
+  }
+
+  public boolean isAsyncExecutorReportVirtualThreadPinning() {
+    return asyncExecutorReportVirtualThreadPinning;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorReportVirtualThreadPinning(boolean asyncExecutorReportVirtualThreadPinning) {
+    this.asyncExecutorReportVirtualThreadPinning = asyncExecutorReportVirtualThreadPinning;
+    return this;
+  }
+
+  public long getAsyncExecutorVirtualThreadPinningThresholdInMillis() {
+    return asyncExecutorVirtualThreadPinningThresholdInMillis;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadPinningThresholdInMillis(long asyncExecutorVirtualThreadPinningThresholdInMillis) {
+    this.asyncExecutorVirtualThreadPinningThresholdInMillis = asyncExecutorVirtualThreadPinningThresholdInMillis;
+    return this;
+  }
+
+  public JobNotificationChannel getJobNotificationChannel() {
+    return jobNotificationChannel;
+  }
+
+  public ProcessEngineConfigurationImpl setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+    this.jobNotificationChannel = jobNotificationChannel;
+    return this;
+  }
+
+  public int getSignalBroadcastChunkSize() {
+    return signalBroadcastChunkSize;
+  }
+
+  public ProcessEngineConfigurationImpl setSignalBroadcastChunkSize(int signalBroadcastChunkSize) {
+    this.signalBroadcastChunkSize = signalBroadcastChunkSize;
+    return this;
+  }
+
+  public int getSignalBroadcastParallelism() {
+    return signalBroadcastParallelism;
+  }
+
+  public ProcessEngineConfigurationImpl setSignalBroadcastParallelism(int signalBroadcastParallelism) {
+    this.signalBroadcastParallelism = signalBroadcastParallelism;
+    return this;
+  }
+
   public boolean isAsyncExecutorIsMessageQueueMode() {
     return asyncExecutorMessageQueueMode;
   }
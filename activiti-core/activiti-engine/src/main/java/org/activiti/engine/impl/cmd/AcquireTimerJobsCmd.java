@@ -17,6 +17,7 @@
 package org.activiti.engine.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -33,12 +34,26 @@ import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
   private final AsyncExecutor asyncExecutor;
+  private final int lookaheadInMillis;
 
   public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+    this(asyncExecutor, 0);
+  }
+
+  /**
+   * With a lookahead, the timers that are due within the lookahead are acquired too, together with the timers
+   * whose lock has expired. They stay locked until the lookahead and the timer lock time have passed.
+   */
+  public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int lookaheadInMillis) {
     this.asyncExecutor = asyncExecutor;
+    this.lookaheadInMillis = lookaheadInMillis;
   }
 
   public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+    if (lookaheadInMillis > 0) {
+      return acquireTimerJobsToSchedule(commandContext);
+    }
+
     AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
     List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager()
         .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
@@ -51,6 +66,20 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
     return acquiredJobs;
   }
 
+  protected AcquiredTimerJobEntities acquireTimerJobsToSchedule(CommandContext commandContext) {
+    AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+    Date dueBefore = new Date(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime().getTime() + lookaheadInMillis);
+    List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager()
+        .findTimerJobsToSchedule(dueBefore, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+    for (TimerJobEntity job : timerJobs) {
+      lockJob(commandContext, job, lookaheadInMillis + asyncExecutor.getTimerLockTimeInMillis());
+      acquiredJobs.addJob(job);
+    }
+
+    return acquiredJobs;
+  }
+
   protected void lockJob(CommandContext commandContext, TimerJobEntity job, int lockTimeInMillis) {
 
     // This will trigger an optimistic locking exception when two concurrent executors
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.activiti.engine.impl.Page;
+import org.activiti.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.activiti.engine.impl.asyncexecutor.AsyncExecutor;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntityManager;
+
+/**
+ * Acquires a page of async jobs like {@link AcquireJobsCmd}, but locks the whole page with one bulk update
+ * instead of an optimistically locked update per job. Jobs of the page that were locked concurrently
+ * by another async executor are left out, instead of failing the whole acquisition.
+ */
+public class BulkAcquireJobsCmd implements Command<AcquiredJobEntities> {
+
+  private final AsyncExecutor asyncExecutor;
+  private final int pageSize;
+
+  /** Number of jobs that were found to be executable, whether they could be locked or not */
+  private int candidateCount;
+
+  public BulkAcquireJobsCmd(AsyncExecutor asyncExecutor, int pageSize) {
+    this.asyncExecutor = asyncExecutor;
+    this.pageSize = pageSize;
+  }
+
+  public AcquiredJobEntities execute(CommandContext commandContext) {
+    AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+    JobEntityManager jobEntityManager = commandContext.getJobEntityManager();
+    List<JobEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, pageSize));
+    candidateCount = jobs.size();
+    if (jobs.isEmpty()) {
+      return acquiredJobs;
+    }
+
+    List<String> jobIds = new ArrayList<String>(jobs.size());
+    for (JobEntity job : jobs) {
+      jobIds.add(job.getId());
+    }
+
+    GregorianCalendar gregorianCalendar = new GregorianCalendar();
+    gregorianCalendar.setTime(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime());
+    gregorianCalendar.add(Calendar.MILLISECOND, asyncExecutor.getAsyncJobLockTimeInMillis());
+
+    int lockedCount = jobEntityManager.bulkLockJobs(jobIds, asyncExecutor.getLockOwner(), gregorianCalendar.getTime());
+    Set<String> lockedJobIds = null;
+    if (lockedCount < jobIds.size()) {
+      lockedJobIds = new HashSet<String>(jobEntityManager.findJobIdsLockedByOwner(jobIds, asyncExecutor.getLockOwner()));
+    }
+
+    for (JobEntity job : jobs) {
+      if (lockedJobIds == null || lockedJobIds.contains(job.getId())) {
+        // Align the entity with the row updated by the bulk lock, and store that as its persistent state
+        // so it isn't flushed again at the end of this command.
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(gregorianCalendar.getTime());
+        job.setRevision(job.getRevisionNext());
+        commandContext.getEntityCache().put(job, true);
+        acquiredJobs.addJob(job);
+      }
+    }
+
+    return acquiredJobs;
+  }
+
+  public int getCandidateCount() {
+    return candidateCount;
+  }
+
+}
@@ -19,12 +19,14 @@ package org.activiti.engine.impl.cmd;
 import org.activiti.engine.ProcessEngineConfiguration;
 import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
+import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.activiti.engine.impl.persistence.entity.ResourceEntity;
 import org.activiti.engine.impl.repository.DeploymentBuilderImpl;
+import org.activiti.engine.impl.util.ContentHashUtil;
 import org.activiti.engine.repository.Deployment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -202,32 +204,48 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
     }
 
     private boolean deploymentsDifferDefault(DeploymentEntity deployment, DeploymentEntity saved) {
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
             return true;
         }
-        Map<String, ResourceEntity> resources = deployment.getResources();
-        Map<String, ResourceEntity> savedResources = saved.getResources();
 
-        for (String resourceName : resources.keySet()) {
-            ResourceEntity savedResource = savedResources.get(resourceName);
+        // Same content hash: no need to look at the saved resources at all
+        String contentHash = ContentHashUtil.hashResources(deployment.getResources());
+        if (contentHash != null && contentHash.equals(saved.getContentHash())) {
+            return false;
+        }
+
+        // The saved deployment may have more resources, or predate content hashes: compare per resource,
+        // loading the bytes only of saved resources without a stored hash
+        Map<String, ResourceEntity> savedResources = new HashMap<>();
+        for (ResourceEntity savedResource : Context.getCommandContext().getResourceEntityManager().findResourceContentHashesByDeploymentId(saved.getId())) {
+            savedResources.put(savedResource.getName(), savedResource);
+        }
+
+        for (ResourceEntity resource : deployment.getResources().values()) {
+            ResourceEntity savedResource = savedResources.get(resource.getName());
 
             if (savedResource == null) {
                 return true;
             }
 
-            if (!savedResource.isGenerated()) {
-                ResourceEntity resource = resources.get(resourceName);
-
-                byte[] bytes = resource.getBytes();
-                byte[] savedBytes = savedResource.getBytes();
-                if (!Arrays.equals(bytes, savedBytes)) {
-                    return true;
-                }
+            if (!savedResource.isGenerated() && !Objects.equals(resource.getContentHash(), getContentHash(saved, savedResource))) {
+                return true;
             }
         }
         return false;
     }
 
+    private String getContentHash(DeploymentEntity saved, ResourceEntity savedResource) {
+        String savedContentHash = savedResource.getContentHash();
+        if (savedContentHash == null) {
+            savedContentHash = Context.getCommandContext()
+                .getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(saved.getId(), savedResource.getName())
+                .getContentHash();
+        }
+        return savedContentHash;
+    }
+
     protected void scheduleProcessDefinitionActivation(CommandContext commandContext, DeploymentEntity deployment) {
         for (ProcessDefinitionEntity processDefinitionEntity : deployment.getDeployedArtifacts(ProcessDefinitionEntity.class)) {
 
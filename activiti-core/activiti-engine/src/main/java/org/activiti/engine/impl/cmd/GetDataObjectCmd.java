@@ -28,6 +28,7 @@ import org.activiti.engine.impl.DataObjectImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.activiti.engine.impl.util.ProcessDefinitionUtil;
@@ -37,7 +38,7 @@ import org.activiti.engine.runtime.Execution;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-public class GetDataObjectCmd implements Command<DataObject>, Serializable {
+public class GetDataObjectCmd implements Command<DataObject>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String executionId;
@@ -22,6 +22,7 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.runtime.Execution;
 
@@ -29,7 +30,7 @@ import org.activiti.engine.runtime.Execution;
 
 
  */
-public class GetExecutionVariableCmd implements Command<Object>, Serializable {
+public class GetExecutionVariableCmd implements Command<Object>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String executionId;
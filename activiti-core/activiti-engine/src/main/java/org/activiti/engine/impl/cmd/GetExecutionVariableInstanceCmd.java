@@ -22,11 +22,12 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.activiti.engine.runtime.Execution;
 
-public class GetExecutionVariableInstanceCmd implements Command<VariableInstance>, Serializable {
+public class GetExecutionVariableInstanceCmd implements Command<VariableInstance>, ReadOnlyVariablesCommand, Serializable {
 
     private static final long serialVersionUID = 1L;
     protected String executionId;
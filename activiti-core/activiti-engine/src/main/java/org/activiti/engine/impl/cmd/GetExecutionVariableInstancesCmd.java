@@ -25,11 +25,12 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.activiti.engine.runtime.Execution;
 
-public class GetExecutionVariableInstancesCmd implements Command<Map<String, VariableInstance>>, Serializable {
+public class GetExecutionVariableInstancesCmd implements Command<Map<String, VariableInstance>>, ReadOnlyVariablesCommand, Serializable {
 
     private static final long serialVersionUID = 1L;
     protected String executionId;
@@ -24,6 +24,7 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.runtime.Execution;
 
@@ -31,7 +32,7 @@ import org.activiti.engine.runtime.Execution;
 
 
  */
-public class GetExecutionVariablesCmd implements Command<Map<String, Object>>, Serializable {
+public class GetExecutionVariablesCmd implements Command<Map<String, Object>>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String executionId;
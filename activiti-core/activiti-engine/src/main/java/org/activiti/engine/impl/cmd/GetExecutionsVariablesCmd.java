@@ -24,13 +24,14 @@ import java.util.Set;
 import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 
 /**
 
  */
-public class GetExecutionsVariablesCmd implements Command<List<VariableInstance>>, Serializable{
+public class GetExecutionsVariablesCmd implements Command<List<VariableInstance>>, ReadOnlyVariablesCommand, Serializable{
 
   private static final long serialVersionUID = 1L;
   protected Set<String> executionIds;
@@ -29,6 +29,7 @@ import org.activiti.engine.impl.DataObjectImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
@@ -39,7 +40,7 @@ import org.activiti.engine.task.Task;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-public class GetTaskDataObjectCmd implements Command<DataObject>, Serializable {
+public class GetTaskDataObjectCmd implements Command<DataObject>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String taskId;
@@ -35,6 +35,7 @@ import org.activiti.engine.impl.DataObjectImpl;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
@@ -42,7 +43,7 @@ import org.activiti.engine.impl.util.ProcessDefinitionUtil;
 import org.activiti.engine.runtime.DataObject;
 import org.activiti.engine.task.Task;
 
-public class GetTaskDataObjectsCmd implements Command<Map<String, DataObject>>,
+public class GetTaskDataObjectsCmd implements Command<Map<String, DataObject>>, ReadOnlyVariablesCommand,
                                               Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -23,6 +23,7 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.task.Task;
 
@@ -30,7 +31,7 @@ import org.activiti.engine.task.Task;
 
 
  */
-public class GetTaskVariableCmd implements Command<Object>, Serializable {
+public class GetTaskVariableCmd implements Command<Object>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String taskId;
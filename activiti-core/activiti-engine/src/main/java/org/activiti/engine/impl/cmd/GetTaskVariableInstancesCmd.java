@@ -26,11 +26,12 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstance;
 import org.activiti.engine.task.Task;
 
-public class GetTaskVariableInstancesCmd implements Command<Map<String, VariableInstance>>, Serializable {
+public class GetTaskVariableInstancesCmd implements Command<Map<String, VariableInstance>>, ReadOnlyVariablesCommand, Serializable {
 
     private static final long serialVersionUID = 1L;
     protected String taskId;
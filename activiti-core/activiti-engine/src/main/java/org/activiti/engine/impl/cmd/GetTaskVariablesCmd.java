@@ -25,6 +25,7 @@ import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.task.Task;
 
@@ -32,7 +33,7 @@ import org.activiti.engine.task.Task;
 
 
  */
-public class GetTaskVariablesCmd implements Command<Map<String, Object>>, Serializable {
+public class GetTaskVariablesCmd implements Command<Map<String, Object>>, ReadOnlyVariablesCommand, Serializable {
 
   private static final long serialVersionUID = 1L;
   protected String taskId;
@@ -19,13 +19,23 @@ package org.activiti.engine.impl.cmd;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ActivitiObjectNotFoundException;
+import org.activiti.engine.impl.Page;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.activiti.engine.impl.persistence.entity.AbstractJobEntity;
 import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
 import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
+import org.activiti.engine.impl.persistence.entity.SuspendedJobEntity;
 import org.activiti.engine.runtime.Execution;
+import org.activiti.engine.runtime.Job;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +79,10 @@ public class SignalEventReceivedCmd implements Command<Void> {
 
     EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
     if (executionId == null) {
+      int chunkSize = commandContext.getProcessEngineConfiguration().getSignalBroadcastChunkSize();
+      if (!async && chunkSize > 0 && scheduleBroadcastChunks(commandContext, chunkSize)) {
+        return null;
+      }
       signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     } else {
 
@@ -100,4 +114,109 @@ public class SignalEventReceivedCmd implements Command<Void> {
     return null;
   }
 
+  /**
+   * Splits the broadcast in chunks of subscriptions, each delivered by a {@link SignalBroadcastJobHandler} job.
+   * Returns false, to deliver the signal in this transaction as usual, when all subscriptions fit in one chunk,
+   * when subscriptions to the signal were created in this transaction and aren't flushed yet (the chunks only
+   * see the database) or when the payload can't be serialized for the chunk jobs.
+   */
+  protected boolean scheduleBroadcastChunks(CommandContext commandContext, int chunkSize) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+
+    if (hasInsertedSignalEventSubscriptions(commandContext)) {
+      return false;
+    }
+
+    // Subscriptions created after the signal is thrown are not part of the broadcast, give or take a second:
+    // the bound is rounded up to the next second, as some databases (e.g. MariaDB, MSSQL) store the creation time
+    // without (exact) milliseconds and a subscription that existed when the signal was thrown must not be missed.
+    // A subscription committed by another transaction within that second can therefore still receive the signal.
+    long now = processEngineConfiguration.getClock().getCurrentTime().getTime();
+    Date createdBefore = new Date((now / 1000 + 1) * 1000);
+    if (eventSubscriptionEntityManager.findSignalEventSubscriptionIdsForBroadcast(eventName, tenantId, createdBefore, null, new Page(chunkSize, 1)).isEmpty()) {
+      return false;
+    }
+
+    byte[] serializedPayload = null;
+    if (payload != null && !payload.isEmpty()) {
+      serializedPayload = SignalBroadcastJobHandler.serializePayload(payload);
+      if (serializedPayload == null) {
+        return false;
+      }
+    }
+
+    // Keyset over the subscription ids: only the last id of every chunk is fetched, the last chunk is open ended
+    List<String> lastIds = new ArrayList<String>();
+    String afterId = null;
+    while (true) {
+      List<String> ids = eventSubscriptionEntityManager.findSignalEventSubscriptionIdsForBroadcast(eventName, tenantId, createdBefore, afterId, new Page(chunkSize - 1, 1));
+      if (ids.isEmpty()) {
+        lastIds.add(null);
+        break;
+      }
+      afterId = ids.get(0);
+      lastIds.add(afterId);
+    }
+
+    // The first chunks are executable, every other one is suspended and activated by the chunk 'parallelism' places before it.
+    // That makes 'parallelism' chains of chunks that execute one after the other, chunk i being part of chain i % parallelism.
+    // Created backwards, so the id of the chunk to activate is known when a chunk is created.
+    int parallelism = Math.max(1, processEngineConfiguration.getSignalBroadcastParallelism());
+    String[] jobIds = new String[lastIds.size()];
+    String[] chainPayloadIds = new String[Math.min(parallelism, lastIds.size())];
+    for (int i = lastIds.size() - 1; i >= 0; i--) {
+      // The payload is stored once per chain, the last chunk of a chain (the first one created) deletes it
+      String payloadId = null;
+      boolean deletePayload = false;
+      if (serializedPayload != null) {
+        int chain = i % parallelism;
+        if (chainPayloadIds[chain] == null) {
+          chainPayloadIds[chain] = SignalBroadcastJobHandler.storePayload(serializedPayload, commandContext);
+          deletePayload = true;
+        }
+        payloadId = chainPayloadIds[chain];
+      }
+      String nextJobId = i + parallelism < jobIds.length ? jobIds[i + parallelism] : null;
+      String configuration = SignalBroadcastJobHandler.createConfiguration(eventName, tenantId, createdBefore,
+          i > 0 ? lastIds.get(i - 1) : null, lastIds.get(i), payloadId, deletePayload, nextJobId);
+
+      if (i < parallelism) {
+        JobEntity job = commandContext.getJobEntityManager().create();
+        fillBroadcastChunkJob(job, configuration, processEngineConfiguration);
+        commandContext.getJobManager().scheduleAsyncJob(job);
+        jobIds[i] = job.getId();
+
+      } else {
+        SuspendedJobEntity job = commandContext.getSuspendedJobEntityManager().create();
+        fillBroadcastChunkJob(job, configuration, processEngineConfiguration);
+        commandContext.getSuspendedJobEntityManager().insert(job);
+        jobIds[i] = job.getId();
+      }
+    }
+
+    return true;
+  }
+
+  protected boolean hasInsertedSignalEventSubscriptions(CommandContext commandContext) {
+    for (SignalEventSubscriptionEntityImpl signalEventSubscriptionEntity : commandContext.getDbSqlSession().getInsertedObjects(SignalEventSubscriptionEntityImpl.class)) {
+      if (eventName.equals(signalEventSubscriptionEntity.getEventName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected void fillBroadcastChunkJob(AbstractJobEntity job, String configuration, ProcessEngineConfigurationImpl processEngineConfiguration) {
+    job.setJobType(Job.JOB_TYPE_MESSAGE);
+    job.setRevision(1);
+    job.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+    job.setExclusive(false);
+    job.setJobHandlerType(SignalBroadcastJobHandler.TYPE);
+    job.setJobHandlerConfiguration(configuration);
+    if (tenantId != null) {
+      job.setTenantId(tenantId);
+    }
+  }
+
 }
@@ -30,6 +30,7 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -61,12 +62,20 @@ import org.activiti.engine.impl.db.upgrade.DbUpgradeStep;
 import org.activiti.engine.impl.interceptor.Session;
 import org.activiti.engine.impl.persistence.cache.CachedEntity;
 import org.activiti.engine.impl.persistence.cache.EntityCache;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCache;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCacheInvalidationListener;
 import org.activiti.engine.impl.persistence.entity.Entity;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 import org.activiti.engine.impl.persistence.entity.PropertyEntity;
 import org.activiti.engine.impl.util.IoUtil;
 import org.activiti.engine.impl.util.ReflectUtil;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -147,10 +156,12 @@ public class DbSqlSession implements Session {
 
         /* Current */
         ACTIVITI_VERSIONS.add(new ActivitiVersion("8.0.0"));
+        ACTIVITI_VERSIONS.add(new ActivitiVersion("8.1.0"));
         ACTIVITI_VERSIONS.add(new ActivitiVersion(ProcessEngine.VERSION));
     }
 
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected EntityCache entityCache;
 
@@ -161,6 +172,7 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations
             = new HashMap<Class<? extends Entity>, List<BulkDeleteOperation>>();
     protected List<Entity> updatedObjects = new ArrayList<Entity>();
+    protected Set<Class<?>> sharedEntityCacheInvalidatedClasses = new HashSet<Class<?>>();
 
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -526,11 +538,65 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        invalidateSharedEntityCache();
+
         flushInserts();
         flushUpdates();
         flushDeletes();
     }
 
+    /**
+     * Marks all entities of the given class as stale in the {@link SharedEntityCache} when this session is flushed.
+     * Needed when entities are changed through a custom update statement instead of through an entity update.
+     */
+    public void invalidateSharedEntityCache(Class<? extends Entity> entityClass) {
+        sharedEntityCacheInvalidatedClasses.add(entityClass);
+    }
+
+    /**
+     * Removes the entities that are updated or deleted by this flush from the {@link SharedEntityCache}.
+     * This is done once now, and once more when the command context is closed (after the commit),
+     * as a concurrent command could have put the old state back in the cache in the meantime.
+     */
+    protected void invalidateSharedEntityCache() {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache == null) {
+            return;
+        }
+
+        List<Entity> invalidatedEntities = new ArrayList<Entity>();
+        for (Entity updatedObject : updatedObjects) {
+            if (sharedEntityCache.isCached(updatedObject.getClass())) {
+                invalidatedEntities.add(updatedObject);
+            }
+        }
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            for (Entity deletedObject : deletedObjectMap.values()) {
+                if (sharedEntityCache.isCached(deletedObject.getClass())) {
+                    invalidatedEntities.add(deletedObject);
+                }
+            }
+        }
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            if (sharedEntityCache.isCached(entityClass)) {
+                sharedEntityCacheInvalidatedClasses.add(entityClass);
+            }
+        }
+
+        if (invalidatedEntities.isEmpty() && sharedEntityCacheInvalidatedClasses.isEmpty()) {
+            return;
+        }
+
+        SharedEntityCacheInvalidationListener invalidationListener = new SharedEntityCacheInvalidationListener(sharedEntityCache,
+                                                                                                             invalidatedEntities,
+                                                                                                             new HashSet<Class<?>>(sharedEntityCacheInvalidatedClasses));
+        invalidationListener.invalidate();
+        if (Context.getCommandContext() != null) {
+            Context.getCommandContext().addCloseListener(invalidationListener);
+        }
+        sharedEntityCacheInvalidatedClasses.clear();
+    }
+
     /**
      * Clears all deleted and inserted objects from the cache,
      * and removes inserts and deletes that cancel each other.
@@ -634,6 +700,18 @@ public class DbSqlSession implements Session {
                 && deletedObjects.get(entity.getClass()).containsKey(entity.getId());
     }
 
+    /**
+     * Returns the entities of the given class that are inserted in this session but not flushed yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Collection<T> getInsertedObjects(Class<T> entityClass) {
+        Map<String, Entity> classInsertedObjects = insertedObjects.get(entityClass);
+        if (classInsertedObjects == null) {
+            return Collections.emptyList();
+        }
+        return (Collection<T>) classInsertedObjects.values();
+    }
+
     protected void flushInserts() {
 
         if (insertedObjects.size() == 0) {
@@ -841,13 +919,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (dbSqlSessionFactory.isBatchUpdateEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new ActivitiException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             log.debug("updating: {}",
                       updatedObject);
@@ -865,6 +943,53 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Groups the updated objects by mapped statement and sends them to the database
+     * as JDBC batches. The optimistic locking check is done afterwards, using the update
+     * count reported for every single statement of the batch.
+     */
+    protected void flushBatchUpdates() {
+        Map<String, List<Entity>> updatesByStatement = new LinkedHashMap<String, List<Entity>>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            if (!updatesByStatement.containsKey(updateStatement)) {
+                updatesByStatement.put(updateStatement,
+                                       new ArrayList<Entity>());
+            }
+            updatesByStatement.get(updateStatement).add(updatedObject);
+        }
+
+        SqlSession batchSession = getBatchSqlSession();
+        for (Map.Entry<String, List<Entity>> statementUpdates : updatesByStatement.entrySet()) {
+            for (Entity updatedObject : statementUpdates.getValue()) {
+                log.debug("updating (batched): {}",
+                          updatedObject);
+                batchSession.update(statementUpdates.getKey(),
+                                    updatedObject);
+            }
+        }
+        flushBatchStatements(batchSession,
+                             false);
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        for (Entity updatedObject : updatedObjects) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new ActivitiException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -904,12 +1029,13 @@ public class DbSqlSession implements Session {
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass,
                                        Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchUpdateEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new ActivitiException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -926,15 +1052,101 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Deletes all entities of one class in a single JDBC batch. The batch is flushed
+     * before returning, so the {@link EntityDependencyOrder#DELETE_ORDER} and the bulk
+     * deletes that follow on the regular session are still respected.
+     */
+    protected void flushBatchDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            log.debug("deleting (batched): {}",
+                      entity);
+            batchSession.delete(getMappedDeleteStatement(entity),
+                                entity);
+        }
+        flushBatchStatements(batchSession,
+                             true);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new ActivitiException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Executes the pending statements of the batch session and verifies the update count
+     * of every statement. Drivers that report {@link Statement#SUCCESS_NO_INFO} don't allow
+     * to detect a concurrent modification, so those counts are accepted as they are.
+     *
+     * @param onlyRevisionedEntities if true, only entities implementing {@link HasRevision} are checked
+     */
+    protected void flushBatchStatements(SqlSession batchSession,
+                                        boolean onlyRevisionedEntities) {
+        List<BatchResult> batchResults = batchSession.flushStatements();
+
+        // The batch session doesn't share the local cache of the regular session
+        sqlSession.clearCache();
+
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCounts[i] == 0 && (!onlyRevisionedEntities || parameterObject instanceof HasRevision)) {
+                    throw new ActivitiOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazily opens a MyBatis session with a {@link ExecutorType#BATCH} executor on the connection
+     * of the regular session, so batched statements take part in the same transaction.
+     * <p>
+     * The connection and the transaction are owned by the regular session: the batch session is
+     * opened on a {@link ManagedTransaction} that neither commits, rolls back nor closes the connection.
+     * It's committed, rolled back and closed together with the regular session, which releases
+     * its statements and local cache.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = dbSqlSessionFactory.getSqlSessionFactory().getConfiguration();
+            Executor batchExecutor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(),
+                                                                                      false),
+                                                               ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration,
+                                                    batchExecutor,
+                                                    false);
+        }
+        return batchSqlSession;
+    }
+
     public void close() {
-        sqlSession.close();
+        try {
+            if (batchSqlSession != null) {
+                batchSqlSession.close();
+            }
+        } finally {
+            sqlSession.close();
+        }
     }
 
     public void commit() {
+        if (batchSqlSession != null) {
+            batchSqlSession.commit();
+        }
         sqlSession.commit();
     }
 
     public void rollback() {
+        if (batchSqlSession != null) {
+            batchSqlSession.rollback();
+        }
         sqlSession.rollback();
     }
 
@@ -27,6 +27,7 @@ import org.activiti.engine.impl.cfg.IdGenerator;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.Session;
 import org.activiti.engine.impl.interceptor.SessionFactory;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCache;
 import org.activiti.engine.impl.persistence.entity.Entity;
 import org.activiti.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -70,6 +71,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
   protected boolean isDbHistoryUsed = true;
   protected int maxNrOfStatementsInBulkInsert = 100;
+  protected boolean isBatchUpdateEnabled;
+  protected SharedEntityCache sharedEntityCache;
 
   public Class<?> getSessionType() {
     return DbSqlSession.class;
@@ -323,4 +326,20 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
   }
 
+  public boolean isBatchUpdateEnabled() {
+    return isBatchUpdateEnabled;
+  }
+
+  public void setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+    this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+  }
+
+  public SharedEntityCache getSharedEntityCache() {
+    return sharedEntityCache;
+  }
+
+  public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+    this.sharedEntityCache = sharedEntityCache;
+  }
+
 }
@@ -26,6 +26,7 @@ public class ListQueryParameterObject {
   protected int firstResult;
   protected Object parameter;
   protected String databaseType;
+  protected String defaultOrderBy = "RES.ID_ asc";
 
   public ListQueryParameterObject() {
   }
@@ -73,7 +74,11 @@ public class ListQueryParameterObject {
 
   public String getOrderBy() {
     // the default order column
-    return "RES.ID_ asc";
+    return defaultOrderBy;
+  }
+
+  public void setDefaultOrderBy(String defaultOrderBy) {
+    this.defaultOrderBy = defaultOrderBy;
   }
 
   public String getOrderByColumns() {
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.activiti.engine.impl.db;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.activiti.engine.impl.cfg.IdGenerator;
+import org.activiti.engine.impl.cmd.GetNextIdBlockCmd;
+import org.activiti.engine.impl.interceptor.CommandConfig;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IdGenerator} that hands out ids from an {@link AtomicLong}, instead of synchronizing every call like the {@link DbIdGenerator}.
+ * <p>
+ * Id blocks are still reserved through the {@link GetNextIdBlockCmd}, so ids stay unique across all engines sharing the same ACT_GE_PROPERTY table.
+ * Once the {@link #getPrefetchThreshold()} part of the current block has been handed out, the next block is fetched in the background,
+ * so in the normal case no thread has to wait for a database round trip when a block runs out.
+ * <p>
+ * When the thread block size is bigger than 1, each thread reserves a sub-block of that size from the shared block and
+ * hands out ids from it without touching any shared state.
+ */
+public class StripedDbIdGenerator implements IdGenerator {
+
+  private static final Logger logger = LoggerFactory.getLogger(StripedDbIdGenerator.class);
+
+  protected int idBlockSize;
+  protected int threadBlockSize = 1;
+  protected double prefetchThreshold = 0.5;
+
+  protected CommandExecutor commandExecutor;
+  protected CommandConfig commandConfig;
+
+  protected volatile ActiveIdBlock currentBlock;
+
+  // guarded by blockLock
+  protected Future<IdBlock> prefetchedBlock;
+  protected ThreadPoolExecutor prefetchExecutor;
+  protected boolean isShutdown;
+  protected final Object blockLock = new Object();
+
+  protected final ThreadLocal<long[]> threadBlocks = ThreadLocal.withInitial(() -> new long[] {0, -1});
+
+  public String getNextId() {
+    if (threadBlockSize > 1) {
+      return Long.toString(getNextIdFromThreadBlock());
+    }
+
+    while (true) {
+      ActiveIdBlock block = currentBlock;
+      if (block != null) {
+        long id = block.nextId.getAndIncrement();
+        if (id <= block.lastId) {
+          if (id == block.prefetchId) {
+            prefetchNextBlock();
+          }
+          return Long.toString(id);
+        }
+      }
+      switchBlock(block);
+    }
+  }
+
+  protected long getNextIdFromThreadBlock() {
+    long[] threadBlock = threadBlocks.get();
+    if (threadBlock[0] > threadBlock[1]) {
+      reserveThreadBlock(threadBlock);
+    }
+    return threadBlock[0]++;
+  }
+
+  protected void reserveThreadBlock(long[] threadBlock) {
+    while (true) {
+      ActiveIdBlock block = currentBlock;
+      if (block != null) {
+        long firstId = block.nextId.getAndAdd(threadBlockSize);
+        if (firstId <= block.lastId) {
+          long lastId = Math.min(firstId + threadBlockSize - 1, block.lastId);
+          if (firstId <= block.prefetchId && block.prefetchId <= lastId) {
+            prefetchNextBlock();
+          }
+          threadBlock[0] = firstId;
+          threadBlock[1] = lastId;
+          return;
+        }
+      }
+      switchBlock(block);
+    }
+  }
+
+  /**
+   * Replaces the exhausted block by the prefetched one, or fetches a new block if none was prefetched (yet).
+   * Only the first thread noticing the exhausted block does the switch, the others just retry on the new block.
+   */
+  protected void switchBlock(ActiveIdBlock exhaustedBlock) {
+    synchronized (blockLock) {
+      if (currentBlock != exhaustedBlock) {
+        return;
+      }
+      IdBlock idBlock = takePrefetchedBlock();
+      if (idBlock == null) {
+        idBlock = fetchBlock();
+      }
+      currentBlock = new ActiveIdBlock(idBlock, prefetchThreshold);
+    }
+  }
+
+  protected IdBlock takePrefetchedBlock() {
+    Future<IdBlock> future = prefetchedBlock;
+    prefetchedBlock = null;
+    if (future == null) {
+      return null;
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.debug("Interrupted while waiting for the prefetched id block, fetching a new one");
+    } catch (ExecutionException e) {
+      logger.warn("Could not prefetch the next id block, fetching a new one", e.getCause());
+    }
+    return null;
+  }
+
+  protected void prefetchNextBlock() {
+    synchronized (blockLock) {
+      if (prefetchedBlock == null && !isShutdown) {
+        prefetchedBlock = getPrefetchExecutor().submit(this::fetchBlock);
+      }
+    }
+  }
+
+  protected IdBlock fetchBlock() {
+    return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+  }
+
+  protected ThreadPoolExecutor getPrefetchExecutor() {
+    if (prefetchExecutor == null) {
+      BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+          .namingPattern("activiti-id-block-prefetch-%d")
+          .daemon(true)
+          .build();
+      prefetchExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+      prefetchExecutor.allowCoreThreadTimeOut(true);
+    }
+    return prefetchExecutor;
+  }
+
+  /**
+   * Stops the background prefetching, called when the process engine closes. Ids can still be handed out afterwards:
+   * the blocks are then fetched by the calling thread.
+   */
+  public void shutdown() {
+    ThreadPoolExecutor executor;
+    synchronized (blockLock) {
+      isShutdown = true;
+      executor = prefetchExecutor;
+      prefetchExecutor = null;
+    }
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdown();
+    try {
+      if (executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        return;
+      }
+      logger.warn("Timeout while waiting for the id block prefetch to finish");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    executor.shutdownNow();
+    synchronized (blockLock) {
+      // A prefetch that was stopped half way may never complete
+      if (prefetchedBlock != null && !prefetchedBlock.isDone()) {
+        prefetchedBlock.cancel(true);
+        prefetchedBlock = null;
+      }
+    }
+  }
+
+  protected static class ActiveIdBlock {
+
+    protected final AtomicLong nextId;
+    protected final long lastId;
+    protected final long prefetchId;
+
+    public ActiveIdBlock(IdBlock idBlock, double prefetchThreshold) {
+      this.nextId = new AtomicLong(idBlock.getNextId());
+      this.lastId = idBlock.getLastId();
+      this.prefetchId = idBlock.getNextId() + (long) ((idBlock.getLastId() - idBlock.getNextId()) * prefetchThreshold);
+    }
+  }
+
+  public int getIdBlockSize() {
+    return idBlockSize;
+  }
+
+  public void setIdBlockSize(int idBlockSize) {
+    this.idBlockSize = idBlockSize;
+  }
+
+  public int getThreadBlockSize() {
+    return threadBlockSize;
+  }
+
+  public void setThreadBlockSize(int threadBlockSize) {
+    this.threadBlockSize = threadBlockSize;
+  }
+
+  public double getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
+  /**
+   * @param prefetchThreshold the part (between 0 and 1) of the current block that must be handed out before the next block is fetched
+   */
+  public void setPrefetchThreshold(double prefetchThreshold) {
+    this.prefetchThreshold = prefetchThreshold;
+  }
+
+  public CommandExecutor getCommandExecutor() {
+    return commandExecutor;
+  }
+
+  public void setCommandExecutor(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  public CommandConfig getCommandConfig() {
+    return commandConfig;
+  }
+
+  public void setCommandConfig(CommandConfig commandConfig) {
+    this.commandConfig = commandConfig;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.db.upgrade;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.activiti.engine.impl.db.DbSqlSession;
+import org.activiti.engine.impl.util.ContentHashUtil;
+
+/**
+ * Computes the content hashes of the resources and deployments stored before the hashes were introduced,
+ * so that duplicate filtering of deployments does not need to fall back to loading the resource bytes.
+ * The resources are read one deployment at a time.
+ */
+public class DbUpgradeStep810To820ComputeContentHashes implements DbUpgradeStep {
+
+  public void execute(DbSqlSession dbSqlSession) throws Exception {
+    Connection connection = dbSqlSession.getSqlSession().getConnection();
+    String tablePrefix = dbSqlSession.getDbSqlSessionFactory().getDatabaseTablePrefix();
+    String deploymentTable = tablePrefix + "ACT_RE_DEPLOYMENT";
+    String resourceTable = tablePrefix + "ACT_GE_BYTEARRAY";
+
+    List<String> deploymentIds = new ArrayList<String>();
+    try (PreparedStatement statement = connection.prepareStatement("select ID_ from " + deploymentTable + " where CONTENT_HASH_ is null");
+         ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        deploymentIds.add(resultSet.getString(1));
+      }
+    }
+
+    try (PreparedStatement selectResources = connection.prepareStatement("select ID_, NAME_, BYTES_, GENERATED_ from " + resourceTable + " where DEPLOYMENT_ID_ = ?");
+         PreparedStatement updateResource = connection.prepareStatement("update " + resourceTable + " set CONTENT_HASH_ = ? where ID_ = ?");
+         PreparedStatement updateDeployment = connection.prepareStatement("update " + deploymentTable + " set CONTENT_HASH_ = ? where ID_ = ?")) {
+
+      for (String deploymentId : deploymentIds) {
+        Map<String, String> resourceHashes = new TreeMap<String, String>();
+        selectResources.setString(1, deploymentId);
+        try (ResultSet resultSet = selectResources.executeQuery()) {
+          while (resultSet.next()) {
+            String contentHash = ContentHashUtil.hash(resultSet.getBytes(3));
+            if (contentHash == null) {
+              continue;
+            }
+            updateResource.setString(1, contentHash);
+            updateResource.setString(2, resultSet.getString(1));
+            updateResource.executeUpdate();
+
+            if (!resultSet.getBoolean(4)) {
+              resourceHashes.put(resultSet.getString(2), contentHash);
+            }
+          }
+        }
+
+        updateDeployment.setString(1, ContentHashUtil.hashResourceHashes(resourceHashes));
+        updateDeployment.setString(2, deploymentId);
+        updateDeployment.executeUpdate();
+      }
+    }
+  }
+
+}
@@ -37,6 +37,8 @@ import org.activiti.core.el.ReadOnlyMapELResolver;
 import org.activiti.engine.delegate.Expression;
 import org.activiti.engine.delegate.VariableScope;
 import org.activiti.engine.impl.bpmn.data.ItemInstance;
+import org.activiti.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.activiti.engine.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.activiti.engine.impl.persistence.entity.VariableScopeImpl;
 
 /**
@@ -52,10 +54,25 @@ import org.activiti.engine.impl.persistence.entity.VariableScopeImpl;
  */
 public class ExpressionManager {
 
+    /** Default maximal number of parsed expressions kept by {@link #createExpression(String)} */
+    public static final int DEFAULT_EXPRESSION_CACHE_LIMIT = 1024;
+
     protected ExpressionFactory expressionFactory;
     protected Map<Object, Object> beans;
     protected List<CustomFunctionProvider> customFunctionProviders;
 
+    /**
+     * Parsed expressions by expression text, shared by all threads: a parsed {@link ValueExpression} holds no
+     * evaluation state. Null when caching is disabled.
+     */
+    protected volatile ConcurrentDeploymentCache<ValueExpression> expressionCache = new ConcurrentDeploymentCache<ValueExpression>(DEFAULT_EXPRESSION_CACHE_LIMIT);
+
+    /**
+     * The stateless base resolvers, created once: they are shared by all EL contexts, so the {@link BeanELResolver}
+     * keeps its cache of bean properties.
+     */
+    protected volatile ELResolver baseElResolver;
+
     public ExpressionManager() {
         this(null);
     }
@@ -81,15 +98,27 @@ public class ExpressionManager {
     }
 
     public Expression createExpression(String expression) {
-        ValueExpression valueExpression = expressionFactory.createValueExpression(getElContext(Collections.emptyMap()),
-            expression.trim(),
-            Object.class);
+        String expressionText = expression.trim();
+        ConcurrentDeploymentCache<ValueExpression> cache = expressionCache;
+
+        ValueExpression valueExpression = cache != null ? cache.get(expressionText) : null;
+        if (valueExpression == null) {
+            long start = System.nanoTime();
+            valueExpression = expressionFactory.createValueExpression(getElContext(Collections.emptyMap()),
+                expressionText,
+                Object.class);
+            if (cache != null) {
+                cache.recordLoad(System.nanoTime() - start);
+                cache.add(expressionText, valueExpression);
+            }
+        }
         return new JuelExpression(valueExpression,
             expression);
     }
 
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        clearExpressionCache();
     }
 
     public List<CustomFunctionProvider> getCustomFunctionProviders() {
@@ -98,6 +127,30 @@ public class ExpressionManager {
 
     public void setCustomFunctionProviders(List<CustomFunctionProvider> customFunctionProviders) {
         this.customFunctionProviders = customFunctionProviders;
+        // Functions are bound when parsing
+        clearExpressionCache();
+    }
+
+    /**
+     * Sets the maximal number of parsed expressions kept by {@link #createExpression(String)}. 0 disables the cache.
+     */
+    public void setExpressionCacheLimit(int expressionCacheLimit) {
+        this.expressionCache = expressionCacheLimit > 0 ? new ConcurrentDeploymentCache<ValueExpression>(expressionCacheLimit) : null;
+    }
+
+    public void clearExpressionCache() {
+        ConcurrentDeploymentCache<ValueExpression> cache = expressionCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return hits, misses, evictions and parse times of the expression cache, or null when the cache is disabled
+     */
+    public DeploymentCacheStatistics getExpressionCacheStatistics() {
+        ConcurrentDeploymentCache<ValueExpression> cache = expressionCache;
+        return cache != null ? cache.getStatistics() : null;
     }
 
     public ELContext getElContext(VariableScope variableScope) {
@@ -139,14 +192,21 @@ public class ExpressionManager {
     }
 
     private void addBaseResolvers(CompositeELResolver elResolver) {
-        elResolver.add(new ArrayELResolver());
-        elResolver.add(new ListELResolver());
-        elResolver.add(new MapELResolver());
-        elResolver.add(new CustomMapperJsonNodeELResolver());
-        elResolver.add(new DynamicBeanPropertyELResolver(ItemInstance.class,
-                                                         "getFieldValue",
-                                                         "setFieldValue")); // TODO: needs verification
-        elResolver.add(new ELResolverReflectionBlockerDecorator(new BeanELResolver()));
+        ELResolver resolver = baseElResolver;
+        if (resolver == null) {
+            CompositeELResolver baseResolvers = new CompositeELResolver();
+            baseResolvers.add(new ArrayELResolver());
+            baseResolvers.add(new ListELResolver());
+            baseResolvers.add(new MapELResolver());
+            baseResolvers.add(new CustomMapperJsonNodeELResolver());
+            baseResolvers.add(new DynamicBeanPropertyELResolver(ItemInstance.class,
+                                                                "getFieldValue",
+                                                                "setFieldValue")); // TODO: needs verification
+            baseResolvers.add(new ELResolverReflectionBlockerDecorator(new BeanELResolver()));
+            resolver = baseResolvers;
+            baseElResolver = resolver;
+        }
+        elResolver.add(resolver);
     }
 
     public Map<Object, Object> getBeans() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.activiti.engine.impl.cfg.TransactionListener;
+import org.activiti.engine.impl.cfg.TransactionState;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the event log entries while the command context closes, but only hands them to the
+ * {@link AsyncEventLogWriter} once the transaction has committed: the transaction itself does not insert anything.
+ * The hand over is a {@link TransactionState#COMMITTED} listener rather than {@link #closed(CommandContext)},
+ * as with a transaction managed outside of the engine (e.g. Spring) the command context closes before the commit.
+ */
+public class AsyncDatabaseEventFlusher extends AbstractEventFlusher {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncDatabaseEventFlusher.class);
+
+  protected AsyncEventLogWriter eventLogWriter;
+
+  public AsyncDatabaseEventFlusher(AsyncEventLogWriter eventLogWriter) {
+    this.eventLogWriter = eventLogWriter;
+  }
+
+  @Override
+  public void closing(CommandContext commandContext) {
+
+    if (commandContext.getException() != null) {
+      return; // Not interested in events about exceptions
+    }
+
+    final List<EventLogEntryEntity> eventLogEntries = new ArrayList<EventLogEntryEntity>(eventHandlers.size());
+    for (EventLoggerEventHandler eventHandler : eventHandlers) {
+      try {
+        eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+      } catch (Exception e) {
+        logger.warn("Could not create event log", e);
+      }
+    }
+
+    if (!eventLogEntries.isEmpty()) {
+      Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+        @Override
+        public void execute(CommandContext commandContext) {
+          eventLogWriter.add(eventLogEntries);
+        }
+      });
+    }
+  }
+
+  public void afterSessionsFlush(CommandContext commandContext) {
+
+  }
+
+  public void closeFailure(CommandContext commandContext) {
+
+  }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.activiti.engine.impl.interceptor.CommandConfig;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.activiti.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes event log entries to the database on a background thread, in batches, after the transactions that produced
+ * them have committed.
+ *
+ * Entries wait in a bounded queue. What happens when it is full is decided by the {@link OverflowStrategy}.
+ * The batches are inserted in their own transaction, using the bulk insert of the {@link org.activiti.engine.impl.db.DbSqlSession}.
+ *
+ * Entries that are still queued are lost when the JVM stops abruptly: use the default {@link DatabaseEventFlusher}
+ * when every entry must be written together with its transaction.
+ */
+public class AsyncEventLogWriter {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+  public enum OverflowStrategy {
+
+    /** The committing thread waits until there is room in the queue */
+    BLOCK,
+
+    /** The entry is dropped */
+    DISCARD,
+
+    /** The committing thread writes the entry itself, in a new transaction */
+    CALLER_WRITES
+
+  }
+
+  protected int queueSize;
+  protected int batchSize;
+  protected OverflowStrategy overflowStrategy = OverflowStrategy.CALLER_WRITES;
+  protected boolean drainOnShutdown = true;
+  protected boolean atLeastOnce;
+  protected long retryWaitTimeInMillis = 1000L;
+  protected long pollIntervalInMillis = 100L;
+
+  protected BlockingQueue<EventLogEntryEntity> queue;
+  protected CommandExecutor commandExecutor;
+  protected Thread writerThread;
+  protected volatile boolean active;
+  // Held (shared) while entries are queued and (exclusive) while the writer is deactivated,
+  // so no entry is queued once the writer thread may have stopped draining the queue
+  protected final ReadWriteLock activeLock = new ReentrantReadWriteLock();
+  protected final AtomicLong discardedEntryCount = new AtomicLong();
+
+  public AsyncEventLogWriter(int queueSize, int batchSize) {
+    this.queueSize = queueSize;
+    this.batchSize = batchSize;
+  }
+
+  public synchronized void start(CommandExecutor commandExecutor) {
+    if (active) {
+      return;
+    }
+
+    this.commandExecutor = commandExecutor;
+    this.queue = new ArrayBlockingQueue<EventLogEntryEntity>(queueSize);
+    this.active = true;
+
+    writerThread = new Thread(this::writeEntries, "activiti-event-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+    logger.info("Started asynchronous event log writer (queue size {}, batch size {})", queueSize, batchSize);
+  }
+
+  public synchronized void shutdown() {
+    if (!active) {
+      return;
+    }
+
+    activeLock.writeLock().lock();
+    try {
+      active = false;
+    } finally {
+      activeLock.writeLock().unlock();
+    }
+
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted while waiting for the event log writer to stop");
+    }
+    writerThread = null;
+
+    if (!queue.isEmpty()) {
+      logger.warn("{} event log entries were not written at shutdown", queue.size());
+      queue.clear();
+    }
+  }
+
+  /**
+   * Queues entries of a committed transaction. When the writer is not running, the entries are written right away.
+   */
+  public void add(List<EventLogEntryEntity> eventLogEntries) {
+    List<EventLogEntryEntity> callerWrittenEntries = null;
+
+    activeLock.readLock().lock();
+    try {
+      if (active) {
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+          if (!queue.offer(eventLogEntry) && !handleOverflow(eventLogEntry)) {
+            if (callerWrittenEntries == null) {
+              callerWrittenEntries = new ArrayList<EventLogEntryEntity>();
+            }
+            callerWrittenEntries.add(eventLogEntry);
+          }
+        }
+      } else {
+        callerWrittenEntries = eventLogEntries;
+      }
+    } finally {
+      activeLock.readLock().unlock();
+    }
+
+    // Written outside of the lock, so a shutdown doesn't wait for these transactions
+    if (callerWrittenEntries != null) {
+      if (commandExecutor != null) {
+        writeBatch(callerWrittenEntries);
+      } else {
+        logger.warn("The event log writer was never started, {} event log entries are not written", callerWrittenEntries.size());
+      }
+    }
+  }
+
+  /**
+   * Handles an entry that doesn't fit in the queue. Returns false when the calling thread has to write it.
+   */
+  protected boolean handleOverflow(EventLogEntryEntity eventLogEntry) {
+    switch (overflowStrategy) {
+      case BLOCK:
+        // The writer thread keeps draining the queue: it can't stop while this thread holds the read lock
+        try {
+          queue.put(eventLogEntry);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          discard(eventLogEntry);
+        }
+        return true;
+      case DISCARD:
+        discard(eventLogEntry);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  protected void discard(EventLogEntryEntity eventLogEntry) {
+    if (discardedEntryCount.getAndIncrement() == 0) {
+      logger.warn("The event log queue is full, event log entries are discarded");
+    }
+    logger.debug("Discarded event log entry of type {}", eventLogEntry.getType());
+  }
+
+  protected void writeEntries() {
+    List<EventLogEntryEntity> batch = new ArrayList<EventLogEntryEntity>(batchSize);
+    while (active || (drainOnShutdown && !queue.isEmpty())) {
+      try {
+        EventLogEntryEntity eventLogEntry = queue.poll(pollIntervalInMillis, TimeUnit.MILLISECONDS);
+        if (eventLogEntry != null) {
+          batch.add(eventLogEntry);
+          queue.drainTo(batch, batchSize - 1);
+          writeBatch(batch);
+          batch.clear();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Throwable t) {
+        logger.error("Unexpected exception in the event log writer", t);
+        batch.clear();
+      }
+    }
+  }
+
+  protected void writeBatch(List<EventLogEntryEntity> batch) {
+    while (true) {
+      try {
+        commandExecutor.execute(new CommandConfig().transactionRequiresNew(), commandContext -> {
+          EventLogEntryEntityManager eventLogEntryEntityManager = commandContext.getEventLogEntryEntityManager();
+          for (EventLogEntryEntity eventLogEntry : batch) {
+            eventLogEntryEntityManager.insert(eventLogEntry, false);
+          }
+          return null;
+        });
+        return;
+      } catch (Exception e) {
+        if (!atLeastOnce || !active) {
+          logger.warn("Could not write {} event log entries", batch.size(), e);
+          return;
+        }
+
+        logger.warn("Could not write {} event log entries, retrying in {} ms", batch.size(), retryWaitTimeInMillis, e);
+        try {
+          Thread.sleep(retryWaitTimeInMillis);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public int getQueuedEntryCount() {
+    return queue != null ? queue.size() : 0;
+  }
+
+  public long getDiscardedEntryCount() {
+    return discardedEntryCount.get();
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public OverflowStrategy getOverflowStrategy() {
+    return overflowStrategy;
+  }
+
+  public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+    this.overflowStrategy = overflowStrategy;
+  }
+
+  public boolean isDrainOnShutdown() {
+    return drainOnShutdown;
+  }
+
+  /**
+   * Whether the entries still queued are written before {@link #shutdown()} returns. True by default.
+   */
+  public void setDrainOnShutdown(boolean drainOnShutdown) {
+    this.drainOnShutdown = drainOnShutdown;
+  }
+
+  public boolean isAtLeastOnce() {
+    return atLeastOnce;
+  }
+
+  /**
+   * When true, a batch that could not be written is retried until it succeeds or the writer is shut down, instead of
+   * being dropped. A batch whose commit outcome is unknown can then be written twice.
+   */
+  public void setAtLeastOnce(boolean atLeastOnce) {
+    this.atLeastOnce = atLeastOnce;
+  }
+
+  public long getRetryWaitTimeInMillis() {
+    return retryWaitTimeInMillis;
+  }
+
+  public void setRetryWaitTimeInMillis(long retryWaitTimeInMillis) {
+    this.retryWaitTimeInMillis = retryWaitTimeInMillis;
+  }
+
+}
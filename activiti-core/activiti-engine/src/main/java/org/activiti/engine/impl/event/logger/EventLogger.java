@@ -59,6 +59,9 @@ public class EventLogger implements ActivitiEventListener {
     protected Clock clock;
     protected ObjectMapper objectMapper;
 
+    // Writes the entries after commit when set, instead of inside the transaction
+    protected AsyncEventLogWriter eventLogWriter;
+
     // Mapping of type -> handler
     protected Map<ActivitiEventType, Class<? extends EventLoggerEventHandler>> eventHandlers
         = new HashMap<ActivitiEventType, Class<? extends EventLoggerEventHandler>>();
@@ -76,6 +79,11 @@ public class EventLogger implements ActivitiEventListener {
         this.objectMapper = objectMapper;
     }
 
+    public EventLogger(Clock clock, ObjectMapper objectMapper, AsyncEventLogWriter eventLogWriter) {
+        this(clock, objectMapper);
+        this.eventLogWriter = eventLogWriter;
+    }
+
     protected void initializeDefaultHandlers() {
         addEventHandler(ActivitiEventType.TASK_CREATED, TaskCreatedEventHandler.class);
         addEventHandler(ActivitiEventType.TASK_COMPLETED, TaskCompletedEventHandler.class);
@@ -210,6 +218,9 @@ public class EventLogger implements ActivitiEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (eventLogWriter != null) {
+            return new AsyncDatabaseEventFlusher(eventLogWriter);
+        }
         return null;
     }
 
@@ -229,6 +240,14 @@ public class EventLogger implements ActivitiEventListener {
         this.objectMapper = objectMapper;
     }
 
+    public AsyncEventLogWriter getEventLogWriter() {
+        return eventLogWriter;
+    }
+
+    public void setEventLogWriter(AsyncEventLogWriter eventLogWriter) {
+        this.eventLogWriter = eventLogWriter;
+    }
+
     public List<EventLoggerListener> getListeners() {
         return listeners;
     }
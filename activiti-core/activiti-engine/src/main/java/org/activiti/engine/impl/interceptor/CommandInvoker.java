@@ -59,6 +59,7 @@ public class CommandInvoker extends AbstractCommandInterceptor {
     while (!commandContext.getAgenda().isEmpty()) {
       Runnable runnable = commandContext.getAgenda().getNextOperation();
       executeOperation(runnable);
+      commandContext.getAgenda().operationExecuted(runnable);
     }
   }
 
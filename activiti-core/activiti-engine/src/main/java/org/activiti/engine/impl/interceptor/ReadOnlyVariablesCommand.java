@@ -0,0 +1,29 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.interceptor;
+
+/**
+ * Marks a {@link Command} that only reads variables to hand them back to its caller.
+ *
+ * Changes the caller makes to such values happen after the command context is closed and are never saved, so the
+ * {@link org.activiti.engine.impl.variable.SerializableType} does not check the objects it deserializes for such a command when the context closes.
+ * This only applies when the command owns its command context: a command reusing the context of another one keeps
+ * the checks of that outer command.
+ */
+public interface ReadOnlyVariablesCommand {
+
+}
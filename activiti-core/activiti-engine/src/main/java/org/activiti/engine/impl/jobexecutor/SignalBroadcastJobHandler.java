@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.jobexecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.AbstractJobEntity;
+import org.activiti.engine.impl.persistence.entity.ByteArrayEntity;
+import org.activiti.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.JobEntity;
+import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.activiti.engine.impl.persistence.entity.SuspendedJobEntity;
+import org.activiti.engine.impl.util.IoUtil;
+import org.activiti.engine.impl.util.ReflectUtil;
+import org.activiti.engine.impl.util.json.JSONObject;
+
+/**
+ * Delivers a signal to one chunk of the subscriptions of a broadcast: the subscriptions with an id after
+ * {@value #PROPERTYNAME_AFTER_ID} and up to {@value #PROPERTYNAME_LAST_ID} that existed when the signal was thrown.
+ *
+ * When the chunk is done, the suspended chunk job referenced by {@value #PROPERTYNAME_NEXT_JOB_ID} is activated,
+ * which keeps the number of chunks executing at the same time at the configured broadcast parallelism.
+ * A chunk that ends up as a dead letter job activates it right away, see {@link #detachDeadLetterChunk}.
+ *
+ * The chunks activating each other form a chain, which shares the payload stored under {@value #PROPERTYNAME_PAYLOAD_ID}.
+ * The last chunk of the chain has {@value #PROPERTYNAME_DELETE_PAYLOAD} set and deletes it.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+  public static final String TYPE = "signal-broadcast";
+
+  public static final String PROPERTYNAME_SIGNAL_NAME = "signalName";
+  public static final String PROPERTYNAME_TENANT_ID = "tenantId";
+  public static final String PROPERTYNAME_CREATED_BEFORE = "createdBefore";
+  public static final String PROPERTYNAME_AFTER_ID = "afterId";
+  public static final String PROPERTYNAME_LAST_ID = "lastId";
+  public static final String PROPERTYNAME_PAYLOAD_ID = "payloadId";
+  public static final String PROPERTYNAME_DELETE_PAYLOAD = "deletePayload";
+  public static final String PROPERTYNAME_NEXT_JOB_ID = "nextJobId";
+
+  protected static final String PAYLOAD_BYTE_ARRAY_NAME = "signal-broadcast-payload";
+
+  public String getType() {
+    return TYPE;
+  }
+
+  public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+    JSONObject cfgJson = new JSONObject(configuration);
+    String signalName = cfgJson.getString(PROPERTYNAME_SIGNAL_NAME);
+    String tenantId = cfgJson.optString(PROPERTYNAME_TENANT_ID, null);
+    Date createdBefore = new Date(cfgJson.getLong(PROPERTYNAME_CREATED_BEFORE));
+    String afterId = cfgJson.optString(PROPERTYNAME_AFTER_ID, null);
+    String lastId = cfgJson.optString(PROPERTYNAME_LAST_ID, null);
+
+    Map<String, Object> payload = null;
+    ByteArrayEntity payloadByteArray = null;
+    String payloadId = cfgJson.optString(PROPERTYNAME_PAYLOAD_ID, null);
+    if (payloadId != null) {
+      payloadByteArray = commandContext.getByteArrayEntityManager().findById(payloadId);
+      if (payloadByteArray != null) {
+        payload = deserializePayload(payloadByteArray);
+      }
+    }
+
+    EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+    List<SignalEventSubscriptionEntity> signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsForBroadcast(signalName, tenantId, createdBefore, afterId, lastId);
+    for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
+      // Same as a synchronous broadcast: only globally scoped signals
+      if (signalEventSubscriptionEntity.isGlobalScoped()) {
+        eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, payload, false);
+      }
+    }
+
+    if (payloadByteArray != null && cfgJson.optBoolean(PROPERTYNAME_DELETE_PAYLOAD, false)) {
+      commandContext.getByteArrayEntityManager().delete(payloadByteArray);
+    }
+
+    String nextJobId = cfgJson.optString(PROPERTYNAME_NEXT_JOB_ID, null);
+    if (nextJobId != null) {
+      SuspendedJobEntity nextJob = commandContext.getSuspendedJobEntityManager().findById(nextJobId);
+      if (nextJob != null) {
+        commandContext.getJobManager().activateSuspendedJob(nextJob);
+      }
+    }
+  }
+
+  /**
+   * Called when a chunk job is moved to the dead letter jobs, before the dead letter job is inserted.
+   * The chunk won't activate its successor anymore, so that is done now, which keeps the rest of the chain going.
+   * The chain deletes its shared payload when its last chunk is done, so the dead letter chunk gets a copy of its own.
+   */
+  public static void detachDeadLetterChunk(AbstractJobEntity deadLetterJob, CommandContext commandContext) {
+    JSONObject cfgJson = new JSONObject(deadLetterJob.getJobHandlerConfiguration());
+
+    String nextJobId = cfgJson.optString(PROPERTYNAME_NEXT_JOB_ID, null);
+    if (nextJobId != null) {
+      SuspendedJobEntity nextJob = commandContext.getSuspendedJobEntityManager().findById(nextJobId);
+      if (nextJob != null) {
+        commandContext.getJobManager().activateSuspendedJob(nextJob);
+      }
+      cfgJson.remove(PROPERTYNAME_NEXT_JOB_ID);
+    }
+
+    String payloadId = cfgJson.optString(PROPERTYNAME_PAYLOAD_ID, null);
+    if (payloadId != null && !cfgJson.optBoolean(PROPERTYNAME_DELETE_PAYLOAD, false)) {
+      ByteArrayEntity payloadByteArray = commandContext.getByteArrayEntityManager().findById(payloadId);
+      if (payloadByteArray != null) {
+        cfgJson.put(PROPERTYNAME_PAYLOAD_ID, storePayload(payloadByteArray.getBytes(), commandContext));
+        cfgJson.put(PROPERTYNAME_DELETE_PAYLOAD, true);
+      } else {
+        cfgJson.remove(PROPERTYNAME_PAYLOAD_ID);
+      }
+    }
+
+    deadLetterJob.setJobHandlerConfiguration(cfgJson.toString());
+  }
+
+  public static String createConfiguration(String signalName, String tenantId, Date createdBefore, String afterId, String lastId,
+      String payloadId, boolean deletePayload, String nextJobId) {
+    JSONObject cfgJson = new JSONObject();
+    cfgJson.put(PROPERTYNAME_SIGNAL_NAME, signalName);
+    cfgJson.put(PROPERTYNAME_CREATED_BEFORE, createdBefore.getTime());
+    if (tenantId != null) {
+      cfgJson.put(PROPERTYNAME_TENANT_ID, tenantId);
+    }
+    if (afterId != null) {
+      cfgJson.put(PROPERTYNAME_AFTER_ID, afterId);
+    }
+    if (lastId != null) {
+      cfgJson.put(PROPERTYNAME_LAST_ID, lastId);
+    }
+    if (payloadId != null) {
+      cfgJson.put(PROPERTYNAME_PAYLOAD_ID, payloadId);
+      if (deletePayload) {
+        cfgJson.put(PROPERTYNAME_DELETE_PAYLOAD, true);
+      }
+    }
+    if (nextJobId != null) {
+      cfgJson.put(PROPERTYNAME_NEXT_JOB_ID, nextJobId);
+    }
+    return cfgJson.toString();
+  }
+
+  /**
+   * Stores the serialized payload of a broadcast for a chain of chunk jobs and returns the id of the byte array.
+   */
+  public static String storePayload(byte[] serializedPayload, CommandContext commandContext) {
+    ByteArrayEntityManager byteArrayEntityManager = commandContext.getByteArrayEntityManager();
+    ByteArrayEntity byteArray = byteArrayEntityManager.create();
+    byteArray.setName(PAYLOAD_BYTE_ARRAY_NAME);
+    byteArray.setBytes(serializedPayload);
+    byteArrayEntityManager.insert(byteArray);
+    return byteArray.getId();
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Map<String, Object> deserializePayload(ByteArrayEntity byteArray) {
+    ObjectInputStream ois = null;
+    try {
+      ois = new ObjectInputStream(new ByteArrayInputStream(byteArray.getBytes())) {
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+          return ReflectUtil.loadClass(desc.getName());
+        }
+      };
+      return (Map<String, Object>) ois.readObject();
+    } catch (Exception e) {
+      throw new ActivitiException("Couldn't deserialize the payload of signal broadcast chunk " + byteArray.getId(), e);
+    } finally {
+      IoUtil.closeSilently(ois);
+    }
+  }
+
+  /**
+   * Returns the serialized payload, or null when one of its values cannot be serialized.
+   */
+  public static byte[] serializePayload(Map<String, Object> payload) {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ObjectOutputStream oos = null;
+    try {
+      oos = new ObjectOutputStream(baos);
+      oos.writeObject(payload);
+    } catch (IOException e) {
+      return null;
+    } finally {
+      IoUtil.closeSilently(oos);
+    }
+    return baos.toByteArray();
+  }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.persistence;
+
+import org.activiti.engine.api.internal.Internal;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
+import org.activiti.engine.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that can only retain entities with a given value for an {@link EntityCacheIndex}.
+ * Only the cached entities with that value are then checked, instead of all cached entities of the type.
+ */
+@Internal
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+  EntityCacheIndex<?> getIndex();
+
+  /**
+   * Returns the value of {@link #getIndex()} the retained entities have for the given query parameter,
+   * or null if it can't be determined (in which case all cached entities are checked).
+   */
+  String getIndexedValue(Object param);
+
+}
@@ -71,4 +71,18 @@ public interface EntityCache extends Session {
    */
   void cacheRemove(Class<?> entityClass, String entityId);
 
+  /**
+   * Returns the {@link CachedEntity} instances of the given type of which the value for the given {@link EntityCacheIndex} is the provided value.
+   * Returns null if the entities of the given type aren't indexed by that index, in which case all cached entities of the type must be checked.
+   */
+  default <T> Collection<CachedEntity> findInCacheByIndex(Class<T> entityClass, EntityCacheIndex<?> index, String indexedValue) {
+    return null;
+  }
+
+  /**
+   * Updates the {@link EntityCacheIndex} entries of the given {@link Entity}, if it is cached, after one of its indexed values was changed.
+   */
+  default void reindex(Entity entity) {
+  }
+
 }
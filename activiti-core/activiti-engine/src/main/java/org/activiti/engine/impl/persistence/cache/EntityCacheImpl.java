@@ -21,8 +21,10 @@ import static java.util.Collections.emptyList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.activiti.engine.impl.persistence.entity.Entity;
 
@@ -33,15 +35,36 @@ public class EntityCacheImpl implements EntityCache {
 
   protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<Class<?>, Map<String,CachedEntity>>();
 
+  protected List<EntityCacheIndex<?>> indexDefinitions = EntityCacheIndex.DEFAULT_INDEXES;
+
+  /**
+   * The secondary indexes of each cached entity class (an empty list if no index applies to the class).
+   */
+  protected Map<Class<?>, List<IndexedEntities>> indexes = new HashMap<Class<?>, List<IndexedEntities>>();
+
+  /**
+   * The cached class found by {@link #findClassCacheByCheckingSubclasses(Class)} for a type that isn't cached as such,
+   * or null if there is none. Cleared when a new class is cached, as that could change the outcome.
+   */
+  protected Map<Class<?>, Class<?>> resolvedSubclasses = new HashMap<Class<?>, Class<?>>();
+
   @Override
   public CachedEntity put(Entity entity, boolean storeState) {
     Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
     if (classCache == null) {
       classCache = new HashMap<String, CachedEntity>();
       cachedObjects.put(entity.getClass(), classCache);
+      resolvedSubclasses.clear();
     }
     CachedEntity cachedObject = new CachedEntity(entity, storeState);
-    classCache.put(entity.getId(), cachedObject);
+    CachedEntity previousCachedObject = classCache.put(entity.getId(), cachedObject);
+
+    for (IndexedEntities indexedEntities : getIndexes(entity.getClass())) {
+      if (previousCachedObject != null) {
+        indexedEntities.remove(entity.getId());
+      }
+      indexedEntities.add(entity.getId(), cachedObject);
+    }
     return cachedObject;
   }
 
@@ -67,12 +90,20 @@ public class EntityCacheImpl implements EntityCache {
   }
 
   protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
-    for (Class<?> clazz : cachedObjects.keySet()) {
-      if (entityClass.isAssignableFrom(clazz)) {
-        return cachedObjects.get(clazz);
+    Class<?> resolvedClass;
+    if (resolvedSubclasses.containsKey(entityClass)) {
+      resolvedClass = resolvedSubclasses.get(entityClass);
+    } else {
+      resolvedClass = null;
+      for (Class<?> clazz : cachedObjects.keySet()) {
+        if (entityClass.isAssignableFrom(clazz)) {
+          resolvedClass = clazz;
+          break;
+        }
       }
+      resolvedSubclasses.put(entityClass, resolvedClass);
     }
-    return null;
+    return resolvedClass != null ? cachedObjects.get(resolvedClass) : null;
   }
 
   @Override
@@ -81,7 +112,11 @@ public class EntityCacheImpl implements EntityCache {
     if (classCache == null) {
       return;
     }
-    classCache.remove(entityId);
+    if (classCache.remove(entityId) != null) {
+      for (IndexedEntities indexedEntities : getIndexes(entityClass)) {
+        indexedEntities.remove(entityId);
+      }
+    }
   }
 
   @Override
@@ -113,10 +148,67 @@ public class EntityCacheImpl implements EntityCache {
     return emptyList();
   }
 
+  @Override
+  public <T> Collection<CachedEntity> findInCacheByIndex(Class<T> entityClass, EntityCacheIndex<?> index, String indexedValue) {
+    if (!cachedObjects.containsKey(entityClass)) {
+      return null;
+    }
+    for (IndexedEntities indexedEntities : getIndexes(entityClass)) {
+      if (indexedEntities.index == index) {
+        return indexedEntities.get(indexedValue);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void reindex(Entity entity) {
+    Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+    if (classCache == null || entity.getId() == null) {
+      return;
+    }
+    CachedEntity cachedObject = classCache.get(entity.getId());
+    if (cachedObject != null && cachedObject.getEntity() == entity) {
+      for (IndexedEntities indexedEntities : getIndexes(entity.getClass())) {
+        indexedEntities.update(entity.getId(), cachedObject);
+      }
+    }
+  }
+
+  protected List<IndexedEntities> getIndexes(Class<?> entityClass) {
+    List<IndexedEntities> classIndexes = indexes.get(entityClass);
+    if (classIndexes == null) {
+      classIndexes = new ArrayList<IndexedEntities>(1);
+      for (EntityCacheIndex<?> index : indexDefinitions) {
+        if (index.appliesTo(entityClass)) {
+          IndexedEntities indexedEntities = new IndexedEntities(index);
+          Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+          if (classCache != null) {
+            for (Map.Entry<String, CachedEntity> entry : classCache.entrySet()) {
+              indexedEntities.add(entry.getKey(), entry.getValue());
+            }
+          }
+          classIndexes.add(indexedEntities);
+        }
+      }
+      indexes.put(entityClass, classIndexes);
+    }
+    return classIndexes;
+  }
+
   public Map<Class<?>, Map<String, CachedEntity>> getAllCachedEntities() {
     return cachedObjects;
   }
 
+  public List<EntityCacheIndex<?>> getIndexDefinitions() {
+    return indexDefinitions;
+  }
+
+  public void setIndexDefinitions(List<EntityCacheIndex<?>> indexDefinitions) {
+    this.indexDefinitions = indexDefinitions;
+    this.indexes.clear();
+  }
+
   @Override
   public void close() {
 
@@ -127,4 +219,61 @@ public class EntityCacheImpl implements EntityCache {
 
   }
 
+  /**
+   * The cached entities of one class, grouped by their value for one {@link EntityCacheIndex}.
+   */
+  protected static class IndexedEntities {
+
+    protected EntityCacheIndex<?> index;
+    protected Map<String, Map<String, CachedEntity>> cachedObjectsByValue = new HashMap<String, Map<String, CachedEntity>>();
+    protected Map<String, String> valuesById = new HashMap<String, String>();
+
+    public IndexedEntities(EntityCacheIndex<?> index) {
+      this.index = index;
+    }
+
+    public void add(String id, CachedEntity cachedObject) {
+      String value = index.getIndexedValue(cachedObject.getEntity());
+      valuesById.put(id, value);
+      Map<String, CachedEntity> cachedObjectsWithValue = cachedObjectsByValue.get(value);
+      if (cachedObjectsWithValue == null) {
+        cachedObjectsWithValue = new LinkedHashMap<String, CachedEntity>();
+        cachedObjectsByValue.put(value, cachedObjectsWithValue);
+      }
+      cachedObjectsWithValue.put(id, cachedObject);
+    }
+
+    public void remove(String id) {
+      if (!valuesById.containsKey(id)) {
+        return;
+      }
+      String value = valuesById.remove(id);
+      Map<String, CachedEntity> cachedObjectsWithValue = cachedObjectsByValue.get(value);
+      if (cachedObjectsWithValue != null) {
+        cachedObjectsWithValue.remove(id);
+        if (cachedObjectsWithValue.isEmpty()) {
+          cachedObjectsByValue.remove(value);
+        }
+      }
+    }
+
+    public void update(String id, CachedEntity cachedObject) {
+      String value = index.getIndexedValue(cachedObject.getEntity());
+      if (!valuesById.containsKey(id) || !Objects.equals(valuesById.get(id), value)) {
+        remove(id);
+        add(id, cachedObject);
+      }
+    }
+
+    public Collection<CachedEntity> get(String value) {
+      Map<String, CachedEntity> cachedObjectsWithValue = cachedObjectsByValue.get(value);
+      if (cachedObjectsWithValue == null) {
+        return emptyList();
+      }
+      // copied, as loading entities while going through the result could change the index
+      return new ArrayList<CachedEntity>(cachedObjectsWithValue.values());
+    }
+
+  }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.persistence.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.persistence.entity.AbstractJobEntity;
+import org.activiti.engine.impl.persistence.entity.Entity;
+import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.TaskEntity;
+import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * A secondary index of the {@link EntityCache}: the cached entities of a given type are grouped by the value
+ * of one of their properties, so they can be looked up without going through all the cached entities of that type.
+ *
+ * The indexed values can change after an entity has been put in the cache (e.g. an execution getting a new parent),
+ * hence the setters of the indexed properties call {@link #reindex(Entity)}.
+ */
+public class EntityCacheIndex<T> {
+
+  public static final EntityCacheIndex<ExecutionEntity> EXECUTION_PARENT_ID
+      = new EntityCacheIndex<ExecutionEntity>("executionParentId", ExecutionEntity.class, ExecutionEntity::getParentId);
+
+  public static final EntityCacheIndex<ExecutionEntity> EXECUTION_PROCESS_INSTANCE_ID
+      = new EntityCacheIndex<ExecutionEntity>("executionProcessInstanceId", ExecutionEntity.class, ExecutionEntity::getProcessInstanceId);
+
+  public static final EntityCacheIndex<EventSubscriptionEntity> EVENT_SUBSCRIPTION_EXECUTION_ID
+      = new EntityCacheIndex<EventSubscriptionEntity>("eventSubscriptionExecutionId", EventSubscriptionEntity.class, EventSubscriptionEntity::getExecutionId);
+
+  public static final EntityCacheIndex<TaskEntity> TASK_EXECUTION_ID
+      = new EntityCacheIndex<TaskEntity>("taskExecutionId", TaskEntity.class, TaskEntity::getExecutionId);
+
+  public static final EntityCacheIndex<AbstractJobEntity> JOB_EXECUTION_ID
+      = new EntityCacheIndex<AbstractJobEntity>("jobExecutionId", AbstractJobEntity.class, AbstractJobEntity::getExecutionId);
+
+  public static final EntityCacheIndex<VariableInstanceEntity> VARIABLE_EXECUTION_ID
+      = new EntityCacheIndex<VariableInstanceEntity>("variableExecutionId", VariableInstanceEntity.class, VariableInstanceEntity::getExecutionId);
+
+  public static final List<EntityCacheIndex<?>> DEFAULT_INDEXES = Collections.unmodifiableList(Arrays.<EntityCacheIndex<?>>asList(
+      EXECUTION_PARENT_ID, EXECUTION_PROCESS_INSTANCE_ID, EVENT_SUBSCRIPTION_EXECUTION_ID, TASK_EXECUTION_ID, JOB_EXECUTION_ID, VARIABLE_EXECUTION_ID));
+
+  protected final String name;
+  protected final Class<T> entityType;
+  protected final Function<T, String> valueFunction;
+
+  public EntityCacheIndex(String name, Class<T> entityType, Function<T, String> valueFunction) {
+    this.name = name;
+    this.entityType = entityType;
+    this.valueFunction = valueFunction;
+  }
+
+  /**
+   * @return true if the entities of the given (concrete) class are indexed by this index
+   */
+  public boolean appliesTo(Class<?> entityClass) {
+    return entityType.isAssignableFrom(entityClass);
+  }
+
+  /**
+   * @return the indexed value of the given entity, which must be of a class this index applies to
+   */
+  public String getIndexedValue(Object entity) {
+    return valueFunction.apply(entityType.cast(entity));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Updates the indexes of the {@link EntityCache} of the current command for the given entity.
+   * Must be called when an indexed value of an entity is changed.
+   */
+  public static void reindex(Entity entity) {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      EntityCache entityCache = (EntityCache) commandContext.getSessions().get(EntityCache.class);
+      if (entityCache != null) {
+        entityCache.reindex(entity);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+}
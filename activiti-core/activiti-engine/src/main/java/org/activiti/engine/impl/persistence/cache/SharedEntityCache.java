@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.cache;
+
+import org.activiti.engine.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.activiti.engine.impl.persistence.entity.Entity;
+
+/**
+ * Cache for {@link Entity} instances that is shared by all commands, as opposed to the {@link EntityCache}, which only lives for one command.
+ *
+ * Only entity classes that are explicitly registered are cached. This is meant for data that (almost) never changes once inserted,
+ * like deployments, process definitions and deployment resources. Cached entities are stored and returned as copies,
+ * so changes made to an entity in one command are never visible to other commands before they are flushed.
+ */
+public interface SharedEntityCache {
+
+  /**
+   * @return true if entities of the given class are kept in this cache
+   */
+  boolean isCached(Class<?> entityClass);
+
+  /**
+   * Returns a copy of the cached entity of the given class with the given key (typically the id), or null if it is not cached.
+   */
+  <T extends Entity> T get(Class<T> entityClass, String key);
+
+  /**
+   * Stores a copy of the given entity using its id as key.
+   */
+  void put(Entity entity);
+
+  /**
+   * Stores a copy of the given entity using the given key.
+   */
+  void put(String key, Entity entity);
+
+  void remove(Class<?> entityClass, String key);
+
+  void removeAll(Class<?> entityClass);
+
+  void clear();
+
+  DeploymentCacheStatistics getStatistics(Class<?> entityClass);
+
+}
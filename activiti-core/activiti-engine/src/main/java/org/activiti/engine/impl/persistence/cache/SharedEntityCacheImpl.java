@@ -0,0 +1,186 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.activiti.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.activiti.engine.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.activiti.engine.impl.persistence.entity.DeploymentEntityImpl;
+import org.activiti.engine.impl.persistence.entity.Entity;
+import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.activiti.engine.impl.persistence.entity.ResourceEntity;
+import org.activiti.engine.impl.persistence.entity.ResourceEntityImpl;
+
+/**
+ * Default {@link SharedEntityCache}: every registered entity class gets its own {@link ConcurrentDeploymentCache},
+ * bounded by the number of entries and by an approximation of the memory used by the entries (in bytes).
+ */
+public class SharedEntityCacheImpl implements SharedEntityCache {
+
+  /** Approximation of the memory used by an entity without binary content */
+  public static final long DEFAULT_ENTITY_WEIGHT = 1024;
+
+  protected int limitPerEntityClass;
+  protected long maxWeightPerEntityClass;
+
+  protected Map<Class<?>, SharedEntityCopier<Entity>> copiers = new ConcurrentHashMap<Class<?>, SharedEntityCopier<Entity>>();
+  protected Map<Class<?>, ConcurrentDeploymentCache<Entity>> caches = new ConcurrentHashMap<Class<?>, ConcurrentDeploymentCache<Entity>>();
+
+  /**
+   * @param limitPerEntityClass max number of cached entities per entity class, no limit if zero or less
+   * @param maxWeightPerEntityClass max approximate size in bytes of the cached entities per entity class, no limit if zero or less
+   */
+  public SharedEntityCacheImpl(int limitPerEntityClass, long maxWeightPerEntityClass) {
+    this.limitPerEntityClass = limitPerEntityClass;
+    this.maxWeightPerEntityClass = maxWeightPerEntityClass;
+  }
+
+  /**
+   * Registers the deployment related entities, which never change after being deployed
+   * (apart from the suspension state and tenant of process definitions, which invalidate the cache when updated).
+   */
+  public SharedEntityCacheImpl registerDeploymentEntities() {
+    registerEntityClass(DeploymentEntityImpl.class, SharedEntityCacheImpl::copyDeployment);
+    registerEntityClass(ProcessDefinitionEntityImpl.class, SharedEntityCacheImpl::copyProcessDefinition);
+    registerEntityClass(ResourceEntityImpl.class, SharedEntityCacheImpl::copyResource);
+    return this;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> SharedEntityCacheImpl registerEntityClass(Class<T> entityClass, SharedEntityCopier<T> copier) {
+    copiers.put(entityClass, (SharedEntityCopier<Entity>) copier);
+    caches.put(entityClass, new ConcurrentDeploymentCache<Entity>(limitPerEntityClass, maxWeightPerEntityClass, this::weigh));
+    return this;
+  }
+
+  @Override
+  public boolean isCached(Class<?> entityClass) {
+    return caches.containsKey(entityClass);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> T get(Class<T> entityClass, String key) {
+    ConcurrentDeploymentCache<Entity> cache = caches.get(entityClass);
+    if (cache == null) {
+      return null;
+    }
+    Entity entity = cache.get(key);
+    return entity != null ? (T) copiers.get(entityClass).copy(entity) : null;
+  }
+
+  @Override
+  public void put(Entity entity) {
+    put(entity.getId(), entity);
+  }
+
+  @Override
+  public void put(String key, Entity entity) {
+    ConcurrentDeploymentCache<Entity> cache = caches.get(entity.getClass());
+    if (cache != null) {
+      cache.add(key, copiers.get(entity.getClass()).copy(entity));
+    }
+  }
+
+  @Override
+  public void remove(Class<?> entityClass, String key) {
+    ConcurrentDeploymentCache<Entity> cache = caches.get(entityClass);
+    if (cache != null) {
+      cache.remove(key);
+    }
+  }
+
+  @Override
+  public void removeAll(Class<?> entityClass) {
+    ConcurrentDeploymentCache<Entity> cache = caches.get(entityClass);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (ConcurrentDeploymentCache<Entity> cache : caches.values()) {
+      cache.clear();
+    }
+  }
+
+  @Override
+  public DeploymentCacheStatistics getStatistics(Class<?> entityClass) {
+    ConcurrentDeploymentCache<Entity> cache = caches.get(entityClass);
+    return cache != null ? cache.getStatistics() : null;
+  }
+
+  protected long weigh(String key, Entity entity) {
+    if (entity instanceof ResourceEntity && ((ResourceEntity) entity).getBytes() != null) {
+      return DEFAULT_ENTITY_WEIGHT + ((ResourceEntity) entity).getBytes().length;
+    }
+    return DEFAULT_ENTITY_WEIGHT;
+  }
+
+  // copiers of the deployment entities //////////////////////////////////////
+
+  protected static DeploymentEntityImpl copyDeployment(DeploymentEntityImpl deployment) {
+    DeploymentEntityImpl copy = new DeploymentEntityImpl();
+    copy.setId(deployment.getId());
+    copy.setName(deployment.getName());
+    copy.setCategory(deployment.getCategory());
+    copy.setKey(deployment.getKey());
+    copy.setTenantId(deployment.getTenantId());
+    copy.setDeploymentTime(deployment.getDeploymentTime());
+    copy.setEngineVersion(deployment.getEngineVersion());
+    copy.setVersion(deployment.getVersion());
+    copy.setProjectReleaseVersion(deployment.getProjectReleaseVersion());
+    copy.setContentHash(deployment.getContentHash());
+    return copy;
+  }
+
+  protected static ProcessDefinitionEntityImpl copyProcessDefinition(ProcessDefinitionEntityImpl processDefinition) {
+    ProcessDefinitionEntityImpl copy = new ProcessDefinitionEntityImpl();
+    copy.setId(processDefinition.getId());
+    copy.setRevision(processDefinition.getRevision());
+    copy.setName(processDefinition.getName());
+    copy.setDescription(processDefinition.getDescription());
+    copy.setKey(processDefinition.getKey());
+    copy.setVersion(processDefinition.getVersion());
+    copy.setCategory(processDefinition.getCategory());
+    copy.setDeploymentId(processDefinition.getDeploymentId());
+    copy.setResourceName(processDefinition.getResourceName());
+    copy.setTenantId(processDefinition.getTenantId());
+    copy.setHistoryLevel(processDefinition.getHistoryLevel());
+    copy.setDiagramResourceName(processDefinition.getDiagramResourceName());
+    copy.setGraphicalNotationDefined(processDefinition.isGraphicalNotationDefined());
+    copy.setHasStartFormKey(processDefinition.getHasStartFormKey());
+    copy.setSuspensionState(processDefinition.getSuspensionState());
+    copy.setEngineVersion(processDefinition.getEngineVersion());
+    copy.setAppVersion(processDefinition.getAppVersion());
+    return copy;
+  }
+
+  protected static ResourceEntityImpl copyResource(ResourceEntityImpl resource) {
+    ResourceEntityImpl copy = new ResourceEntityImpl();
+    copy.setId(resource.getId());
+    copy.setName(resource.getName());
+    copy.setBytes(resource.getBytes()); // the bytes of a deployed resource are never changed, so they can be shared
+    copy.setDeploymentId(resource.getDeploymentId());
+    copy.setGenerated(resource.isGenerated());
+    return copy;
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.cache;
+
+import java.util.Collection;
+
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.CommandContextCloseListener;
+import org.activiti.engine.impl.persistence.entity.Entity;
+
+/**
+ * Removes changed entities from the {@link SharedEntityCache}. It is executed when the changes are flushed,
+ * and once more when the {@link CommandContext} is closed, to evict state that concurrent commands read before the commit.
+ */
+public class SharedEntityCacheInvalidationListener implements CommandContextCloseListener {
+
+  protected SharedEntityCache sharedEntityCache;
+  protected Collection<Entity> invalidatedEntities;
+  protected Collection<Class<?>> invalidatedEntityClasses;
+
+  public SharedEntityCacheInvalidationListener(SharedEntityCache sharedEntityCache, Collection<Entity> invalidatedEntities, Collection<Class<?>> invalidatedEntityClasses) {
+    this.sharedEntityCache = sharedEntityCache;
+    this.invalidatedEntities = invalidatedEntities;
+    this.invalidatedEntityClasses = invalidatedEntityClasses;
+  }
+
+  public void invalidate() {
+    for (Entity entity : invalidatedEntities) {
+      sharedEntityCache.remove(entity.getClass(), entity.getId());
+    }
+    for (Class<?> entityClass : invalidatedEntityClasses) {
+      sharedEntityCache.removeAll(entityClass);
+    }
+  }
+
+  @Override
+  public void closing(CommandContext commandContext) {
+  }
+
+  @Override
+  public void afterSessionsFlush(CommandContext commandContext) {
+  }
+
+  @Override
+  public void closed(CommandContext commandContext) {
+    invalidate();
+  }
+
+  @Override
+  public void closeFailure(CommandContext commandContext) {
+  }
+
+}
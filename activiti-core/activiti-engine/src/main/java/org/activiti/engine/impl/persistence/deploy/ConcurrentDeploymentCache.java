@@ -0,0 +1,194 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache backed by a {@link ConcurrentHashMap}: unlike the {@link DefaultDeploymentCache}, reads never take a lock.
+ * <p>
+ * The cache can be bounded by the number of entries and/or by the total weight of the entries, as calculated by a {@link DeploymentCacheWeigher}.
+ * When a limit is exceeded, the least recently accessed entries are evicted. Hits, misses, evictions and load times
+ * are tracked and can be read through {@link #getStatistics()}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+  protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<String, CacheEntry<T>>();
+  protected final int limit;
+  protected final long maxWeight;
+  protected final DeploymentCacheWeigher<T> weigher;
+  protected final Object evictionLock = new Object();
+
+  protected final AtomicLong totalWeight = new AtomicLong();
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+  protected final LongAdder evictionCount = new LongAdder();
+  protected final LongAdder loadCount = new LongAdder();
+  protected final LongAdder totalLoadTime = new LongAdder();
+
+  /** Cache with no limit */
+  public ConcurrentDeploymentCache() {
+    this(-1);
+  }
+
+  /** Cache which has a hard limit: no more elements will be cached than the limit. */
+  public ConcurrentDeploymentCache(int limit) {
+    this(limit, -1, (id, object) -> 1);
+  }
+
+  /**
+   * Cache which is bounded by the number of entries and by the total weight of the entries.
+   * A limit or max weight of zero or less means that bound is not applied.
+   */
+  public ConcurrentDeploymentCache(int limit, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+    this.limit = limit;
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  public T get(String id) {
+    CacheEntry<T> cacheEntry = cache.get(id);
+    if (cacheEntry == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    cacheEntry.lastAccessTime = System.nanoTime();
+    return cacheEntry.value;
+  }
+
+  public void add(String id, T object) {
+    CacheEntry<T> cacheEntry = new CacheEntry<T>(object, weigher.weigh(id, object));
+    CacheEntry<T> previousEntry = cache.put(id, cacheEntry);
+    totalWeight.addAndGet(previousEntry != null ? cacheEntry.weight - previousEntry.weight : cacheEntry.weight);
+
+    if (isLimitExceeded()) {
+      evict();
+    }
+  }
+
+  public void remove(String id) {
+    CacheEntry<T> removedEntry = cache.remove(id);
+    if (removedEntry != null) {
+      totalWeight.addAndGet(-removedEntry.weight);
+    }
+  }
+
+  @Override
+  public boolean contains(String id) {
+    return cache.containsKey(id);
+  }
+
+  public void clear() {
+    for (String id : cache.keySet()) {
+      remove(id);
+    }
+  }
+
+  /**
+   * Records the time it took to load an object that was not found in the cache.
+   */
+  public void recordLoad(long loadTimeInNanos) {
+    loadCount.increment();
+    totalLoadTime.add(loadTimeInNanos);
+  }
+
+  public DeploymentCacheStatistics getStatistics() {
+    return new DeploymentCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(),
+        loadCount.sum(), totalLoadTime.sum(), cache.size(), totalWeight.get());
+  }
+
+  protected boolean isLimitExceeded() {
+    return (limit > 0 && cache.size() > limit) || (maxWeight > 0 && totalWeight.get() > maxWeight);
+  }
+
+  /**
+   * Evicts the least recently accessed entries until the cache is within its bounds again.
+   * Only adding an entry can trigger an eviction, so the lock is never taken on the read path.
+   */
+  protected void evict() {
+    synchronized (evictionLock) {
+      if (!isLimitExceeded()) {
+        return;
+      }
+
+      // The access times are copied first, as they can change while sorting
+      List<EvictionCandidate<T>> candidates = new ArrayList<EvictionCandidate<T>>(cache.size());
+      for (Map.Entry<String, CacheEntry<T>> entry : cache.entrySet()) {
+        candidates.add(new EvictionCandidate<T>(entry.getKey(), entry.getValue()));
+      }
+      candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessTime));
+
+      for (EvictionCandidate<T> candidate : candidates) {
+        if (!isLimitExceeded()) {
+          break;
+        }
+        if (cache.remove(candidate.id, candidate.cacheEntry)) {
+          totalWeight.addAndGet(-candidate.cacheEntry.weight);
+          evictionCount.increment();
+          logger.trace("Cache limit is reached, {} will be evicted", candidate.id);
+        }
+      }
+    }
+  }
+
+  // For testing purposes only
+  public int size() {
+    return cache.size();
+  }
+
+  public long getTotalWeight() {
+    return totalWeight.get();
+  }
+
+  protected static class CacheEntry<T> {
+
+    protected final T value;
+    protected final long weight;
+    protected volatile long lastAccessTime = System.nanoTime();
+
+    public CacheEntry(T value, long weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+  protected static class EvictionCandidate<T> {
+
+    protected final String id;
+    protected final CacheEntry<T> cacheEntry;
+    protected final long lastAccessTime;
+
+    public EvictionCandidate(String id, CacheEntry<T> cacheEntry) {
+      this.id = id;
+      this.cacheEntry = cacheEntry;
+      this.lastAccessTime = cacheEntry.lastAccessTime;
+    }
+  }
+
+}
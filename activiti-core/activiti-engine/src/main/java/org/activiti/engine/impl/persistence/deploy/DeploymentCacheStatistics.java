@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.deploy;
+
+/**
+ * Snapshot of the statistics of a {@link ConcurrentDeploymentCache}.
+ */
+public class DeploymentCacheStatistics {
+
+  protected final long hitCount;
+  protected final long missCount;
+  protected final long evictionCount;
+  protected final long loadCount;
+  protected final long totalLoadTime;
+  protected final long size;
+  protected final long totalWeight;
+
+  public DeploymentCacheStatistics(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadTime, long size, long totalWeight) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.loadCount = loadCount;
+    this.totalLoadTime = totalLoadTime;
+    this.size = size;
+    this.totalWeight = totalWeight;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public double getHitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public long getLoadCount() {
+    return loadCount;
+  }
+
+  /**
+   * @return the total time spent loading entries that were not found in the cache, in nanoseconds
+   */
+  public long getTotalLoadTime() {
+    return totalLoadTime;
+  }
+
+  /**
+   * @return the average time spent loading an entry that was not found in the cache, in nanoseconds
+   */
+  public double getAverageLoadTime() {
+    return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public long getTotalWeight() {
+    return totalWeight;
+  }
+
+  @Override
+  public String toString() {
+    return "DeploymentCacheStatistics[hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+        + ", loadCount=" + loadCount + ", totalLoadTime=" + totalLoadTime + ", size=" + size + ", totalWeight=" + totalWeight + "]";
+  }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.deploy;
+
+/**
+ * Calculates the weight of a cached object, used by the {@link ConcurrentDeploymentCache} to bound the cache
+ * by the total weight of its entries instead of (or next to) the number of entries.
+ */
+@FunctionalInterface
+public interface DeploymentCacheWeigher<T> {
+
+  long weigh(String id, T object);
+
+}
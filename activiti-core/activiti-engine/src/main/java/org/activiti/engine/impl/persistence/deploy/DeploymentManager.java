@@ -80,7 +80,7 @@ public class DeploymentManager {
       if (processDefinition == null) {
         throw new ActivitiObjectNotFoundException("no deployed process definition found with id '" + processDefinitionId + "'", ProcessDefinition.class);
       }
-      processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+      processDefinition = loadProcessDefinition(processDefinition).getProcessDefinition();
     }
     return processDefinition;
   }
@@ -119,17 +119,28 @@ public class DeploymentManager {
    */
   public ProcessDefinitionCacheEntry resolveProcessDefinition(ProcessDefinition processDefinition) {
     String processDefinitionId = processDefinition.getId();
-    String deploymentId = processDefinition.getDeploymentId();
 
     ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
     if (cachedProcessDefinition == null) {
-        CommandContext commandContext = Context.getCommandContext();
-      cachedProcessDefinition = resolveProcessDefinitionInternal(commandContext,processDefinition,deploymentId,processDefinitionId);
+      cachedProcessDefinition = loadProcessDefinition(processDefinition);
     }
     return cachedProcessDefinition;
   }
 
+  /**
+   * Loads a process definition that is not in the cache (yet), recording the load time when the cache keeps statistics.
+   */
+  protected ProcessDefinitionCacheEntry loadProcessDefinition(ProcessDefinition processDefinition) {
+    CommandContext commandContext = Context.getCommandContext();
+    long loadStartTime = System.nanoTime();
+    ProcessDefinitionCacheEntry cacheEntry = resolveProcessDefinitionInternal(commandContext, processDefinition, processDefinition.getDeploymentId(), processDefinition.getId());
+    if (processDefinitionCache instanceof ConcurrentDeploymentCache) {
+      ((ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processDefinitionCache).recordLoad(System.nanoTime() - loadStartTime);
+    }
+    return cacheEntry;
+  }
+
   protected ProcessDefinitionCacheEntry resolveProcessDefinitionInternal(CommandContext commandContext,ProcessDefinition processDefinition,String deploymentId, String processDefinitionId){
     DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
     var deploymentOptions = Map.of(RESOURCE_NAMES, List.of(processDefinition.getResourceName()), IS_PROCESS_VALIDATION_ENABLED, false, IS_BPMN20_XSD_VALIDATION_ENABLED, false);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.deploy;
+
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.Process;
+
+/**
+ * Weighs a {@link ProcessDefinitionCacheEntry} by the size of its BPMN model: one for the entry itself,
+ * plus the number of flow elements (including the ones nested in sub processes) of every process in the model.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+  @Override
+  public long weigh(String id, ProcessDefinitionCacheEntry cacheEntry) {
+    long weight = 1;
+    BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+    if (bpmnModel != null) {
+      for (Process process : bpmnModel.getProcesses()) {
+        weight += process.getFlowElementMap().size();
+      }
+    }
+    return weight;
+  }
+
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ProcessEngineConfiguration;
 import org.activiti.engine.impl.db.BulkDeleteable;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.apache.commons.lang3.StringUtils;
 
 
@@ -79,6 +80,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     executionId = execution.getId();
     processInstanceId = execution.getProcessInstanceId();
     processDefinitionId = execution.getProcessDefinitionId();
+    EntityCacheIndex.reindex(this);
   }
 
   public Date getDuedate() {
@@ -95,6 +97,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
 
   public void setExecutionId(String executionId) {
     this.executionId = executionId;
+    EntityCacheIndex.reindex(this);
   }
 
   public int getRetries() {
@@ -59,6 +59,14 @@ public interface DeploymentEntity extends Deployment, Entity {
 
   void setEngineVersion(String engineVersion);
 
+  /**
+   * The hash of the content hashes of all resources that are not generated, see
+   * {@link org.activiti.engine.impl.util.ContentHashUtil#hashResources(Map)}. Null for deployments made before it was stored.
+   */
+  String getContentHash();
+
+  void setContentHash(String contentHash);
+
   Integer getVersion();
 
   void setVersion(Integer version);
@@ -44,6 +44,7 @@ public class DeploymentEntityImpl extends AbstractEntityNoRevision implements De
   protected boolean isNew;
   protected Integer version;
   private String projectReleaseVersion;
+  protected String contentHash;
 
     // Backwards compatibility
   protected String engineVersion;
@@ -174,6 +175,14 @@ public class DeploymentEntityImpl extends AbstractEntityNoRevision implements De
     this.engineVersion = engineVersion;
   }
 
+  public String getContentHash() {
+    return contentHash;
+  }
+
+  public void setContentHash(String contentHash) {
+    this.contentHash = contentHash;
+  }
+
   public Integer getVersion(){
       return version;
   }
@@ -32,6 +32,7 @@ import org.activiti.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler
 import org.activiti.engine.impl.persistence.entity.data.DataManager;
 import org.activiti.engine.impl.persistence.entity.data.DeploymentDataManager;
 import org.activiti.engine.impl.util.CollectionUtil;
+import org.activiti.engine.impl.util.ContentHashUtil;
 import org.activiti.engine.impl.util.ProcessDefinitionUtil;
 import org.activiti.engine.impl.util.TimerUtil;
 import org.activiti.engine.repository.Deployment;
@@ -69,6 +70,9 @@ public class DeploymentEntityManagerImpl extends AbstractEntityManager<Deploymen
 
   @Override
   public void insert(DeploymentEntity deployment) {
+    if (deployment.getContentHash() == null) {
+      deployment.setContentHash(ContentHashUtil.hashResources(deployment.getResources()));
+    }
     insert(deployment, false);
 
     for (ResourceEntity resource : deployment.getResources().values()) {
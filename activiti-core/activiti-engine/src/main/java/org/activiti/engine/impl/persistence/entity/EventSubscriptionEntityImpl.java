@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 
 import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 
 /**
 
@@ -80,6 +81,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
 
   public void setExecutionId(String executionId) {
     this.executionId = executionId;
+    EntityCacheIndex.reindex(this);
   }
 
   public ExecutionEntity getExecution() {
@@ -94,6 +96,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     if (execution != null) {
       this.executionId = execution.getId();
       this.processInstanceId = execution.getProcessInstanceId();
+      EntityCacheIndex.reindex(this);
     }
   }
 
@@ -16,6 +16,7 @@
 
 package org.activiti.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.bpmn.model.Signal;
@@ -85,6 +86,10 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
   List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+  List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, Page page);
+
+  List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId);
+
   List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
   List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
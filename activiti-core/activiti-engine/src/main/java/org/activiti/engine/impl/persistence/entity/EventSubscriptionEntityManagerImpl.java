@@ -18,6 +18,7 @@
 package org.activiti.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.bpmn.model.Signal;
@@ -195,6 +196,16 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
     return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
   }
 
+  @Override
+  public List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, Page page) {
+    return eventSubscriptionDataManager.findSignalEventSubscriptionIdsForBroadcast(eventName, tenantId, createdBefore, afterId, page);
+  }
+
+  @Override
+  public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+    return eventSubscriptionDataManager.findSignalEventSubscriptionsForBroadcast(eventName, tenantId, createdBefore, afterId, lastId);
+  }
+
   @Override
   public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
     return eventSubscriptionDataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -33,6 +33,7 @@ import org.activiti.engine.delegate.event.impl.ActivitiEventBuilder;
 import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.CountingExecutionEntity;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.util.ProcessDefinitionUtil;
 
 public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
@@ -408,6 +409,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     } else {
       this.parentId = null;
     }
+    EntityCacheIndex.reindex(this);
   }
 
   // parent process instance id      /////////////////////////////////////////
@@ -666,6 +668,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
   public void setProcessInstanceId(String processInstanceId) {
     this.processInstanceId = processInstanceId;
+    EntityCacheIndex.reindex(this);
   }
 
   public String getParentId() {
@@ -674,6 +677,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
   public void setParentId(String parentId) {
     this.parentId = parentId;
+    EntityCacheIndex.reindex(this);
   }
 
   public String getActivityId() {
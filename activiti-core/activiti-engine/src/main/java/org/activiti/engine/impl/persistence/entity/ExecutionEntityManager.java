@@ -109,6 +109,13 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
   void updateProcessInstanceLockTime(String processInstanceId);
 
+  /**
+   * Extends the lock of the process instance, which must still be locked: it fails with an
+   * {@link org.activiti.engine.ActivitiOptimisticLockingException} once the lock was cleared or expired,
+   * as another executor may have locked the process instance since.
+   */
+  void renewProcessInstanceLockTime(String processInstanceId);
+
   void clearProcessInstanceLockTime(String processInstanceId);
 
 }
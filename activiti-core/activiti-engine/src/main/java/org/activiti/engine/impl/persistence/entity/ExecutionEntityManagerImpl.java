@@ -782,6 +782,19 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
     executionDataManager.updateProcessInstanceLockTime(processInstanceId, lockDate, expirationTime);
   }
 
+  @Override
+  public void renewProcessInstanceLockTime(String processInstanceId) {
+    Date expirationTime = getClock().getCurrentTime();
+    int lockMillis = getAsyncExecutor().getAsyncJobLockTimeInMillis();
+
+    GregorianCalendar lockCal = new GregorianCalendar();
+    lockCal.setTime(expirationTime);
+    lockCal.add(Calendar.MILLISECOND, lockMillis);
+    Date lockDate = lockCal.getTime();
+
+    executionDataManager.renewProcessInstanceLockTime(processInstanceId, lockDate, expirationTime);
+  }
+
   @Override
   public void clearProcessInstanceLockTime(String processInstanceId) {
     executionDataManager.clearProcessInstanceLockTime(processInstanceId);
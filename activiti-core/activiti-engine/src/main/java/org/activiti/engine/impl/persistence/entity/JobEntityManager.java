@@ -16,6 +16,8 @@
 
 package org.activiti.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.api.internal.Internal;
@@ -92,6 +94,26 @@ public interface JobEntityManager extends EntityManager<JobEntity> {
    */
   void resetExpiredJob(String jobId);
 
+  /**
+   * Locks all given jobs that are not locked yet with one statement, for the given lock owner and until the given time.
+   * Returns the number of jobs that were locked: if it's lower than the number of given jobs, some were locked concurrently
+   * and {@link #findJobIdsLockedByOwner(Collection, String)} tells which ones were locked by this call.
+   *
+   * The locked {@link JobEntity} instances of the current command are not changed.
+   */
+  int bulkLockJobs(Collection<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+  /**
+   * Returns the ids of the given jobs that are currently locked by the given lock owner.
+   */
+  List<String> findJobIdsLockedByOwner(Collection<String> jobIds, String lockOwner);
+
+  /**
+   * Moves the lock expiration time of the given job, if it is still locked by the given lock owner.
+   * Returns false if it's not, e.g. because its lock expired and it was reset or acquired again in the meantime.
+   */
+  boolean renewJobLock(String jobId, String lockOwner, Date lockExpirationTime);
+
   /**
    * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
    */
@@ -17,6 +17,8 @@
 
 package org.activiti.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.delegate.event.ActivitiEventType;
@@ -122,6 +124,31 @@ public class JobEntityManagerImpl extends AbstractEntityManager<JobEntity> imple
         jobDataManager.resetExpiredJob(jobId);
     }
 
+    @Override
+    public int bulkLockJobs(Collection<String> jobIds,
+                            String lockOwner,
+                            Date lockExpirationTime) {
+        return jobDataManager.bulkLockJobs(jobIds,
+                                           lockOwner,
+                                           lockExpirationTime);
+    }
+
+    @Override
+    public List<String> findJobIdsLockedByOwner(Collection<String> jobIds,
+                                                String lockOwner) {
+        return jobDataManager.findJobIdsLockedByOwner(jobIds,
+                                                      lockOwner);
+    }
+
+    @Override
+    public boolean renewJobLock(String jobId,
+                                String lockOwner,
+                                Date lockExpirationTime) {
+        return jobDataManager.renewJobLock(jobId,
+                                           lockOwner,
+                                           lockExpirationTime) > 0;
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery,
                                              Page page) {
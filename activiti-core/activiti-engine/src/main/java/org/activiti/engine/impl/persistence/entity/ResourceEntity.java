@@ -34,6 +34,13 @@ public interface ResourceEntity extends Entity {
 
   void setBytes(byte[] bytes);
 
+  /**
+   * The SHA-256 hash of the bytes, hex encoded. Computed from the bytes when it was not stored.
+   */
+  String getContentHash();
+
+  void setContentHash(String contentHash);
+
   String getDeploymentId();
 
   void setDeploymentId(String deploymentId);
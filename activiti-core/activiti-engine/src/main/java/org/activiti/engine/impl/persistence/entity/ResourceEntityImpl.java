@@ -19,6 +19,8 @@ package org.activiti.engine.impl.persistence.entity;
 
 import java.io.Serializable;
 
+import org.activiti.engine.impl.util.ContentHashUtil;
+
 /**
 
 
@@ -29,6 +31,7 @@ public class ResourceEntityImpl extends AbstractEntityNoRevision implements Reso
 
   protected String name;
   protected byte[] bytes;
+  protected String contentHash;
   protected String deploymentId;
   protected boolean generated;
 
@@ -50,6 +53,18 @@ public class ResourceEntityImpl extends AbstractEntityNoRevision implements Reso
 
   public void setBytes(byte[] bytes) {
     this.bytes = bytes;
+    this.contentHash = null;
+  }
+
+  public String getContentHash() {
+    if (contentHash == null && bytes != null) {
+      contentHash = ContentHashUtil.hash(bytes);
+    }
+    return contentHash;
+  }
+
+  public void setContentHash(String contentHash) {
+    this.contentHash = contentHash;
   }
 
   public String getDeploymentId() {
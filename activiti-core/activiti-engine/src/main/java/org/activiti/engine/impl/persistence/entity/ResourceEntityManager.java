@@ -28,6 +28,12 @@ public interface ResourceEntityManager extends EntityManager<ResourceEntity> {
 
   List<ResourceEntity> findResourcesByDeploymentId(String deploymentId);
 
+  /**
+   * Returns the resources of a deployment with their name, generated flag and content hash only: the bytes are not loaded.
+   * The returned resources are not put in the entity cache.
+   */
+  List<ResourceEntity> findResourceContentHashesByDeploymentId(String deploymentId);
+
   ResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName);
 
   void deleteResourcesByDeploymentId(String deploymentId);
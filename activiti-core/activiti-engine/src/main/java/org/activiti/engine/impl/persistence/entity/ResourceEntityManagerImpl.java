@@ -56,6 +56,11 @@ public class ResourceEntityManagerImpl extends AbstractEntityManager<ResourceEnt
     return resourceDataManager.findResourcesByDeploymentId(deploymentId);
   }
 
+  @Override
+  public List<ResourceEntity> findResourceContentHashesByDeploymentId(String deploymentId) {
+    return resourceDataManager.findResourceContentHashesByDeploymentId(deploymentId);
+  }
+
   public ResourceDataManager getResourceDataManager() {
     return resourceDataManager;
   }
@@ -16,6 +16,7 @@
 
 package org.activiti.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.api.internal.Internal;
@@ -46,6 +47,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
    */
   List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+  /**
+   * Returns the {@link TimerJobEntity} instances that are due before the given date and that are not locked,
+   * or whose lock has expired.
+   */
+  List<TimerJobEntity> findTimerJobsToSchedule(Date dueBefore, Page page);
+
   /**
    * Returns the {@link TimerJobEntity} for a given process definition.
    *
@@ -74,6 +74,13 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsToSchedule(Date dueBefore,
+                                                        Page page) {
+        return jobDataManager.findTimerJobsToSchedule(dueBefore,
+                                                      page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType,
                                                                      String processDefinitionId) {
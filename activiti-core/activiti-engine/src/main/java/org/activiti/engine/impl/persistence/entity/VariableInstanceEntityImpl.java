@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.activiti.engine.impl.db.BulkDeleteable;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.variable.ValueFields;
 import org.activiti.engine.impl.variable.VariableType;
 import org.apache.commons.lang3.StringUtils;
@@ -83,6 +84,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     this.executionId = execution.getId();
     this.processInstanceId = execution.getProcessInstanceId();
     forceUpdate();
+    EntityCacheIndex.reindex(this);
   }
 
   public void forceUpdate() {
@@ -95,6 +97,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
   public void setExecutionId(String executionId) {
     this.executionId = executionId;
+    EntityCacheIndex.reindex(this);
   }
 
   // byte array value ///////////////////////////////////////////////////////////
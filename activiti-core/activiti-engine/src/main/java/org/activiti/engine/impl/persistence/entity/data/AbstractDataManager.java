@@ -26,9 +26,11 @@ import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.db.DbSqlSession;
 import org.activiti.engine.impl.persistence.AbstractManager;
 import org.activiti.engine.impl.persistence.CachedEntityMatcher;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
 import org.activiti.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.activiti.engine.impl.persistence.cache.CachedEntity;
 import org.activiti.engine.impl.persistence.cache.EntityCache;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCache;
 import org.activiti.engine.impl.persistence.entity.Entity;
 
 /**
@@ -54,6 +56,17 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
     return getSession(EntityCache.class);
   }
 
+  /**
+   * @return the {@link SharedEntityCache} if it keeps the entities managed by this data manager, null otherwise
+   */
+  protected SharedEntityCache getSharedEntityCache() {
+    SharedEntityCache sharedEntityCache = getProcessEngineConfiguration().getSharedEntityCache();
+    if (sharedEntityCache != null && sharedEntityCache.isCached(getManagedEntityClass())) {
+      return sharedEntityCache;
+    }
+    return null;
+  }
+
   @Override
   public EntityImpl findById(String entityId) {
     if (entityId == null) {
@@ -66,8 +79,25 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
       return cachedEntity;
     }
 
+    SharedEntityCache sharedEntityCache = getSharedEntityCache();
+    if (sharedEntityCache == null) {
+      // Database
+      return getDbSqlSession().selectById(getManagedEntityClass(), entityId, false);
+    }
+
+    // Shared cache
+    EntityImpl sharedEntity = sharedEntityCache.get(getManagedEntityClass(), entityId);
+    if (sharedEntity != null) {
+      getEntityCache().put(sharedEntity, true); // as if it was selected, so changes are detected when flushing
+      return sharedEntity;
+    }
+
     // Database
-    return getDbSqlSession().selectById(getManagedEntityClass(), entityId, false);
+    EntityImpl entity = getDbSqlSession().selectById(getManagedEntityClass(), entityId, false);
+    if (entity != null) {
+      sharedEntityCache.put(entity);
+    }
+    return entity;
   }
 
   @Override
@@ -140,7 +170,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         // Cache entities
         if (cachedObjects != null && cachedEntityMatcher != null) {
-          for (CachedEntity cachedObject : cachedObjects) {
+          for (CachedEntity cachedObject : getCachedEntityCandidates(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
             EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
             if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
               entityMap.put(cachedEntity.getId(), cachedEntity); // will overwite db version with newer version
@@ -152,7 +182,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
           for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
             Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
             if (subclassCachedObjects != null) {
-              for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+              for (CachedEntity subclassCachedObject : getCachedEntityCandidates(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                   entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwite db version with newer version
@@ -181,6 +211,26 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
     return new ArrayList<EntityImpl>(result);
   }
 
+  /**
+   * Returns the cached entities of the given class that could be retained by the matcher: when it is an {@link IndexedCachedEntityMatcher},
+   * only the ones with the indexed value for the parameter are returned (if the {@link EntityCache} indexes the class), all of them otherwise.
+   */
+  protected Collection<CachedEntity> getCachedEntityCandidates(Class<? extends EntityImpl> entityClass, Collection<CachedEntity> cachedObjects,
+      CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+
+    if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+      IndexedCachedEntityMatcher<EntityImpl> indexedMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+      String indexedValue = indexedMatcher.getIndexedValue(parameter);
+      if (indexedValue != null) {
+        Collection<CachedEntity> candidates = getEntityCache().findInCacheByIndex(entityClass, indexedMatcher.getIndex(), indexedValue);
+        if (candidates != null) {
+          return candidates;
+        }
+      }
+    }
+    return cachedObjects;
+  }
+
   protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter) {
     Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
 
@@ -188,7 +238,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
     List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects.size());
     if (cachedObjects != null && entityMatcher != null) {
-      for (CachedEntity cachedObject : cachedObjects) {
+      for (CachedEntity cachedObject : getCachedEntityCandidates(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
         if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
           result.add(cachedEntity);
@@ -200,7 +250,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
       for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
         if (subclassCachedObjects != null) {
-          for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+          for (CachedEntity subclassCachedObject : getCachedEntityCandidates(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
             EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
             if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
               result.add(cachedSubclassEntity);
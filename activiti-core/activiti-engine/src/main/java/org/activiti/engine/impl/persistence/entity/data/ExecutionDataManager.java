@@ -71,6 +71,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
   void updateProcessInstanceLockTime(String processInstanceId, Date lockDate, Date expirationTime);
 
+  void renewProcessInstanceLockTime(String processInstanceId, Date lockDate, Date expirationTime);
+
   void updateAllExecutionRelatedEntityCountFlags(boolean newValue);
 
   void clearProcessInstanceLockTime(String processInstanceId);
@@ -16,6 +16,8 @@
 
 package org.activiti.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.activiti.engine.impl.JobQueryImpl;
@@ -48,4 +50,10 @@ public interface JobDataManager extends DataManager<JobEntity> {
 
   void resetExpiredJob(String jobId);
 
+  int bulkLockJobs(Collection<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+  List<String> findJobIdsLockedByOwner(Collection<String> jobIds, String lockOwner);
+
+  int renewJobLock(String jobId, String lockOwner, Date lockExpirationTime);
+
 }
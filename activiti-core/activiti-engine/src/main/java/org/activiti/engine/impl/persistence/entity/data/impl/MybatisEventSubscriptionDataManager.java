@@ -17,6 +17,7 @@
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -153,6 +154,33 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
     return toSignalEventSubscriptionEntityList(result);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, Page page) {
+    Map<String, Object> params = createBroadcastParameters(eventName, tenantId, createdBefore, afterId);
+    return getDbSqlSession().selectList("selectSignalEventSubscriptionIdsForBroadcast", params, page, false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+    Map<String, Object> params = createBroadcastParameters(eventName, tenantId, createdBefore, afterId);
+    params.put("lastId", lastId);
+    List<EventSubscriptionEntity> result = getDbSqlSession().selectList("selectSignalEventSubscriptionsForBroadcast", params);
+    return toSignalEventSubscriptionEntityList(result);
+  }
+
+  protected Map<String, Object> createBroadcastParameters(String eventName, String tenantId, Date createdBefore, String afterId) {
+    Map<String, Object> params = new HashMap<String, Object>();
+    params.put("eventName", eventName);
+    if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+      params.put("tenantId", tenantId);
+    }
+    params.put("createdBefore", createdBefore);
+    params.put("afterId", afterId);
+    return params;
+  }
+
   @Override
   public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
     final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -333,6 +333,19 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
     }
   }
 
+  @Override
+  public void renewProcessInstanceLockTime(String processInstanceId, Date lockDate, Date expirationTime) {
+    HashMap<String, Object> params = new HashMap<String, Object>();
+    params.put("id", processInstanceId);
+    params.put("lockTime", lockDate);
+    params.put("expirationTime", expirationTime);
+
+    int result = getDbSqlSession().update("renewProcessInstanceLockTime", params);
+    if (result == 0) {
+      throw new ActivitiOptimisticLockingException("Could not renew the lock of process instance " + processInstanceId);
+    }
+  }
+
   @Override
   public void updateAllExecutionRelatedEntityCountFlags(boolean newValue) {
     getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue);
@@ -16,6 +16,7 @@
 
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -120,4 +121,31 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     getDbSqlSession().update("resetExpiredJob", params);
   }
 
+  @Override
+  public int bulkLockJobs(Collection<String> jobIds, String lockOwner, Date lockExpirationTime) {
+    Map<String, Object> params = new HashMap<String, Object>(3);
+    params.put("jobIds", jobIds);
+    params.put("lockOwner", lockOwner);
+    params.put("lockExpirationTime", lockExpirationTime);
+    return getDbSqlSession().update("bulkLockJobs", params);
+  }
+
+  @Override
+  public int renewJobLock(String jobId, String lockOwner, Date lockExpirationTime) {
+    Map<String, Object> params = new HashMap<String, Object>(3);
+    params.put("id", jobId);
+    params.put("lockOwner", lockOwner);
+    params.put("lockExpirationTime", lockExpirationTime);
+    return getDbSqlSession().update("renewJobLock", params);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<String> findJobIdsLockedByOwner(Collection<String> jobIds, String lockOwner) {
+    Map<String, Object> params = new HashMap<String, Object>(2);
+    params.put("jobIds", jobIds);
+    params.put("lockOwner", lockOwner);
+    return getDbSqlSession().selectListWithRawParameterWithoutFilter("selectJobIdsLockedByOwner", params, 0, Integer.MAX_VALUE);
+  }
+
 }
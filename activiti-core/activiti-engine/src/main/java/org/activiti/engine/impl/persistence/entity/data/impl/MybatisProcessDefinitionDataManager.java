@@ -158,6 +158,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractDataManager<Pro
     params.put("deploymentId", deploymentId);
     params.put("tenantId", newTenantId);
     getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params);
+    getDbSqlSession().invalidateSharedEntityCache(ProcessDefinitionEntityImpl.class);
   }
 
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.persistence.cache.SharedEntityCache;
 import org.activiti.engine.impl.persistence.entity.ResourceEntity;
 import org.activiti.engine.impl.persistence.entity.ResourceEntityImpl;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -52,10 +53,28 @@ public class MybatisResourceDataManager extends AbstractDataManager<ResourceEnti
 
   @Override
   public ResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
+    SharedEntityCache sharedEntityCache = getSharedEntityCache();
+    String sharedCacheKey = deploymentId + "/" + resourceName;
+    if (sharedEntityCache != null) {
+      ResourceEntity sharedResource = sharedEntityCache.get(ResourceEntityImpl.class, sharedCacheKey);
+      if (sharedResource != null) {
+        ResourceEntity cachedResource = getEntityCache().findInCache(ResourceEntityImpl.class, sharedResource.getId());
+        if (cachedResource != null) {
+          return cachedResource;
+        }
+        getEntityCache().put(sharedResource, true);
+        return sharedResource;
+      }
+    }
+
     Map<String, Object> params = new HashMap<String, Object>();
     params.put("deploymentId", deploymentId);
     params.put("resourceName", resourceName);
-    return (ResourceEntity) getDbSqlSession().selectOne("selectResourceByDeploymentIdAndResourceName", params);
+    ResourceEntity resource = (ResourceEntity) getDbSqlSession().selectOne("selectResourceByDeploymentIdAndResourceName", params);
+    if (resource != null && sharedEntityCache != null) {
+      sharedEntityCache.put(sharedCacheKey, resource);
+    }
+    return resource;
   }
 
   @Override
@@ -64,4 +83,11 @@ public class MybatisResourceDataManager extends AbstractDataManager<ResourceEnti
     return getDbSqlSession().selectList("selectResourcesByDeploymentId", deploymentId);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<ResourceEntity> findResourceContentHashesByDeploymentId(String deploymentId) {
+    // Not cached: these resources have no bytes and must not be returned by later lookups in the same command
+    return getDbSqlSession().selectList("selectResourceContentHashesByDeploymentId", deploymentId, false);
+  }
+
 }
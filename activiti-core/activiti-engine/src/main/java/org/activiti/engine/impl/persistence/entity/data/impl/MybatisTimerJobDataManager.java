@@ -24,6 +24,7 @@ import java.util.Map;
 import org.activiti.engine.impl.Page;
 import org.activiti.engine.impl.TimerJobQueryImpl;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.db.ListQueryParameterObject;
 import org.activiti.engine.impl.persistence.CachedEntityMatcher;
 import org.activiti.engine.impl.persistence.entity.TimerJobEntity;
 import org.activiti.engine.impl.persistence.entity.TimerJobEntityImpl;
@@ -73,6 +74,18 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TimerJobEntity> findTimerJobsToSchedule(Date dueBefore, Page page) {
+    Map<String, Object> params = new HashMap<String, Object>(2);
+    params.put("dueBefore", dueBefore);
+    params.put("now", getClock().getCurrentTime());
+    // Earliest timers first, so a backlog doesn't push them out of the page
+    ListQueryParameterObject parameter = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+    parameter.setDefaultOrderBy("RES.DUEDATE_ asc, RES.ID_ asc");
+    return getDbSqlSession().selectList("selectTimerJobsToSchedule", parameter);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -16,14 +16,21 @@
 
 package org.activiti.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.activiti.engine.impl.cfg.PerformanceSettings;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.CachedEntityMatcher;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.activiti.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -35,10 +42,15 @@ import org.activiti.engine.impl.persistence.entity.data.impl.cachematcher.Variab
  */
 public class MybatisVariableInstanceDataManager extends AbstractDataManager<VariableInstanceEntity> implements VariableInstanceDataManager {
 
+  protected static final String PREFETCHED_PROCESS_INSTANCE_ATTRIBUTE_PREFIX = "prefetchedVariables.";
+
+  protected PerformanceSettings performanceSettings;
+
   protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceEntity = new VariableByExecutionIdMatcher();
 
   public MybatisVariableInstanceDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
     super(processEngineConfiguration);
+    this.performanceSettings = processEngineConfiguration.getPerformanceSettings();
   }
 
   @Override
@@ -67,6 +79,10 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
   @Override
   public List<VariableInstanceEntity> findVariableInstancesByExecutionId(final String executionId) {
+    if (performanceSettings.isEnableVariablePrefetch() && performanceSettings.getVariablePrefetchNames() == null
+        && prefetchProcessInstanceVariables(executionId)) {
+      return getListFromCache(variableInstanceEntity, executionId);
+    }
     return getList("selectVariablesByExecutionId", executionId, variableInstanceEntity, true);
   }
 
@@ -78,6 +94,15 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
   @Override
   public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
+    if (isPrefetched(Collections.singleton(variableName)) && prefetchProcessInstanceVariables(executionId)) {
+      for (VariableInstanceEntity variableInstance : getListFromCache(variableInstanceEntity, executionId)) {
+        if (variableInstance.getTaskId() == null && variableName.equals(variableInstance.getName())) {
+          return variableInstance;
+        }
+      }
+      return null;
+    }
+
     Map<String, String> params = new HashMap<String, String>(2);
     params.put("executionId", executionId);
     params.put("name", variableName);
@@ -87,6 +112,16 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
   @Override
   @SuppressWarnings("unchecked")
   public List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names) {
+    if (isPrefetched(names) && prefetchProcessInstanceVariables(executionId)) {
+      List<VariableInstanceEntity> variableInstances = new ArrayList<VariableInstanceEntity>(names.size());
+      for (VariableInstanceEntity variableInstance : getListFromCache(variableInstanceEntity, executionId)) {
+        if (variableInstance.getTaskId() == null && names.contains(variableInstance.getName())) {
+          variableInstances.add(variableInstance);
+        }
+      }
+      return variableInstances;
+    }
+
     Map<String, Object> params = new HashMap<String, Object>(2);
     params.put("executionId", executionId);
     params.put("names", names);
@@ -110,4 +145,36 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     return getDbSqlSession().selectList("selectVariableInstancesByTaskAndNames", params);
   }
 
+  protected boolean isPrefetched(Collection<String> names) {
+    if (!performanceSettings.isEnableVariablePrefetch() || names == null || names.isEmpty()) {
+      return false;
+    }
+    Set<String> prefetchNames = performanceSettings.getVariablePrefetchNames();
+    return prefetchNames == null || prefetchNames.containsAll(names);
+  }
+
+  /**
+   * Fetches the variables of the process instance of the given execution, once per command. This stores them in the cache,
+   * from which the variables of all executions of the process instance can then be retrieved.
+   *
+   * @return false if the process instance is not known, in which case nothing was fetched
+   */
+  protected boolean prefetchProcessInstanceVariables(String executionId) {
+    ExecutionEntity execution = getEntityCache().findInCache(ExecutionEntityImpl.class, executionId);
+    CommandContext commandContext = Context.getCommandContext();
+    if (execution == null || execution.getProcessInstanceId() == null || commandContext == null) {
+      return false;
+    }
+
+    String attributeKey = PREFETCHED_PROCESS_INSTANCE_ATTRIBUTE_PREFIX + execution.getProcessInstanceId();
+    if (commandContext.getAttribute(attributeKey) == null) {
+      Map<String, Object> params = new HashMap<String, Object>(2);
+      params.put("processInstanceId", execution.getProcessInstanceId());
+      params.put("names", performanceSettings.getVariablePrefetchNames());
+      getDbSqlSession().selectList("selectVariablesByProcessInstanceIdAndNames", params);
+      commandContext.addAttribute(attributeKey, Boolean.TRUE);
+    }
+    return true;
+  }
+
 }
@@ -17,17 +17,28 @@
 package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.DeadLetterJobEntity;
 
 /**
 
  */
-public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> {
+public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> implements IndexedCachedEntityMatcher<DeadLetterJobEntity> {
 
   @Override
   public boolean isRetained(DeadLetterJobEntity jobEntity, Object param) {
     return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.JOB_EXECUTION_ID;
+  }
+
+  @Override
+  public String getIndexedValue(Object parameter) {
+    return (String) parameter;
+  }
 
 }
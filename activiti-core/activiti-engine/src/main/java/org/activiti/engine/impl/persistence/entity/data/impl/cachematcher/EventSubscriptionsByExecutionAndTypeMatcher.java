@@ -19,12 +19,14 @@ package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
 
  */
-public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher<EventSubscriptionEntity> {
 
   @Override
   public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
@@ -36,4 +38,15 @@ public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMat
         && eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals(executionId);
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.EVENT_SUBSCRIPTION_EXECUTION_ID;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public String getIndexedValue(Object parameter) {
+    return ((Map<String, String>) parameter).get("executionId");
+  }
+
 }
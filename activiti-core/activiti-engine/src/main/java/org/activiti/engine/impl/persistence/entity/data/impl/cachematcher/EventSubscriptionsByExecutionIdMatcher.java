@@ -17,16 +17,28 @@
 package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
 
  */
-public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher<EventSubscriptionEntity> {
 
   @Override
   public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
     return eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals((String) parameter);
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.EVENT_SUBSCRIPTION_EXECUTION_ID;
+  }
+
+  @Override
+  public String getIndexedValue(Object parameter) {
+    return (String) parameter;
+  }
+
 }
@@ -19,12 +19,14 @@ package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
 
  */
-public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
   @Override
   public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -36,4 +38,15 @@ public class InactiveExecutionsByProcInstMatcher extends CachedEntityMatcherAdap
         && !executionEntity.isActive();
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.EXECUTION_PROCESS_INSTANCE_ID;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public String getIndexedValue(Object parameter) {
+    return (String) ((Map<String, Object>) parameter).get("processInstanceId");
+  }
+
 }
@@ -17,16 +17,28 @@
 package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.JobEntity;
 
 /**
 
  */
-public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> {
+public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> implements IndexedCachedEntityMatcher<JobEntity> {
 
   @Override
   public boolean isRetained(JobEntity jobEntity, Object parameter) {
     return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals((String) parameter);
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.JOB_EXECUTION_ID;
+  }
+
+  @Override
+  public String getIndexedValue(Object parameter) {
+    return (String) parameter;
+  }
+
 }
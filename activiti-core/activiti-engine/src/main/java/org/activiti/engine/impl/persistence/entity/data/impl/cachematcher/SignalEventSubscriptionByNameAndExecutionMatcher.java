@@ -19,13 +19,15 @@ package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.activiti.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
 
 /**
 
  */
-public class SignalEventSubscriptionByNameAndExecutionMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class SignalEventSubscriptionByNameAndExecutionMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher<EventSubscriptionEntity> {
 
   @Override
   public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
@@ -38,4 +40,15 @@ public class SignalEventSubscriptionByNameAndExecutionMatcher extends CachedEnti
         && eventSubscriptionEntity.getEventName() != null && eventSubscriptionEntity.getEventName().equals(name);
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.EVENT_SUBSCRIPTION_EXECUTION_ID;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public String getIndexedValue(Object parameter) {
+    return ((Map<String, String>) parameter).get("executionId");
+  }
+
 }
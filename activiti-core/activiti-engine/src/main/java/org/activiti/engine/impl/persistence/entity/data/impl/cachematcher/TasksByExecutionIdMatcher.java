@@ -17,16 +17,28 @@
 package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 
 /**
 
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> implements IndexedCachedEntityMatcher<TaskEntity> {
 
   @Override
   public boolean isRetained(TaskEntity taskEntity, Object parameter) {
     return taskEntity.getExecutionId() != null && parameter.equals(taskEntity.getExecutionId());
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.TASK_EXECUTION_ID;
+  }
+
+  @Override
+  public String getIndexedValue(Object parameter) {
+    return (String) parameter;
+  }
+
 }
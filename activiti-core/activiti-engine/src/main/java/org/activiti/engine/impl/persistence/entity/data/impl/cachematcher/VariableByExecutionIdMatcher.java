@@ -17,12 +17,14 @@
 package org.activiti.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.activiti.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.activiti.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.activiti.engine.impl.persistence.cache.EntityCacheIndex;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 
 /**
 
  */
-public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
 
   @Override
   public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -30,4 +32,14 @@ public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<Var
         && variableInstanceEntity.getExecutionId().equals((String) parameter);
   }
 
+  @Override
+  public EntityCacheIndex<?> getIndex() {
+    return EntityCacheIndex.VARIABLE_EXECUTION_ID;
+  }
+
+  @Override
+  public String getIndexedValue(Object parameter) {
+    return (String) parameter;
+  }
+
 }
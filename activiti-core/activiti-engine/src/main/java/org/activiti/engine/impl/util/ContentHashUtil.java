@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.impl.persistence.entity.ResourceEntity;
+
+/**
+ * Computes the SHA-256 content hashes stored with deployment resources and deployments, so that duplicate
+ * deployments can be detected without loading the resource bytes from the database.
+ */
+public class ContentHashUtil {
+
+  protected static final String ALGORITHM = "SHA-256";
+
+  public static String hash(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    return HexFormat.of().formatHex(newMessageDigest().digest(bytes));
+  }
+
+  /**
+   * Hashes the names and content hashes of the resources which are not generated, in name order.
+   * Returns null when the hash of one of those resources is unknown.
+   */
+  public static String hashResources(Map<String, ResourceEntity> resources) {
+    if (resources == null) {
+      return null;
+    }
+
+    Map<String, String> resourceHashes = new TreeMap<String, String>();
+    for (ResourceEntity resource : resources.values()) {
+      if (!resource.isGenerated()) {
+        String contentHash = resource.getContentHash();
+        if (contentHash == null) {
+          return null;
+        }
+        resourceHashes.put(resource.getName(), contentHash);
+      }
+    }
+    return hashResourceHashes(resourceHashes);
+  }
+
+  /**
+   * Hashes resource content hashes by resource name. The map must iterate in name order.
+   */
+  public static String hashResourceHashes(Map<String, String> resourceHashes) {
+    MessageDigest messageDigest = newMessageDigest();
+    for (Map.Entry<String, String> resourceHash : resourceHashes.entrySet()) {
+      messageDigest.update(resourceHash.getKey().getBytes(StandardCharsets.UTF_8));
+      messageDigest.update((byte) 0);
+      messageDigest.update(resourceHash.getValue().getBytes(StandardCharsets.UTF_8));
+      messageDigest.update((byte) '\n');
+    }
+    return HexFormat.of().formatHex(messageDigest.digest());
+  }
+
+  protected static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new ActivitiException(ALGORITHM + " is not supported by this JVM", e);
+    }
+  }
+
+}
@@ -32,13 +32,20 @@ public class JsonType implements VariableType {
   private ObjectMapper objectMapper;
   private boolean serializePOJOsInVariablesToJson;
     private JsonTypeConverter jsonTypeConverter;
+  private JsonVariableSerializer jsonVariableSerializer;
 
   public JsonType(int maxLength, ObjectMapper objectMapper, boolean serializePOJOsInVariablesToJson,
       JsonTypeConverter jsonTypeConverter) {
+    this(maxLength, new JsonVariableSerializer(objectMapper), serializePOJOsInVariablesToJson, jsonTypeConverter);
+  }
+
+  public JsonType(int maxLength, JsonVariableSerializer jsonVariableSerializer, boolean serializePOJOsInVariablesToJson,
+      JsonTypeConverter jsonTypeConverter) {
     this.maxLength = maxLength;
-    this.objectMapper = objectMapper;
+    this.objectMapper = jsonVariableSerializer.getObjectMapper();
     this.serializePOJOsInVariablesToJson = serializePOJOsInVariablesToJson;
       this.jsonTypeConverter = jsonTypeConverter;
+    this.jsonVariableSerializer = jsonVariableSerializer;
   }
 
   public String getTypeName() {
@@ -65,7 +72,7 @@ public class JsonType implements VariableType {
 
   public void setValue(Object value, ValueFields valueFields) {
     try {
-      valueFields.setTextValue(objectMapper.writeValueAsString(value));
+      valueFields.setTextValue(jsonVariableSerializer.takeSerialized(value));
       if (value != null) {
           valueFields.setTextValue2(value.getClass().getName());
       }
@@ -81,7 +88,7 @@ public class JsonType implements VariableType {
 
     if (JsonNode.class.isAssignableFrom(value.getClass()) || (objectMapper.canSerialize(value.getClass()) && serializePOJOsInVariablesToJson)) {
       try {
-        return objectMapper.writeValueAsString(value).length() <= maxLength;
+        return jsonVariableSerializer.serialize(value).length() <= maxLength;
       } catch (JsonProcessingException e) {
         logger.error("Error writing json variable of type " + value.getClass(), e);
       }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.variable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+
+/**
+ * Serializes variable values to json for {@link JsonType} and {@link LongJsonType}.
+ *
+ * Picking the type of a variable needs the length of its json, and storing it needs the json itself. The json produced
+ * while picking the type is kept as an attribute of the current command context, so that the value is serialized only
+ * once when it is then stored. Nothing is kept outside of a command, nor once the command context is closed.
+ */
+public class JsonVariableSerializer {
+
+  private static final String LAST_SERIALIZED_VALUE_ATTRIBUTE = JsonVariableSerializer.class.getName() + ".lastSerializedValue";
+
+  private final ObjectMapper objectMapper;
+
+  public JsonVariableSerializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+
+  /**
+   * Serializes the value and keeps the result for the following calls with the same value instance.
+   */
+  public String serialize(Object value) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(value);
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      commandContext.addAttribute(LAST_SERIALIZED_VALUE_ATTRIBUTE, new SerializedValue(this, value, json));
+    }
+    return json;
+  }
+
+  /**
+   * Returns the json kept by {@link #serialize(Object)} for this value instance, or serializes it if there is none.
+   */
+  public String getSerialized(Object value) throws JsonProcessingException {
+    SerializedValue serializedValue = getLastSerializedValue(false);
+    if (serializedValue != null && serializedValue.value == value) {
+      return serializedValue.json;
+    }
+    return serialize(value);
+  }
+
+  /**
+   * Same as {@link #getSerialized(Object)}, but forgets the kept json: used once the value is stored,
+   * as the value may change afterwards.
+   */
+  public String takeSerialized(Object value) throws JsonProcessingException {
+    SerializedValue serializedValue = getLastSerializedValue(true);
+    if (serializedValue != null && serializedValue.value == value) {
+      return serializedValue.json;
+    }
+    return objectMapper.writeValueAsString(value);
+  }
+
+  private SerializedValue getLastSerializedValue(boolean remove) {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext == null) {
+      return null;
+    }
+    SerializedValue serializedValue = commandContext.getGenericAttribute(LAST_SERIALIZED_VALUE_ATTRIBUTE);
+    if (serializedValue == null || serializedValue.serializer != this) {
+      return null;
+    }
+    if (remove) {
+      commandContext.addAttribute(LAST_SERIALIZED_VALUE_ATTRIBUTE, null);
+    }
+    return serializedValue;
+  }
+
+  private static class SerializedValue {
+
+    private final JsonVariableSerializer serializer;
+    private final Object value;
+    private final String json;
+
+    SerializedValue(JsonVariableSerializer serializer, Object value, String json) {
+      this.serializer = serializer;
+      this.value = value;
+      this.json = json;
+    }
+  }
+}
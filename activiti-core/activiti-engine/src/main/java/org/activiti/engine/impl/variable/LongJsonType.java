@@ -34,14 +34,22 @@ public class LongJsonType extends SerializableType {
   private ObjectMapper objectMapper;
   private boolean serializePOJOsInVariablesToJson;
   private JsonTypeConverter jsonTypeConverter;
+  private JsonVariableSerializer jsonVariableSerializer;
 
   public LongJsonType(int minLength, ObjectMapper objectMapper,
       boolean serializePOJOsInVariablesToJson,
       JsonTypeConverter jsonTypeConverter) {
+    this(minLength, new JsonVariableSerializer(objectMapper), serializePOJOsInVariablesToJson, jsonTypeConverter);
+  }
+
+  public LongJsonType(int minLength, JsonVariableSerializer jsonVariableSerializer,
+      boolean serializePOJOsInVariablesToJson,
+      JsonTypeConverter jsonTypeConverter) {
     this.minLength = minLength;
-    this.objectMapper = objectMapper;
+    this.objectMapper = jsonVariableSerializer.getObjectMapper();
     this.serializePOJOsInVariablesToJson = serializePOJOsInVariablesToJson;
     this.jsonTypeConverter = jsonTypeConverter;
+    this.jsonVariableSerializer = jsonVariableSerializer;
   }
 
   public String getTypeName() {
@@ -57,7 +65,7 @@ public class LongJsonType extends SerializableType {
         (objectMapper.canSerialize(value.getClass()) &&
             serializePOJOsInVariablesToJson)) {
       try {
-        return objectMapper.writeValueAsString(value).length() >= minLength;
+        return jsonVariableSerializer.getSerialized(value).length() >= minLength;
       } catch (JsonProcessingException e) {
         logger.error("Error writing json variable of type " + value.getClass(), e);
       }
@@ -72,7 +80,7 @@ public class LongJsonType extends SerializableType {
     }
     String json = null;
     try {
-      json = objectMapper.writeValueAsString(value);
+      json = jsonVariableSerializer.takeSerialized(value);
     } catch (JsonProcessingException e) {
       logger.error("Error writing long json variable " + valueFields.getName(), e);
     }
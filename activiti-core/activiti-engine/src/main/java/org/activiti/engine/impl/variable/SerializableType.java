@@ -28,6 +28,8 @@ import java.io.Serializable;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.util.IoUtil;
 import org.activiti.engine.impl.util.ReflectUtil;
@@ -67,8 +69,11 @@ public class SerializableType extends ByteArrayType {
       valueFields.setCachedValue(deserializedObject);
 
       if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
-        Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
-            new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity)valueFields)));
+        CommandContext commandContext = Context.getCommandContext();
+        if (!isReadOnlyVariablesCommand(commandContext)) {
+          commandContext.addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
+              new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity)valueFields)));
+        }
       }
 
       return deserializedObject;
@@ -89,6 +94,14 @@ public class SerializableType extends ByteArrayType {
 
   }
 
+  /**
+   * Objects deserialized for a {@link ReadOnlyVariablesCommand} are handed back to the caller as is:
+   * serializing them again when the command context closes would never find a change.
+   */
+  protected boolean isReadOnlyVariablesCommand(CommandContext commandContext) {
+    return commandContext.getCommand() instanceof ReadOnlyVariablesCommand;
+  }
+
   public byte[] serialize(Object value, ValueFields valueFields) {
     if (value == null) {
       return null;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.query;
+
+import org.activiti.engine.api.internal.Internal;
+
+/**
+ * A query that can be paged by keyset (seek) pagination: each page starts after the order value and id of the last
+ * result of the previous page, so deep pages are as cheap as the first one, unlike {@link Query#listPage(int, int)}.
+ *
+ * The query must be ordered by at most one property (results are then ordered by id as well), without null handling,
+ * and the property must be supported by the query: the id, or a property that is never null.
+ */
+@Internal
+public interface KeysetQuery<U> {
+
+  /**
+   * Executes the query and gets the page of at most maxResults entities following the given page token, without
+   * counting the results.
+   *
+   * @param pageToken
+   *          the {@link QueryPage#getNextPageToken()} of the previous page, or null for the first page
+   * @throws org.activiti.engine.ActivitiIllegalArgumentException
+   *           when the ordering of the query is not supported, or the token is invalid or was created with another ordering
+   */
+  QueryPage<U> listPageAfter(String pageToken, int maxResults);
+
+}
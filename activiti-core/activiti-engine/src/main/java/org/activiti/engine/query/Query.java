@@ -62,4 +62,16 @@ public interface Query<T extends Query<?, ?>, U> {
 
   /** Executes the query and get a list of entities as the result. */
   List<U> listPage(int firstResult, int maxResults);
+
+  /**
+   * Executes the query and gets a page of entities together with the total number of results, in a single command.
+   * The results are only counted when the page is full: a page that is not full is the last one, so the total follows from it.
+   */
+  QueryPage<U> listPageWithTotal(int firstResult, int maxResults);
+
+  /**
+   * Executes the query and gets a page of entities, without counting the results: one extra result is fetched to tell
+   * whether there is a next page. The total count of the returned page is {@link QueryPage#UNKNOWN_TOTAL_COUNT}.
+   */
+  QueryPage<U> listPageWithHasNext(int firstResult, int maxResults);
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.query;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A page of query results, see {@link Query#listPageWithTotal(int, int)}, {@link Query#listPageWithHasNext(int, int)}
+ * and the keyset pagination of {@link KeysetQuery#listPageAfter(String, int)}.
+ */
+public class QueryPage<U> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Total count of a page returned by {@link Query#listPageWithHasNext(int, int)}, which does not count the results */
+  public static final long UNKNOWN_TOTAL_COUNT = -1L;
+
+  protected List<U> results;
+  protected long totalCount;
+  protected boolean hasNext;
+  protected String nextPageToken;
+
+  public QueryPage(List<U> results, long totalCount, boolean hasNext) {
+    this(results, totalCount, hasNext, null);
+  }
+
+  public QueryPage(List<U> results, long totalCount, boolean hasNext, String nextPageToken) {
+    this.results = results;
+    this.totalCount = totalCount;
+    this.hasNext = hasNext;
+    this.nextPageToken = nextPageToken;
+  }
+
+  public List<U> getResults() {
+    return results;
+  }
+
+  /**
+   * The number of results matching the query across all pages, or {@link #UNKNOWN_TOTAL_COUNT}.
+   */
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  public boolean isTotalCountKnown() {
+    return totalCount != UNKNOWN_TOTAL_COUNT;
+  }
+
+  /**
+   * Whether there are results after this page.
+   */
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  /**
+   * Token to pass to {@link KeysetQuery#listPageAfter(String, int)} to get the next page, or null when this page was
+   * not fetched with keyset pagination or is the last one.
+   */
+  public String getNextPageToken() {
+    return nextPageToken;
+  }
+
+}
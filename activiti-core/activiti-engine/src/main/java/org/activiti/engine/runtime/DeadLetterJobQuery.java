@@ -67,6 +67,9 @@ public interface DeadLetterJobQuery extends Query<DeadLetterJobQuery, Job> {
   /** Only select jobs that failed due to an exception with the given message. */
   DeadLetterJobQuery exceptionMessage(String exceptionMessage);
 
+  /** Only select jobs executed by the job handler of the given type. */
+  DeadLetterJobQuery handlerType(String handlerType);
+
   /**
    * Only select jobs that have the given tenant id.
    */
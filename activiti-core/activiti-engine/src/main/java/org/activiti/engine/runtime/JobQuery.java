@@ -63,6 +63,9 @@ public interface JobQuery extends Query<JobQuery, Job> {
   /** Only select jobs that failed due to an exception with the given message. */
   JobQuery exceptionMessage(String exceptionMessage);
 
+  /** Only select jobs executed by the job handler of the given type. */
+  JobQuery handlerType(String handlerType);
+
   /**
    * Only select jobs that have the given tenant id.
    */
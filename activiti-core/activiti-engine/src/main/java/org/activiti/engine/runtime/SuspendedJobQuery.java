@@ -74,6 +74,9 @@ public interface SuspendedJobQuery extends Query<SuspendedJobQuery, Job> {
   /** Only select jobs that failed due to an exception with the given message. */
   SuspendedJobQuery exceptionMessage(String exceptionMessage);
 
+  /** Only select jobs executed by the job handler of the given type. */
+  SuspendedJobQuery handlerType(String handlerType);
+
   /**
    * Only select jobs that have the given tenant id.
    */
@@ -23,6 +23,7 @@ import java.util.List;
 import org.activiti.engine.ActivitiIllegalArgumentException;
 import org.activiti.engine.api.internal.Internal;
 import org.activiti.engine.history.HistoricTaskInstanceQuery;
+import org.activiti.engine.query.KeysetQuery;
 import org.activiti.engine.query.Query;
 
 /**
@@ -30,7 +31,7 @@ import org.activiti.engine.query.Query;
  *
  */
 @Internal
-public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V> {
+public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo> extends Query<T, V>, KeysetQuery<V> {
 
   /**
    * Only select tasks with the given task id (in practice, there will be maximum one of this kind)
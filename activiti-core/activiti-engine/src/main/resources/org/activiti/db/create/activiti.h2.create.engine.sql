@@ -6,10 +6,10 @@ create table ACT_GE_PROPERTY (
 );
 
 insert into ACT_GE_PROPERTY
-values ('schema.version', '8.1.0', 1);
+values ('schema.version', '8.2.0', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(8.1.0)', 1);
+values ('schema.history', 'create(8.2.0)', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -21,6 +21,7 @@ create table ACT_GE_BYTEARRAY (
     DEPLOYMENT_ID_ varchar(64),
     BYTES_ longvarbinary,
     GENERATED_ bit,
+    CONTENT_HASH_ varchar(64),
     primary key (ID_)
 );
 
@@ -34,6 +35,7 @@ create table ACT_RE_DEPLOYMENT (
     ENGINE_VERSION_ varchar(255),
     VERSION_ integer default 1,
     PROJECT_RELEASE_VERSION_ varchar(255),
+    CONTENT_HASH_ varchar(64),
     primary key (ID_)
 );
 
@@ -0,0 +1,4 @@
+alter table ACT_GE_BYTEARRAY add column CONTENT_HASH_ varchar(64);
+alter table ACT_RE_DEPLOYMENT add column CONTENT_HASH_ varchar(64);
+
+execute java org.activiti.engine.impl.db.upgrade.DbUpgradeStep810To820ComputeContentHashes
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.delegate.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventListener;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.junit.Test;
+
+public class ActivitiEventSupportTest {
+
+    private ActivitiEventSupport eventSupport = new ActivitiEventSupport();
+
+    private List<String> calls = new ArrayList<>();
+
+    @Test
+    public void should_callGlobalListenersBeforeTypedListeners() {
+        eventSupport.addEventListener(new RecordingListener("typed"), ActivitiEventType.TASK_CREATED);
+        eventSupport.addEventListener(new RecordingListener("global"));
+
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_CREATED));
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_COMPLETED));
+
+        assertThat(calls).containsExactly("global:TASK_CREATED", "typed:TASK_CREATED", "global:TASK_COMPLETED");
+    }
+
+    @Test
+    public void should_onlyCallListenerForDeclaredEventTypes() {
+        eventSupport.addEventListener(new RecordingListener("declared", EnumSet.of(ActivitiEventType.TASK_ASSIGNED)));
+
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_CREATED));
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_ASSIGNED));
+
+        assertThat(calls).containsExactly("declared:TASK_ASSIGNED");
+        assertThat(eventSupport.hasListeners(ActivitiEventType.TASK_ASSIGNED)).isTrue();
+        assertThat(eventSupport.hasListeners(ActivitiEventType.TASK_CREATED)).isFalse();
+    }
+
+    @Test
+    public void should_stopCallingRemovedListener() {
+        RecordingListener listener = new RecordingListener("removed");
+        eventSupport.addEventListener(listener);
+        eventSupport.addEventListener(listener, ActivitiEventType.TASK_CREATED);
+
+        eventSupport.removeEventListener(listener);
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_CREATED));
+
+        assertThat(calls).isEmpty();
+        assertThat(eventSupport.hasListeners(ActivitiEventType.TASK_CREATED)).isFalse();
+    }
+
+    @Test
+    public void should_ignoreListenerWithNullType() {
+        eventSupport.addEventListener(new RecordingListener("null"), (ActivitiEventType) null);
+
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_CREATED));
+
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void should_propagateExceptionOnlyWhenListenerFailsOnException() {
+        eventSupport.addEventListener(new ThrowingListener(false));
+        eventSupport.addEventListener(new RecordingListener("after"));
+
+        eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_CREATED));
+        assertThat(calls).containsExactly("after:TASK_CREATED");
+
+        eventSupport.addEventListener(new ThrowingListener(true), ActivitiEventType.TASK_COMPLETED);
+        assertThatExceptionOfType(ActivitiException.class)
+            .isThrownBy(() -> eventSupport.dispatchEvent(new ActivitiEventImpl(ActivitiEventType.TASK_COMPLETED)));
+    }
+
+    private class RecordingListener implements ActivitiEventListener {
+
+        private final String name;
+        private final Set<ActivitiEventType> supportedEventTypes;
+
+        RecordingListener(String name) {
+            this(name, null);
+        }
+
+        RecordingListener(String name, Set<ActivitiEventType> supportedEventTypes) {
+            this.name = name;
+            this.supportedEventTypes = supportedEventTypes;
+        }
+
+        @Override
+        public void onEvent(ActivitiEvent event) {
+            calls.add(name + ":" + event.getType());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        @Override
+        public Set<ActivitiEventType> getSupportedEventTypes() {
+            return supportedEventTypes;
+        }
+    }
+
+    private static class ThrowingListener implements ActivitiEventListener {
+
+        private final boolean failOnException;
+
+        ThrowingListener(boolean failOnException) {
+            this.failOnException = failOnException;
+        }
+
+        @Override
+        public void onEvent(ActivitiEvent event) {
+            throw new RuntimeException("listener failure");
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return failOnException;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.agenda;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import org.activiti.engine.ActivitiEngineAgendaFactory;
+import org.activiti.engine.ProcessEngine;
+import org.activiti.engine.ProcessEngineConfiguration;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.task.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the same straight-through process on an engine with the default agenda and on one with the
+ * {@link PooledActivitiEngineAgenda}, checks they execute the same flow nodes, and logs the bytes allocated
+ * per executed flow node by each agenda.
+ */
+public class PooledActivitiEngineAgendaTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(PooledActivitiEngineAgendaTest.class);
+
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int MEASURED_ITERATIONS = 50;
+
+  private ProcessEngine defaultAgendaProcessEngine;
+  private ProcessEngine pooledAgendaProcessEngine;
+
+  @Before
+  public void createProcessEngines() {
+    defaultAgendaProcessEngine = createProcessEngine("default", new DefaultActivitiEngineAgendaFactory());
+    pooledAgendaProcessEngine = createProcessEngine("pooled", new PooledActivitiEngineAgendaFactory());
+  }
+
+  @After
+  public void closeProcessEngines() {
+    defaultAgendaProcessEngine.close();
+    pooledAgendaProcessEngine.close();
+  }
+
+  @Test
+  public void shouldExecuteTheSameFlowNodesAsTheDefaultAgenda() {
+    long defaultAgendaActivityCount = runProcess(defaultAgendaProcessEngine);
+    long pooledAgendaActivityCount = runProcess(pooledAgendaProcessEngine);
+
+    assertThat(pooledAgendaActivityCount).isEqualTo(defaultAgendaActivityCount);
+  }
+
+  @Test
+  public void shouldReportAllocationPerFlowNode() {
+    double defaultAgendaBytes = measureAllocatedBytesPerFlowNode(defaultAgendaProcessEngine);
+    double pooledAgendaBytes = measureAllocatedBytesPerFlowNode(pooledAgendaProcessEngine);
+
+    logger.info("Allocated bytes per executed flow node: default agenda {}, pooled agenda {}", Math.round(defaultAgendaBytes), Math.round(pooledAgendaBytes));
+    assertThat(pooledAgendaBytes).isPositive();
+  }
+
+  private ProcessEngine createProcessEngine(String name, ActivitiEngineAgendaFactory agendaFactory) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-PooledActivitiEngineAgendaTest-" + name);
+    processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+    processEngineConfiguration.setProcessEngineName(name);
+    processEngineConfiguration.setEngineAgendaFactory(agendaFactory);
+    ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+    processEngine.getRepositoryService().createDeployment()
+        .addClasspathResource("org/activiti/engine/impl/agenda/PooledActivitiEngineAgendaTest.bpmn20.xml")
+        .deploy();
+    return processEngine;
+  }
+
+  /**
+   * @return the number of flow nodes executed by one process instance
+   */
+  private long runProcess(ProcessEngine processEngine) {
+    ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("straightThrough", singletonMap("counter", (Object) 0));
+
+    Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertThat(task.getName()).isEqualTo("Wait");
+    assertThat(processEngine.getRuntimeService().getVariable(processInstance.getId(), "counter")).isEqualTo(50);
+
+    processEngine.getTaskService().complete(task.getId());
+    assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+    return processEngine.getHistoryService().createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).count();
+  }
+
+  private double measureAllocatedBytesPerFlowNode(ProcessEngine processEngine) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      startProcess(processEngine);
+    }
+
+    long flowNodes = runProcess(processEngine);
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      startProcess(processEngine);
+    }
+    long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+    // Flow nodes up to (and including) the user task, the only ones executed when starting the process
+    return (double) allocatedBytes / (MEASURED_ITERATIONS * (flowNodes - 1));
+  }
+
+  private void startProcess(ProcessEngine processEngine) {
+    processEngine.getRuntimeService().startProcessInstanceByKey("straightThrough", singletonMap("counter", (Object) 0));
+  }
+
+}
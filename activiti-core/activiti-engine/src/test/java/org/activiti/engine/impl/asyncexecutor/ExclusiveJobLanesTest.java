@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.JobEntityImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ExclusiveJobLanesTest {
+
+  private static final int LOCK_TIME = 60000;
+
+  private ProcessEngineConfigurationImpl processEngineConfiguration = mock(ProcessEngineConfigurationImpl.class, RETURNS_DEEP_STUBS);
+
+  private CommandExecutor commandExecutor = mock(CommandExecutor.class);
+
+  private ExecutorService executorService = mock(ExecutorService.class);
+
+  private ExclusiveJobLanes exclusiveJobLanes = new ExclusiveJobLanes(1, 10, executorService, processEngineConfiguration);
+
+  @Before
+  public void setUp() {
+    given(processEngineConfiguration.getCommandExecutor()).willReturn(commandExecutor);
+    given(processEngineConfiguration.getClock().getCurrentTime()).willReturn(new Date(100000));
+    given(processEngineConfiguration.getAsyncExecutor().getAsyncJobLockTimeInMillis()).willReturn(LOCK_TIME);
+    given(commandExecutor.execute(any(Command.class))).willReturn(true);
+  }
+
+  @Test
+  public void shouldNotRenewLocksThatAreNotAboutToExpire() {
+    JobEntityImpl[] jobs = queueJobs(100000 + LOCK_TIME);
+
+    runLane();
+
+    // Locking and unlocking the process instance only
+    verify(commandExecutor, times(2)).execute(any(Command.class));
+    assertThat(jobs[2].getRevision()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRenewJobLocksThatAreAboutToExpire() {
+    JobEntityImpl[] jobs = queueJobs(100000 + LOCK_TIME / 4);
+
+    runLane();
+
+    // Locking and unlocking the process instance, and renewing the lock of every job
+    verify(commandExecutor, times(5)).execute(any(Command.class));
+    for (JobEntityImpl job : jobs) {
+      assertThat(job.getLockExpirationTime()).isEqualTo(new Date(100000 + LOCK_TIME));
+      assertThat(job.getRevision()).isEqualTo(2);
+    }
+  }
+
+  private JobEntityImpl[] queueJobs(long lockExpirationTime) {
+    JobEntityImpl[] jobs = new JobEntityImpl[3];
+    for (int i = 0; i < jobs.length; i++) {
+      jobs[i] = new JobEntityImpl();
+      jobs[i].setId("job" + i);
+      jobs[i].setRevision(1);
+      jobs[i].setExclusive(true);
+      jobs[i].setProcessInstanceId("processInstance");
+      jobs[i].setLockOwner("owner");
+      jobs[i].setLockExpirationTime(new Date(lockExpirationTime));
+      assertThat(exclusiveJobLanes.execute(jobs[i], mock(ExecuteAsyncRunnable.class))).isTrue();
+    }
+    return jobs;
+  }
+
+  private void runLane() {
+    ArgumentCaptor<Runnable> laneRunnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(executorService).execute(laneRunnable.capture());
+    laneRunnable.getValue().run();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+
+import org.activiti.engine.ActivitiOptimisticLockingException;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.TimerJobEntityImpl;
+import org.junit.Test;
+
+public class TimerWheelAcquireTimerJobsRunnableTest {
+
+  private AsyncExecutor asyncExecutor = mock(AsyncExecutor.class, RETURNS_DEEP_STUBS);
+
+  private CommandExecutor commandExecutor = mock(CommandExecutor.class);
+
+  @Test
+  public void shouldUnlockEveryScheduledTimerJobInItsOwnTransaction() {
+    given(asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime()).willReturn(new Date(1000));
+    TimerWheelAcquireTimerJobsRunnable runnable = new TimerWheelAcquireTimerJobsRunnable(asyncExecutor, null, 60000, 100);
+    runnable.getTimerWheel().schedule(new TimerJobEntityImpl(), 2000);
+    runnable.getTimerWheel().schedule(new TimerJobEntityImpl(), 3000);
+    given(commandExecutor.execute(any(Command.class)))
+        .willThrow(new ActivitiOptimisticLockingException("changed"))
+        .willReturn(null);
+
+    runnable.releaseScheduledTimerJobs(commandExecutor);
+
+    verify(commandExecutor, times(2)).execute(any(Command.class));
+    assertThat(runnable.getTimerWheel().isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+
+  private TimerWheel<String> timerWheel = new TimerWheel<String>(8, 100, 1000);
+
+  @Test
+  public void shouldFireItemsAtTheFirstTickAtOrAfterTheirDueTime() {
+    timerWheel.schedule("a", 1150);
+    timerWheel.schedule("b", 1200);
+    timerWheel.schedule("c", 1250);
+
+    assertThat(timerWheel.advance(1199)).isEmpty();
+    assertThat(timerWheel.advance(1200)).containsExactlyInAnyOrder("a", "b");
+    assertThat(timerWheel.advance(1299)).isEmpty();
+    assertThat(timerWheel.advance(1300)).containsExactly("c");
+    assertThat(timerWheel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldKeepItemsDueAfterMoreThanOneTurnOfTheWheel() {
+    // 800 millis ahead, in the bucket of the tick at 1100
+    timerWheel.schedule("late", 1900);
+    timerWheel.schedule("soon", 1100);
+
+    assertThat(timerWheel.advance(1100)).containsExactly("soon");
+    assertThat(timerWheel.getNextTickTime()).isEqualTo(1200);
+    assertThat(timerWheel.advance(1800)).isEmpty();
+    assertThat(timerWheel.advance(1900)).containsExactly("late");
+  }
+
+  @Test
+  public void shouldFireOverdueItemsWithTheNextTick() {
+    timerWheel.advance(1500);
+    timerWheel.schedule("overdue", 1000);
+
+    assertThat(timerWheel.advance(1500)).containsExactly("overdue");
+  }
+
+  @Test
+  public void shouldFireAllDueItemsWhenTheClockJumpsAhead() {
+    timerWheel.schedule("a", 1100);
+    timerWheel.schedule("b", 1700);
+    timerWheel.schedule("c", 5000);
+
+    assertThat(timerWheel.advance(4000)).containsExactlyInAnyOrder("a", "b");
+    assertThat(timerWheel.size()).isEqualTo(1);
+    assertThat(timerWheel.clear()).containsExactly("c");
+    assertThat(timerWheel.getNextTickTime()).isEqualTo(-1);
+  }
+}
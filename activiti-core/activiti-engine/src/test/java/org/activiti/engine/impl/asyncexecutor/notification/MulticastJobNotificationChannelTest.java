@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.asyncexecutor.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class MulticastJobNotificationChannelTest {
+
+  private MulticastJobNotificationChannel channel = new MulticastJobNotificationChannel("239.255.42.99", 45399, "cluster-a");
+
+  @Test
+  public void shouldOnlyAcceptNotificationsOfOtherNodesOfTheSameCluster() {
+    assertThat(channel.isNotificationOfOtherNode("cluster-a\nother-node")).isTrue();
+    assertThat(channel.isNotificationOfOtherNode("cluster-a\n" + channel.getNodeId())).isFalse();
+    assertThat(channel.isNotificationOfOtherNode("cluster-b\nother-node")).isFalse();
+    assertThat(channel.isNotificationOfOtherNode("garbage")).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyLocalListenersWithoutBeingStarted() {
+    AtomicInteger notifications = new AtomicInteger();
+    JobNotificationListener listener = notifications::incrementAndGet;
+    channel.addListener(listener);
+
+    channel.notifyJobsAvailable();
+    assertThat(notifications.get()).isEqualTo(1);
+
+    channel.removeListener(listener);
+    channel.notifyJobsAvailable();
+    assertThat(notifications.get()).isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.activiti.engine.impl.cmd.GetNextIdBlockCmd;
+import org.activiti.engine.impl.interceptor.CommandConfig;
+import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StripedDbIdGeneratorTest {
+
+    private static final int ID_BLOCK_SIZE = 10;
+
+    @Mock
+    private CommandExecutor commandExecutor;
+
+    private final AtomicLong nextDbId = new AtomicLong(1);
+
+    private StripedDbIdGenerator idGenerator;
+
+    @Before
+    public void setUp() {
+        given(commandExecutor.execute(any(CommandConfig.class), any(GetNextIdBlockCmd.class))).willAnswer(invocation -> {
+            long firstId = nextDbId.getAndAdd(ID_BLOCK_SIZE);
+            return new IdBlock(firstId, firstId + ID_BLOCK_SIZE - 1);
+        });
+
+        idGenerator = new StripedDbIdGenerator();
+        idGenerator.setIdBlockSize(ID_BLOCK_SIZE);
+        idGenerator.setCommandExecutor(commandExecutor);
+        idGenerator.setCommandConfig(new CommandConfig().transactionRequiresNew());
+    }
+
+    @Test
+    public void should_handOutConsecutiveIds_when_usedByOneThread() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        assertThat(ids).startsWith("1", "2", "3").endsWith("25").doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void should_handOutUniqueIds_when_usedConcurrently() throws Exception {
+        assertUniqueIdsWhenUsedConcurrently();
+    }
+
+    @Test
+    public void should_handOutUniqueIds_when_threadBlocksAreUsedConcurrently() throws Exception {
+        idGenerator.setThreadBlockSize(3);
+
+        assertUniqueIdsWhenUsedConcurrently();
+    }
+
+    @Test
+    public void should_stopPrefetching_when_shutDown() {
+        // Handing out the 5th id prefetches the next block
+        for (int i = 0; i < 5; i++) {
+            idGenerator.getNextId();
+        }
+        assertThat(idGenerator.prefetchExecutor).isNotNull();
+
+        idGenerator.shutdown();
+
+        assertThat(idGenerator.prefetchExecutor).isNull();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+        assertThat(ids).startsWith("6").endsWith("25").doesNotHaveDuplicates();
+        assertThat(idGenerator.prefetchExecutor).isNull();
+    }
+
+    private void assertUniqueIdsWhenUsedConcurrently() throws InterruptedException {
+        int nrOfThreads = 8;
+        int idsPerThread = 500;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < nrOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < idsPerThread; j++) {
+                    ids.add(idGenerator.getNextId());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(ids).hasSize(nrOfThreads * idsPerThread);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+import org.activiti.engine.delegate.Expression;
+import org.activiti.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
+import org.activiti.engine.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.junit.Test;
+
+public class ExpressionManagerTest {
+
+    @Test
+    public void should_parseExpressionOnce_when_sameTextIsUsedAgain() {
+        //given
+        ExpressionManager expressionManager = new ExpressionManager();
+        Map<String, Object> availableVariables = Collections.singletonMap("amount", 10);
+
+        //when
+        Expression first = expressionManager.createExpression("${amount > 5}");
+        Expression second = expressionManager.createExpression(" ${amount > 5} ");
+
+        //then
+        assertThat(first.getValue(expressionManager, new DefaultDelegateInterceptor(), availableVariables)).isEqualTo(true);
+        assertThat(second.getValue(expressionManager, new DefaultDelegateInterceptor(), availableVariables)).isEqualTo(true);
+        assertThat(second.getExpressionText()).isEqualTo(" ${amount > 5} ");
+
+        DeploymentCacheStatistics statistics = expressionManager.getExpressionCacheStatistics();
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evictLeastRecentlyUsedExpressions_when_limitIsReached() {
+        //given
+        ExpressionManager expressionManager = new ExpressionManager();
+        expressionManager.setExpressionCacheLimit(2);
+
+        //when
+        expressionManager.createExpression("${a}");
+        expressionManager.createExpression("${b}");
+        expressionManager.createExpression("${c}");
+
+        //then
+        assertThat(expressionManager.getExpressionCacheStatistics().getSize()).isEqualTo(2);
+        assertThat(expressionManager.getExpressionCacheStatistics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_notCache_when_cacheIsDisabled() {
+        //given
+        ExpressionManager expressionManager = new ExpressionManager();
+        expressionManager.setExpressionCacheLimit(0);
+
+        //when
+        Expression expression = expressionManager.createExpression("${amount + 1}");
+
+        //then
+        assertThat(expression.getValue(expressionManager, new DefaultDelegateInterceptor(), Collections.singletonMap("amount", 1))).isEqualTo(2L);
+        assertThat(expressionManager.getExpressionCacheStatistics()).isNull();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.activiti.engine.impl.persistence.entity.ResourceEntityImpl;
+import org.junit.Test;
+
+public class EntityCacheImplTest {
+
+    private EntityCacheImpl entityCache = new EntityCacheImpl();
+
+    @Test
+    public void should_findEntitiesByIndexedValue() {
+        ExecutionEntityImpl first = execution("1", "parent");
+        ExecutionEntityImpl second = execution("2", "parent");
+        entityCache.put(first, false);
+        entityCache.put(second, false);
+        entityCache.put(execution("3", "otherParent"), false);
+
+        assertThat(entities(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "parent")))
+            .containsExactly(first, second);
+        assertThat(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "unknown")).isEmpty();
+    }
+
+    @Test
+    public void should_returnNull_when_entityClassIsNotIndexed() {
+        entityCache.put(execution("1", "parent"), false);
+        ResourceEntityImpl resource = new ResourceEntityImpl();
+        resource.setId("resource");
+        entityCache.put(resource, false);
+
+        assertThat(entityCache.findInCacheByIndex(ResourceEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "parent")).isNull();
+        assertThat(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.TASK_EXECUTION_ID, "parent")).isNull();
+    }
+
+    @Test
+    public void should_updateIndex_when_entityIsRemovedOrReplaced() {
+        ExecutionEntityImpl first = execution("1", "parent");
+        entityCache.put(first, false);
+        entityCache.put(execution("2", "parent"), false);
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "2");
+        ExecutionEntityImpl replacement = execution("1", "otherParent");
+        entityCache.put(replacement, false);
+
+        assertThat(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "parent")).isEmpty();
+        assertThat(entities(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "otherParent")))
+            .containsExactly(replacement);
+    }
+
+    @Test
+    public void should_moveEntityToNewIndexedValue_when_reindexed() {
+        ExecutionEntityImpl execution = execution("1", "parent");
+        entityCache.put(execution, false);
+
+        execution.setParentId("newParent");
+        entityCache.reindex(execution);
+
+        assertThat(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "parent")).isEmpty();
+        assertThat(entities(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "newParent")))
+            .containsExactly(execution);
+    }
+
+    @Test
+    public void should_ignoreReindex_when_entityIsNotTheCachedInstance() {
+        ExecutionEntityImpl cached = execution("1", "parent");
+        entityCache.put(cached, false);
+
+        ExecutionEntityImpl loaded = execution("1", "otherParent");
+        entityCache.reindex(loaded);
+
+        assertThat(entities(entityCache.findInCacheByIndex(ExecutionEntityImpl.class, EntityCacheIndex.EXECUTION_PARENT_ID, "parent")))
+            .containsExactly(cached);
+    }
+
+    @Test
+    public void should_findSubclassCache_when_newClassIsCachedAfterAMiss() {
+        assertThat(entityCache.findInCache(ExecutionEntity.class, "1")).isNull();
+
+        ExecutionEntityImpl execution = execution("1", "parent");
+        entityCache.put(execution, false);
+
+        assertThat(entityCache.findInCache(ExecutionEntity.class, "1")).isSameAs(execution);
+    }
+
+    private ExecutionEntityImpl execution(String id, String parentId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setParentId(parentId);
+        return execution;
+    }
+
+    private Object[] entities(Collection<CachedEntity> cachedEntities) {
+        return cachedEntities.stream().map(CachedEntity::getEntity).toArray();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.activiti.engine.impl.persistence.entity.DeploymentEntityImpl;
+import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.activiti.engine.impl.persistence.entity.ResourceEntityImpl;
+import org.junit.Test;
+
+public class SharedEntityCacheImplTest {
+
+    private SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1, -1).registerDeploymentEntities();
+
+    @Test
+    public void should_returnIndependentCopies() {
+        ProcessDefinitionEntityImpl processDefinition = processDefinition("oneTask:1:1");
+        cache.put(processDefinition);
+
+        ProcessDefinitionEntity first = cache.get(ProcessDefinitionEntityImpl.class, "oneTask:1:1");
+        first.setSuspensionState(2);
+        ProcessDefinitionEntity second = cache.get(ProcessDefinitionEntityImpl.class, "oneTask:1:1");
+
+        assertThat(first).isNotSameAs(processDefinition);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getKey()).isEqualTo("oneTask");
+        assertThat(second.getRevision()).isEqualTo(3);
+        assertThat(second.getSuspensionState()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_copyDeploymentContentHash() {
+        DeploymentEntityImpl deployment = new DeploymentEntityImpl();
+        deployment.setId("1");
+        deployment.setName("deployment");
+        deployment.setContentHash("hash");
+        cache.put(deployment);
+
+        DeploymentEntityImpl copy = cache.get(DeploymentEntityImpl.class, "1");
+
+        assertThat(copy).isNotSameAs(deployment);
+        assertThat(copy.getName()).isEqualTo("deployment");
+        assertThat(copy.getContentHash()).isEqualTo("hash");
+    }
+
+    @Test
+    public void should_ignoreNotRegisteredEntityClasses() {
+        SharedEntityCacheImpl emptyCache = new SharedEntityCacheImpl(-1, -1);
+        emptyCache.put(processDefinition("oneTask:1:1"));
+
+        assertThat(emptyCache.isCached(ProcessDefinitionEntityImpl.class)).isFalse();
+        assertThat(emptyCache.get(ProcessDefinitionEntityImpl.class, "oneTask:1:1")).isNull();
+    }
+
+    @Test
+    public void should_invalidateEntities() {
+        cache.put(processDefinition("oneTask:1:1"));
+        cache.put(processDefinition("oneTask:2:2"));
+
+        cache.remove(ProcessDefinitionEntityImpl.class, "oneTask:1:1");
+        assertThat(cache.get(ProcessDefinitionEntityImpl.class, "oneTask:1:1")).isNull();
+        assertThat(cache.get(ProcessDefinitionEntityImpl.class, "oneTask:2:2")).isNotNull();
+
+        cache.removeAll(ProcessDefinitionEntityImpl.class);
+        assertThat(cache.get(ProcessDefinitionEntityImpl.class, "oneTask:2:2")).isNull();
+    }
+
+    @Test
+    public void should_weighResourcesByTheirBytes() {
+        SharedEntityCacheImpl boundedCache = new SharedEntityCacheImpl(-1, 2 * SharedEntityCacheImpl.DEFAULT_ENTITY_WEIGHT + 100)
+            .registerDeploymentEntities();
+        boundedCache.put("1/one.bpmn", resource("1", new byte[100]));
+        boundedCache.put("2/two.bpmn", resource("2", new byte[100]));
+
+        assertThat(boundedCache.getStatistics(ResourceEntityImpl.class).getSize()).isEqualTo(1);
+        assertThat(boundedCache.getStatistics(ResourceEntityImpl.class).getEvictionCount()).isEqualTo(1);
+        assertThat(boundedCache.get(ResourceEntityImpl.class, "2/two.bpmn").getBytes()).hasSize(100);
+    }
+
+    private ProcessDefinitionEntityImpl processDefinition(String id) {
+        ProcessDefinitionEntityImpl processDefinition = new ProcessDefinitionEntityImpl();
+        processDefinition.setId(id);
+        processDefinition.setRevision(3);
+        processDefinition.setKey("oneTask");
+        processDefinition.setSuspensionState(1);
+        return processDefinition;
+    }
+
+    private ResourceEntityImpl resource(String id, byte[] bytes) {
+        ResourceEntityImpl resource = new ResourceEntityImpl();
+        resource.setId(id);
+        resource.setBytes(bytes);
+        return resource;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ConcurrentDeploymentCacheTest {
+
+    @Test
+    public void should_countHitsAndMisses() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        cache.add("one", "1");
+
+        assertThat(cache.get("one")).isEqualTo("1");
+        assertThat(cache.get("two")).isNull();
+        cache.recordLoad(100);
+
+        DeploymentCacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getTotalLoadTime()).isEqualTo(100);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evictLeastRecentlyAccessedEntry_when_limitIsExceeded() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("one", "1");
+        Thread.sleep(1);
+        cache.add("two", "2");
+        Thread.sleep(1);
+        cache.get("one");
+        Thread.sleep(1);
+
+        cache.add("three", "3");
+
+        assertThat(cache.contains("one")).isTrue();
+        assertThat(cache.contains("two")).isFalse();
+        assertThat(cache.contains("three")).isTrue();
+        assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evictEntries_when_maxWeightIsExceeded() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 10, (id, value) -> value.length());
+        cache.add("small", "abc");
+        Thread.sleep(1);
+        cache.add("medium", "abcdef");
+        Thread.sleep(1);
+
+        cache.add("large", "abcdefg");
+
+        assertThat(cache.contains("small")).isFalse();
+        assertThat(cache.contains("medium")).isFalse();
+        assertThat(cache.contains("large")).isTrue();
+        assertThat(cache.getTotalWeight()).isEqualTo(7);
+    }
+
+    @Test
+    public void should_keepTotalWeightInSync_when_entriesAreReplacedAndRemoved() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, -1, (id, value) -> value.length());
+        cache.add("one", "abc");
+        cache.add("one", "abcde");
+        cache.add("two", "ab");
+
+        assertThat(cache.getTotalWeight()).isEqualTo(7);
+
+        cache.remove("one");
+        assertThat(cache.getTotalWeight()).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.getTotalWeight()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+}
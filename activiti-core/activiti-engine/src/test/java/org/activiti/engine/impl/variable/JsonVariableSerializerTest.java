@@ -0,0 +1,143 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.impl.variable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonVariableSerializerTest {
+
+    private ObjectMapper objectMapper = spy(new ObjectMapper());
+
+    private JsonVariableSerializer serializer = new JsonVariableSerializer(objectMapper);
+
+    private JsonType jsonType = new JsonType(4000, serializer, true, null);
+
+    private LongJsonType longJsonType = new LongJsonType(4001, serializer, true, null);
+
+    @Before
+    public void setUp() {
+        Context.setCommandContext(mock(CommandContext.class, CALLS_REAL_METHODS));
+    }
+
+    @After
+    public void tearDown() {
+        Context.removeCommandContext();
+    }
+
+    @Test
+    public void should_serializeOnce_when_typeIsPickedAndValueIsStored() throws Exception {
+        //given
+        Map<String, String> value = new HashMap<>();
+        value.put("name", "John");
+        ValueFields valueFields = mock(ValueFields.class);
+
+        //when
+        boolean ableToStore = jsonType.isAbleToStore(value);
+        jsonType.setValue(value, valueFields);
+
+        //then
+        assertThat(ableToStore).isTrue();
+        verify(valueFields).setTextValue("{\"name\":\"John\"}");
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    public void should_reuseJson_when_longJsonTypeIsAskedAfterJsonType() throws Exception {
+        //given
+        Map<String, String> value = new HashMap<>();
+        value.put("name", "John");
+
+        //when
+        jsonType.isAbleToStore(value);
+        boolean ableToStore = longJsonType.isAbleToStore(value);
+
+        //then
+        assertThat(ableToStore).isFalse();
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    public void should_serializeAgain_when_valueChangedAfterBeingStored() throws Exception {
+        //given
+        Map<String, String> value = new HashMap<>();
+        value.put("name", "John");
+        ValueFields valueFields = mock(ValueFields.class);
+        jsonType.isAbleToStore(value);
+        jsonType.setValue(value, valueFields);
+
+        //when
+        value.put("name", "Jane");
+        jsonType.setValue(value, valueFields);
+
+        //then
+        verify(valueFields).setTextValue("{\"name\":\"Jane\"}");
+        verify(objectMapper, times(2)).writeValueAsString(any());
+    }
+
+    @Test
+    public void should_notKeepJson_when_commandContextIsClosed() throws Exception {
+        //given
+        Map<String, String> value = new HashMap<>();
+        value.put("name", "John");
+        jsonType.isAbleToStore(value);
+        Context.removeCommandContext();
+        Context.setCommandContext(mock(CommandContext.class, CALLS_REAL_METHODS));
+
+        //when
+        value.put("name", "Jane");
+        boolean ableToStore = longJsonType.isAbleToStore(value);
+
+        //then
+        assertThat(ableToStore).isFalse();
+        verify(objectMapper, times(2)).writeValueAsString(any());
+    }
+
+    @Test
+    public void should_notKeepJson_when_outsideOfCommand() throws Exception {
+        //given
+        Context.removeCommandContext();
+        Map<String, String> value = new HashMap<>();
+        value.put("name", "John");
+        ValueFields valueFields = mock(ValueFields.class);
+
+        try {
+            //when
+            jsonType.isAbleToStore(value);
+            jsonType.setValue(value, valueFields);
+
+            //then
+            verify(valueFields).setTextValue("{\"name\":\"John\"}");
+            verify(objectMapper, times(2)).writeValueAsString(any());
+        } finally {
+            Context.setCommandContext(mock(CommandContext.class, CALLS_REAL_METHODS));
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 
 import org.activiti.engine.delegate.event.ActivitiEventType;
 import org.activiti.engine.event.EventLogEntry;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter;
 import org.activiti.engine.impl.event.logger.EventLogger;
 import org.activiti.engine.impl.event.logger.handler.Fields;
 import org.activiti.engine.impl.identity.Authentication;
@@ -563,4 +564,42 @@ public class DatabaseEventLoggerTest extends PluggableActivitiTestCase {
 
   }
 
+  public void testStandaloneTaskEventsWrittenAsynchronously() {
+    runtimeService.removeEventListener(databaseEventLogger);
+
+    AsyncEventLogWriter eventLogWriter = new AsyncEventLogWriter(100, 10);
+    eventLogWriter.start(processEngineConfiguration.getCommandExecutor());
+    EventLogger asyncEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper(), eventLogWriter);
+    runtimeService.addEventListener(asyncEventLogger);
+
+    try {
+      Task task = taskService.newTask();
+      task.setAssignee("kermit");
+      taskService.saveTask(task);
+      taskService.setAssignee(task.getId(), "gonzo");
+
+      // Shutting down drains the queue
+      eventLogWriter.shutdown();
+
+      List<EventLogEntry> events = managementService.getEventLogEntries(null, null);
+      assertThat(events).extracting(EventLogEntry::getType).containsExactly("TASK_CREATED", "TASK_ASSIGNED", "TASK_ASSIGNED");
+      assertThat(eventLogWriter.getDiscardedEntryCount()).isZero();
+
+      // Once shut down, the entries are written by the committing thread instead of being queued and lost
+      taskService.setAssignee(task.getId(), "fozzie");
+      assertThat(managementService.getEventLogEntries(null, null)).hasSize(4);
+      assertThat(eventLogWriter.getQueuedEntryCount()).isZero();
+
+      // Cleanup
+      taskService.deleteTask(task.getId(), true);
+      for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+        managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+      }
+    } finally {
+      eventLogWriter.shutdown();
+      runtimeService.removeEventListener(asyncEventLogger);
+      runtimeService.addEventListener(databaseEventLogger);
+    }
+  }
+
 }
@@ -38,6 +38,7 @@ import org.activiti.engine.impl.history.HistoryLevel;
 import org.activiti.engine.impl.persistence.entity.TaskEntity;
 import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.query.QueryPage;
 import org.activiti.engine.runtime.ProcessInstance;
 import org.activiti.engine.task.DelegationState;
 import org.activiti.engine.task.IdentityLinkType;
@@ -874,6 +875,43 @@ public class TaskQueryTest extends PluggableActivitiTestCase {
     }
   }
 
+  public void testQueryByCandidateOrAssignedWithSplitQuery() {
+    Task task = taskService.newTask();
+    task.setName("assigneeToKermit");
+    task.setAssignee(KERMIT);
+    taskService.saveTask(task);
+    Task otherTask = taskService.newTask();
+    otherTask.setName("assigneeToFozzieWithKermitCandidate");
+    otherTask.setAssignee(FOZZIE);
+    taskService.saveTask(otherTask);
+    taskService.addCandidateUser(otherTask.getId(), KERMIT);
+
+    List<String> expectedTaskIds = getTaskIds(taskService.createTaskQuery().taskCandidateOrAssigned(KERMIT, KERMITSGROUPS).list());
+    List<String> expectedOrTaskIds = getTaskIds(taskService.createTaskQuery().or().taskId("invalid").taskCandidateOrAssigned(KERMIT, KERMITSGROUPS).list());
+
+    processEngineConfiguration.getPerformanceSettings().setEnableSplitCandidateOrAssignedQuery(true);
+    try {
+      TaskQuery query = taskService.createTaskQuery().taskCandidateOrAssigned(KERMIT, KERMITSGROUPS);
+      assertThat(query.count()).isEqualTo(12);
+      assertThat(getTaskIds(query.list())).containsExactlyInAnyOrderElementsOf(expectedTaskIds).contains(task.getId()).doesNotContain(otherTask.getId());
+
+      query = taskService.createTaskQuery().or().taskId("invalid").taskCandidateOrAssigned(KERMIT, KERMITSGROUPS);
+      assertThat(query.count()).isEqualTo(12);
+      assertThat(getTaskIds(query.list())).containsExactlyInAnyOrderElementsOf(expectedOrTaskIds);
+
+      query = taskService.createTaskQuery().taskCandidateOrAssigned(FOZZIE, FOZZIESGROUPS);
+      assertThat(getTaskIds(query.list())).contains(otherTask.getId());
+    } finally {
+      processEngineConfiguration.getPerformanceSettings().setEnableSplitCandidateOrAssignedQuery(false);
+      for (String taskId : asList(task.getId(), otherTask.getId())) {
+        taskService.deleteTask(taskId);
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+          historyService.deleteHistoricTaskInstance(taskId);
+        }
+      }
+    }
+  }
+
   public void testQueryByNullCandidateGroup() {
     assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
       .isThrownBy(() -> taskService.createTaskQuery().taskCandidateGroup(null).list());
@@ -2200,6 +2238,98 @@ public class TaskQueryTest extends PluggableActivitiTestCase {
                                                     // tasks
   }
 
+  public void testQueryPagingWithTotal() {
+    TaskQuery query = taskService.createTaskQuery().taskCandidateUser(KERMIT,KERMITSGROUPS);
+
+    QueryPage<Task> page = query.listPageWithTotal(0, 2);
+    assertThat(page.getResults()).hasSize(2);
+    assertThat(page.getTotalCount()).isEqualTo(11);
+    assertThat(page.hasNext()).isTrue();
+
+    // a partial last page derives the total without counting
+    page = query.listPageWithTotal(10, 3);
+    assertThat(page.getResults()).hasSize(1);
+    assertThat(page.getTotalCount()).isEqualTo(11);
+    assertThat(page.hasNext()).isFalse();
+
+    page = query.listPageWithTotal(11, 2);
+    assertThat(page.getResults()).isEmpty();
+    assertThat(page.getTotalCount()).isEqualTo(11);
+
+    // the paging parameters are left untouched for subsequent calls
+    assertThat(query.listPage(0, 15)).hasSize(11);
+  }
+
+  public void testQueryPagingWithHasNext() {
+    TaskQuery query = taskService.createTaskQuery().taskCandidateUser(KERMIT,KERMITSGROUPS);
+
+    QueryPage<Task> page = query.listPageWithHasNext(0, 10);
+    assertThat(page.getResults()).hasSize(10);
+    assertThat(page.hasNext()).isTrue();
+    assertThat(page.isTotalCountKnown()).isFalse();
+
+    page = query.listPageWithHasNext(9, 2);
+    assertThat(page.getResults()).hasSize(2);
+    assertThat(page.hasNext()).isFalse();
+
+    page = query.listPageWithHasNext(0, Integer.MAX_VALUE);
+    assertThat(page.getResults()).hasSize(11);
+    assertThat(page.hasNext()).isFalse();
+  }
+
+  public void testQueryKeysetPaging() {
+    List<String> expectedIds = new ArrayList<>();
+    for (Task task : taskService.createTaskQuery().orderByTaskId().asc().list()) {
+      expectedIds.add(task.getId());
+    }
+
+    List<String> pagedIds = new ArrayList<>();
+    String pageToken = null;
+    int pages = 0;
+    do {
+      QueryPage<Task> page = taskService.createTaskQuery().listPageAfter(pageToken, 5);
+      assertThat(page.isTotalCountKnown()).isFalse();
+      for (Task task : page.getResults()) {
+        pagedIds.add(task.getId());
+      }
+      pageToken = page.getNextPageToken();
+      pages++;
+    } while (pageToken != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(pagedIds).isEqualTo(expectedIds);
+  }
+
+  public void testQueryKeysetPagingOrderedByCreateTime() {
+    // several tasks share the same create time, the id breaks the ties
+    List<Task> tasks = new ArrayList<>();
+    String pageToken = null;
+    do {
+      QueryPage<Task> page = taskService.createTaskQuery().orderByTaskCreateTime().desc().listPageAfter(pageToken, 2);
+      tasks.addAll(page.getResults());
+      pageToken = page.getNextPageToken();
+    } while (pageToken != null);
+
+    assertThat(tasks).hasSize(12);
+    assertThat(tasks).extracting(Task::getId).doesNotHaveDuplicates();
+    for (int i = 1; i < tasks.size(); i++) {
+      assertThat(tasks.get(i).getCreateTime()).isBeforeOrEqualTo(tasks.get(i - 1).getCreateTime());
+    }
+  }
+
+  public void testQueryKeysetPagingInvalidUsage() {
+    String pageToken = taskService.createTaskQuery().orderByTaskCreateTime().asc().listPageAfter(null, 1).getNextPageToken();
+
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+      .isThrownBy(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc().listPageAfter(pageToken, 1));
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+      .isThrownBy(() -> taskService.createTaskQuery().listPageAfter("not-a-token", 1));
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+      .isThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().listPageAfter(null, 1));
+    assertThatExceptionOfType(ActivitiIllegalArgumentException.class)
+      .isThrownBy(() -> taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().listPageAfter(null, 1));
+  }
+
   public void testQuerySorting() {
     assertThat(taskService.createTaskQuery().orderByTaskId().asc().list()).hasSize(12);
     assertThat(taskService.createTaskQuery().orderByTaskName().asc().list()).hasSize(12);
@@ -2800,4 +2930,12 @@ public class TaskQueryTest extends PluggableActivitiTestCase {
     return ids;
   }
 
+  private List<String> getTaskIds(List<Task> tasks) {
+    List<String> ids = new ArrayList<String>();
+    for (Task task : tasks) {
+      ids.add(task.getId());
+    }
+    return ids;
+  }
+
 }
@@ -23,7 +23,11 @@ import java.util.Map;
 
 import org.activiti.engine.delegate.DelegateExecution;
 import org.activiti.engine.delegate.JavaDelegate;
+import org.activiti.engine.impl.interceptor.Command;
+import org.activiti.engine.impl.interceptor.CommandContext;
+import org.activiti.engine.impl.interceptor.ReadOnlyVariablesCommand;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.impl.variable.VerifyDeserializedObjectCommandContextCloseListener;
 import org.activiti.engine.runtime.ProcessInstance;
 import org.activiti.engine.task.Task;
 import org.activiti.engine.test.Deployment;
@@ -48,6 +52,42 @@ public class SerializableVariableTest extends PluggableActivitiTestCase {
     assertThat(testSerializableVariable.getNumber()).isEqualTo(2);
   }
 
+  @Deployment(resources = "org/activiti/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testReadOnlyVariablesCommandDoesNotTrackDeserializedObjects() {
+    Map<String, Object> vars = new HashMap<String, Object>();
+    vars.put("myVar", new TestSerializableVariable(1));
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+    assertThat(managementService.executeCommand(new TrackedDeserializedObjectsCmd(processInstance.getId()))).isTrue();
+    assertThat(managementService.executeCommand(new ReadOnlyTrackedDeserializedObjectsCmd(processInstance.getId()))).isFalse();
+
+    TestSerializableVariable testSerializableVariable = (TestSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myVar");
+    assertThat(testSerializableVariable.getNumber()).isEqualTo(1);
+  }
+
+  public static class TrackedDeserializedObjectsCmd implements Command<Boolean> {
+
+    protected String executionId;
+
+    public TrackedDeserializedObjectsCmd(String executionId) {
+      this.executionId = executionId;
+    }
+
+    public Boolean execute(CommandContext commandContext) {
+      commandContext.getExecutionEntityManager().findById(executionId).getVariable("myVar");
+      return commandContext.hasCloseListener(VerifyDeserializedObjectCommandContextCloseListener.class);
+    }
+
+  }
+
+  public static class ReadOnlyTrackedDeserializedObjectsCmd extends TrackedDeserializedObjectsCmd implements ReadOnlyVariablesCommand {
+
+    public ReadOnlyTrackedDeserializedObjectsCmd(String executionId) {
+      super(executionId);
+    }
+
+  }
+
   public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
     public void execute(DelegateExecution execution) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.test.api.variables;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.activiti.engine.impl.cfg.PerformanceSettings;
+import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.runtime.Execution;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.test.Deployment;
+
+public class VariablePrefetchTest extends PluggableActivitiTestCase {
+
+  protected PerformanceSettings performanceSettings;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    performanceSettings = processEngineConfiguration.getPerformanceSettings();
+    performanceSettings.setEnableVariablePrefetch(true);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    performanceSettings.setEnableVariablePrefetch(false);
+    performanceSettings.setVariablePrefetchNames(null);
+    super.tearDown();
+  }
+
+  @Deployment(resources = "org/activiti/engine/test/api/variables/VariablePrefetchTest.nestedSubProcess.bpmn20.xml")
+  public void testPrefetchVariablesOfProcessInstance() {
+    String innerExecutionId = startProcessInstanceWithVariables();
+
+    managementService.executeCommand(commandContext -> {
+      ExecutionEntity innerExecution = commandContext.getExecutionEntityManager().findById(innerExecutionId);
+      assertThat(innerExecution.getVariable("inner")).isEqualTo("innerValue");
+
+      // the variables of all levels of the execution tree were fetched together
+      List<VariableInstanceEntityImpl> cachedVariables = commandContext.getEntityCache().findInCache(VariableInstanceEntityImpl.class);
+      assertThat(cachedVariables).extracting(VariableInstanceEntityImpl::getName).containsOnly("root", "outer", "inner");
+
+      assertThat(innerExecution.getVariable("outer")).isEqualTo("outerValue");
+      assertThat(innerExecution.getVariable("root")).isEqualTo("rootValue");
+      assertThat(innerExecution.getVariable("unknown")).isNull();
+      assertThat(innerExecution.getVariables()).containsOnlyKeys("root", "outer", "inner");
+      return null;
+    });
+  }
+
+  @Deployment(resources = "org/activiti/engine/test/api/variables/VariablePrefetchTest.nestedSubProcess.bpmn20.xml")
+  public void testPrefetchVariablesByName() {
+    performanceSettings.setVariablePrefetchNames(singleton("root"));
+    String innerExecutionId = startProcessInstanceWithVariables();
+
+    managementService.executeCommand(commandContext -> {
+      ExecutionEntity innerExecution = commandContext.getExecutionEntityManager().findById(innerExecutionId);
+      assertThat(innerExecution.getVariable("root", false)).isEqualTo("rootValue");
+
+      List<VariableInstanceEntityImpl> cachedVariables = commandContext.getEntityCache().findInCache(VariableInstanceEntityImpl.class);
+      assertThat(cachedVariables).extracting(VariableInstanceEntityImpl::getName).containsOnly("root");
+
+      // variables not prefetched are fetched as usual
+      assertThat(innerExecution.getVariable("outer", false)).isEqualTo("outerValue");
+      assertThat(innerExecution.getVariable("inner")).isEqualTo("innerValue");
+      return null;
+    });
+  }
+
+  @Deployment(resources = "org/activiti/engine/test/api/variables/VariablePrefetchTest.nestedSubProcess.bpmn20.xml")
+  public void testVariablesSetInSameCommandAreVisible() {
+    String innerExecutionId = startProcessInstanceWithVariables();
+
+    managementService.executeCommand(commandContext -> {
+      ExecutionEntity innerExecution = commandContext.getExecutionEntityManager().findById(innerExecutionId);
+      innerExecution.getParent().setVariableLocal("added", "addedValue");
+      innerExecution.getProcessInstance().removeVariableLocal("root");
+
+      assertThat(innerExecution.getVariable("added")).isEqualTo("addedValue");
+      assertThat(innerExecution.getVariable("root")).isNull();
+      return null;
+    });
+  }
+
+  protected String startProcessInstanceWithVariables() {
+    Map<String, Object> variables = new HashMap<>();
+    variables.put("root", "rootValue");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("variablePrefetch", variables);
+
+    Execution innerExecution = runtimeService.createExecutionQuery().activityId("task").singleResult();
+    Execution innerSubProcessExecution = runtimeService.createExecutionQuery().activityId("innerSubProcess").singleResult();
+    Execution outerSubProcessExecution = runtimeService.createExecutionQuery().activityId("outerSubProcess").singleResult();
+    runtimeService.setVariableLocal(outerSubProcessExecution.getId(), "outer", "outerValue");
+    runtimeService.setVariableLocal(innerSubProcessExecution.getId(), "inner", "innerValue");
+
+    assertThat(innerExecution.getProcessInstanceId()).isEqualTo(processInstance.getId());
+    return innerExecution.getId();
+  }
+
+}
@@ -21,6 +21,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
 import org.activiti.bpmn.model.BpmnModel;
@@ -32,7 +34,10 @@ import org.activiti.engine.impl.context.Context;
 import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.interceptor.CommandExecutor;
+import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
+import org.activiti.engine.impl.persistence.entity.ResourceEntity;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
+import org.activiti.engine.impl.util.ContentHashUtil;
 import org.activiti.engine.impl.util.IoUtil;
 import org.activiti.engine.impl.util.ReflectUtil;
 import org.activiti.engine.repository.ProcessDefinition;
@@ -150,6 +155,34 @@ public class BpmnDeploymentTest extends PluggableActivitiTestCase {
     repositoryService.deleteDeployment(deploymentId);
   }
 
+  public void testDeploySameFileTwiceComparesContentHashes() {
+    String bpmnResourceName = "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+    String deploymentId = repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy().getId();
+
+    DeploymentEntity deployment = managementService.executeCommand(commandContext -> commandContext.getDeploymentEntityManager().findById(deploymentId));
+    ResourceEntity resource = managementService.executeCommand(commandContext -> commandContext.getResourceEntityManager()
+        .findResourceContentHashesByDeploymentId(deploymentId).get(0));
+    assertThat(deployment.getContentHash()).hasSize(64);
+    assertThat(resource.getContentHash()).isEqualTo(ContentHashUtil.hash(IoUtil.readInputStream(
+        repositoryService.getResourceAsStream(deploymentId, bpmnResourceName), bpmnResourceName)));
+
+    // Deployments stored before the content hashes were introduced are still recognized
+    managementService.executeCommand(commandContext -> {
+      try (Statement statement = commandContext.getDbSqlSession().getSqlSession().getConnection().createStatement()) {
+        statement.executeUpdate("update ACT_RE_DEPLOYMENT set CONTENT_HASH_ = null");
+        statement.executeUpdate("update ACT_GE_BYTEARRAY set CONTENT_HASH_ = null");
+      } catch (SQLException e) {
+        throw new ActivitiException("Could not clear content hashes", e);
+      }
+      return null;
+    });
+
+    repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy();
+    assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+    repositoryService.deleteDeployment(deploymentId);
+  }
+
   public void testDeployTwoProcessesWithDuplicateIdAtTheSameTime() {
     String bpmnResourceName = "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
     String bpmnResourceName2 = "org/activiti/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService2.bpmn20.xml";
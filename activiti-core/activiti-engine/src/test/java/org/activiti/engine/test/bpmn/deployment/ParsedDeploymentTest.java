@@ -20,13 +20,23 @@ package org.activiti.engine.test.bpmn.deployment;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.activiti.bpmn.model.BaseElement;
+import org.activiti.bpmn.model.Process;
 import org.activiti.engine.impl.bpmn.deployer.ParsedDeployment;
 import org.activiti.engine.impl.bpmn.deployer.ParsedDeploymentBuilder;
 import org.activiti.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
 import org.activiti.engine.impl.bpmn.deployer.ResourceNameUtil;
+import org.activiti.engine.impl.bpmn.parser.BpmnParse;
+import org.activiti.engine.impl.bpmn.parser.BpmnParseHandlers;
+import org.activiti.engine.impl.bpmn.parser.BpmnParser;
+import org.activiti.engine.impl.bpmn.parser.handler.AbstractBpmnParseHandler;
+import org.activiti.engine.impl.bpmn.parser.handler.ProcessParseHandler;
 import org.activiti.engine.impl.context.Context;
+import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.entity.DeploymentEntity;
 import org.activiti.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.activiti.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -91,6 +101,60 @@ public class ParsedDeploymentTest extends PluggableActivitiTestCase {
     assertThat(parsedDeployment.getResourceForProcessDefinition(en2).getName()).isEqualTo(EN_XML_NAME);
   }
 
+  public void testParallelBuildKeepsResourceOrder() throws UnsupportedEncodingException {
+    DeploymentEntity entity = assembleUnpersistedDeploymentEntity();
+
+    ParsedDeployment sequentialDeployment = new ParsedDeploymentBuilder(entity, processEngineConfiguration.getBpmnParser(), null, 1).build();
+    ParsedDeployment parallelDeployment = new ParsedDeploymentBuilder(entity, processEngineConfiguration.getBpmnParser(), null, 4).build();
+
+    assertThat(parallelDeployment.getAllProcessDefinitions())
+        .extracting(ProcessDefinitionEntity::getKey)
+        .containsExactlyElementsOf(getKeys(sequentialDeployment.getAllProcessDefinitions()));
+
+    ProcessDefinitionEntity en1 = getProcessDefinitionEntityFromList(parallelDeployment.getAllProcessDefinitions(), EN1_ID);
+    ProcessDefinitionEntity id1 = getProcessDefinitionEntityFromList(parallelDeployment.getAllProcessDefinitions(), ID1_ID);
+    assertThat(parallelDeployment.getResourceForProcessDefinition(en1).getName()).isEqualTo(EN_XML_NAME);
+    assertThat(parallelDeployment.getResourceForProcessDefinition(id1).getName()).isEqualTo(IDR_XML_NAME);
+    assertThat(parallelDeployment.getBpmnParseForProcessDefinition(en1)).isNotSameAs(parallelDeployment.getBpmnParseForProcessDefinition(id1));
+  }
+
+  public void testParallelBuildRunsParseHandlersWithoutCommandContext() throws UnsupportedEncodingException {
+    final List<CommandContext> commandContexts = Collections.synchronizedList(new ArrayList<CommandContext>());
+    BpmnParseHandlers parseHandlers = new BpmnParseHandlers();
+    parseHandlers.addHandler(new ProcessParseHandler());
+    parseHandlers.addHandler(new AbstractBpmnParseHandler<Process>() {
+
+      @Override
+      protected Class<? extends BaseElement> getHandledType() {
+        return Process.class;
+      }
+
+      @Override
+      protected void executeParse(BpmnParse bpmnParse, Process process) {
+        commandContexts.add(Context.getCommandContext());
+      }
+    });
+    BpmnParser engineBpmnParser = processEngineConfiguration.getBpmnParser();
+    BpmnParser bpmnParser = new BpmnParser();
+    bpmnParser.setBpmnParseFactory(engineBpmnParser.getBpmnParseFactory());
+    bpmnParser.setActivityBehaviorFactory(engineBpmnParser.getActivityBehaviorFactory());
+    bpmnParser.setListenerFactory(engineBpmnParser.getListenerFactory());
+    bpmnParser.setBpmnParserHandlers(parseHandlers);
+
+    ParsedDeployment parallelDeployment = new ParsedDeploymentBuilder(assembleUnpersistedDeploymentEntity(), bpmnParser, null, 4).build();
+
+    assertThat(parallelDeployment.getAllProcessDefinitions()).hasSize(4);
+    assertThat(commandContexts).hasSize(4).containsOnlyNulls();
+  }
+
+  private List<String> getKeys(List<ProcessDefinitionEntity> processDefinitions) {
+    List<String> keys = new ArrayList<String>();
+    for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+      keys.add(processDefinition.getKey());
+    }
+    return keys;
+  }
+
   private ProcessDefinitionEntity getProcessDefinitionEntityFromList(List<ProcessDefinitionEntity> list, String idString) {
     for (ProcessDefinitionEntity possible : list) {
       if (possible.getKey().equals(idString)) {
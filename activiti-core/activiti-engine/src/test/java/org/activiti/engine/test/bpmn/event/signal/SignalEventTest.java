@@ -29,6 +29,8 @@ import java.util.Map;
 
 import org.activiti.engine.ActivitiException;
 import org.activiti.engine.impl.EventSubscriptionQueryImpl;
+import org.activiti.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.activiti.engine.impl.persistence.entity.ByteArrayEntity;
 import org.activiti.engine.impl.test.PluggableActivitiTestCase;
 import org.activiti.engine.runtime.Execution;
 import org.activiti.engine.runtime.Job;
@@ -129,6 +131,98 @@ public class SignalEventTest extends PluggableActivitiTestCase {
 
   }
 
+  @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalBoundaryWithReceiveTask.bpmn20.xml" })
+  public void testSignalBroadcastInChunks() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("catchSignal");
+    }
+
+    processEngineConfiguration.setSignalBroadcastChunkSize(2);
+    processEngineConfiguration.setSignalBroadcastParallelism(1);
+    try {
+      runtimeService.signalEventReceived("alert", singletonMap("broadcast", (Object) "chunked"));
+
+      // 3 chunks, one executable at a time
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(5);
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(1);
+      assertThat(managementService.createSuspendedJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(2);
+
+      Job job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+      managementService.executeJob(job.getId());
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(3);
+      assertThat(managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(1);
+      assertThat(managementService.createSuspendedJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(1);
+
+      while ((job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult()) != null) {
+        managementService.executeJob(job.getId());
+      }
+      assertThat(managementService.createSuspendedJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(0);
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(0);
+
+      List<Execution> executions = runtimeService.createExecutionQuery().activityId("receiveTask").list();
+      assertThat(executions).hasSize(5);
+      for (Execution execution : executions) {
+        assertThat(runtimeService.getVariable(execution.getId(), "broadcast")).isEqualTo("chunked");
+      }
+    } finally {
+      processEngineConfiguration.setSignalBroadcastChunkSize(0);
+      processEngineConfiguration.setSignalBroadcastParallelism(4);
+    }
+  }
+
+  @Deployment
+  public void testSignalBroadcastChunkFailure() {
+    ProcessInstance failingProcessInstance = null;
+    for (int i = 0; i < 6; i++) {
+      ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchSignal", singletonMap("failingTask", (Object) (i == 3)));
+      if (i == 3) {
+        failingProcessInstance = processInstance;
+      }
+    }
+    String byteArrayTable = managementService.getTableName(ByteArrayEntity.class);
+    long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+
+    int numberOfRetries = processEngineConfiguration.getAsyncExecutorNumberOfRetries();
+    processEngineConfiguration.setSignalBroadcastChunkSize(2);
+    processEngineConfiguration.setSignalBroadcastParallelism(1);
+    processEngineConfiguration.setAsyncExecutorNumberOfRetries(1);
+    try {
+      runtimeService.signalEventReceived("alert", singletonMap("broadcast", (Object) "chunked"));
+
+      // The chunk with the failing process instance becomes a dead letter job, the chunks after it still execute
+      Job job;
+      while ((job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult()) != null) {
+        try {
+          managementService.executeJob(job.getId());
+        } catch (ActivitiException e) {
+          // expected for the chunk with the failing process instance
+        }
+      }
+      assertThat(managementService.createSuspendedJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count()).isEqualTo(0);
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(2);
+      Job deadLetterJob = managementService.createDeadLetterJobQuery().singleResult();
+      assertThat(deadLetterJob).isNotNull();
+
+      // The chain has deleted its payload by now, the dead letter chunk has a copy of its own
+      runtimeService.setVariable(failingProcessInstance.getId(), "failingTask", false);
+      managementService.moveDeadLetterJobToExecutableJob(deadLetterJob.getId(), 1);
+      job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+      managementService.executeJob(job.getId());
+      assertThat(createEventSubscriptionQuery().count()).isEqualTo(0);
+
+      List<Execution> executions = runtimeService.createExecutionQuery().activityId("receiveTask").list();
+      assertThat(executions).hasSize(6);
+      for (Execution execution : executions) {
+        assertThat(runtimeService.getVariable(execution.getId(), "broadcast")).isEqualTo("chunked");
+      }
+      assertThat(managementService.getTableCount().get(byteArrayTable)).isEqualTo(byteArrayCount);
+    } finally {
+      processEngineConfiguration.setSignalBroadcastChunkSize(0);
+      processEngineConfiguration.setSignalBroadcastParallelism(4);
+      processEngineConfiguration.setAsyncExecutorNumberOfRetries(numberOfRetries);
+    }
+  }
+
   @Deployment(resources = { "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.catchMultipleSignals.bpmn20.xml",
       "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml", "org/activiti/engine/test/bpmn/event/signal/SignalEventTests.throwAbortSignal.bpmn20.xml" })
   public void testSignalCatchDifferentSignals() {
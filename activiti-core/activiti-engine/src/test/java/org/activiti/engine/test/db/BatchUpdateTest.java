@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.activiti.engine.ActivitiOptimisticLockingException;
+import org.activiti.engine.impl.persistence.entity.TaskEntity;
+import org.activiti.engine.impl.test.ResourceActivitiTestCase;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.task.Task;
+import org.activiti.engine.test.Deployment;
+
+public class BatchUpdateTest extends ResourceActivitiTestCase {
+
+  public BatchUpdateTest() {
+    super("org/activiti/engine/test/db/BatchUpdateTest.activiti.cfg.xml");
+  }
+
+  @Deployment
+  public void testForkJoinWithBatchedFlush() {
+    assertThat(processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdateEnabled()).isTrue();
+
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchedForkJoin");
+    List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc().list();
+    assertThat(tasks).extracting(Task::getName).containsExactly("Task A", "Task B", "Task C");
+
+    for (Task task : tasks) {
+      taskService.setVariableLocal(task.getId(), "approved", true);
+      taskService.complete(task.getId());
+    }
+
+    assertProcessEnded(processInstance.getId());
+  }
+
+  public void testOptimisticLockingThrownOnBatchedUpdates() {
+    Task firstTask = taskService.newTask();
+    taskService.saveTask(firstTask);
+    Task secondTask = taskService.newTask();
+    taskService.saveTask(secondTask);
+
+    TaskEntity staleTask = (TaskEntity) taskService.createTaskQuery().taskId(firstTask.getId()).singleResult();
+    TaskEntity otherTask = (TaskEntity) taskService.createTaskQuery().taskId(secondTask.getId()).singleResult();
+
+    Task concurrentTask = taskService.createTaskQuery().taskId(firstTask.getId()).singleResult();
+    concurrentTask.setDescription("concurrent modification");
+    taskService.saveTask(concurrentTask);
+
+    staleTask.setDescription("stale modification");
+    otherTask.setDescription("other modification");
+    assertThatExceptionOfType(ActivitiOptimisticLockingException.class)
+      .as("the stale task is part of the same batch and should be detected through its update count")
+      .isThrownBy(() -> managementService.executeCommand(commandContext -> {
+        commandContext.getDbSqlSession().update(otherTask);
+        commandContext.getDbSqlSession().update(staleTask);
+        return null;
+      }));
+
+    assertThat(taskService.createTaskQuery().taskId(secondTask.getId()).singleResult().getDescription()).isNull();
+
+    taskService.deleteTask(firstTask.getId(), true);
+    taskService.deleteTask(secondTask.getId(), true);
+  }
+
+}
@@ -27,6 +27,9 @@ import org.activiti.engine.ActivitiException;
 import org.activiti.engine.ProcessEngine;
 import org.activiti.engine.impl.asyncexecutor.AsyncExecutor;
 import org.activiti.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.activiti.engine.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationChannel;
+import org.activiti.engine.impl.asyncexecutor.notification.LoopbackJobNotificationChannel;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.activiti.engine.impl.test.JobTestHelper;
@@ -260,6 +263,225 @@ public class AsyncExecutorTest {
     }
   }
 
+  @Test
+  public void testPipelinedAsyncJobAcquisition() {
+
+    ProcessEngine firstProcessEngine = null;
+    ProcessEngine secondProcessEngine = null;
+
+    try {
+
+      // Create the async jobs on an engine without async executor, so they all need to be acquired
+      firstProcessEngine = createProcessEngine(false);
+      Date now = setClockToCurrentTime(firstProcessEngine);
+      deploy(firstProcessEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+      for (int i = 0; i < 20; i++) {
+        firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+      }
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(20);
+
+      // Acquired in pages of 6 jobs at most, locked with one update each
+      secondProcessEngine = createProcessEngine(true, now, true);
+      addSecondsToCurrentTime(secondProcessEngine, 1);
+      waitForAllJobsBeingExecuted(secondProcessEngine);
+
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(0);
+      assertThat(firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(20);
+      assertThat(getAsyncExecutorJobCount(secondProcessEngine)).isEqualTo(20);
+
+    } finally {
+
+      // Clean up
+      cleanup(firstProcessEngine);
+      cleanup(secondProcessEngine);
+
+    }
+
+  }
+
+  @Test
+  public void testVirtualThreadAsyncJobExecution() {
+
+    ProcessEngine firstProcessEngine = null;
+    ProcessEngine secondProcessEngine = null;
+
+    try {
+
+      firstProcessEngine = createProcessEngine(false);
+      Date now = setClockToCurrentTime(firstProcessEngine);
+      deploy(firstProcessEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+      for (int i = 0; i < 20; i++) {
+        firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+      }
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(20);
+
+      // At most 3 jobs run concurrently: the jobs of an acquisition that get no permit are unacquired
+      ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration();
+      processEngineConfiguration.setAsyncExecutorActivate(true);
+      processEngineConfiguration.setAsyncExecutorVirtualThreads(true);
+      processEngineConfiguration.setAsyncExecutorMaxConcurrentJobs(3);
+      processEngineConfiguration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(5);
+      processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+      processEngineConfiguration.setAsyncExecutorDefaultTimerJobAcquireWaitTime(50);
+      processEngineConfiguration.setAsyncExecutorDefaultQueueSizeFullWaitTime(50);
+      InFlightCountingVirtualThreadAsyncJobExecutor countingAsyncExecutor = new InFlightCountingVirtualThreadAsyncJobExecutor();
+      countingAsyncExecutor.applyConfig(processEngineConfiguration);
+      processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
+      secondProcessEngine = processEngineConfiguration.buildProcessEngine();
+      secondProcessEngine.getProcessEngineConfiguration().getClock().setCurrentTime(now);
+      addSecondsToCurrentTime(secondProcessEngine, 1);
+      waitForAllJobsBeingExecuted(secondProcessEngine);
+
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(0);
+      assertThat(firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(20);
+
+      AsyncExecutor asyncExecutor = secondProcessEngine.getProcessEngineConfiguration().getAsyncExecutor();
+      assertThat(asyncExecutor).isInstanceOf(VirtualThreadAsyncJobExecutor.class);
+      assertThat(countingAsyncExecutor.getMaxJobsInFlight().get()).isBetween(1, 3);
+
+    } finally {
+
+      // Clean up
+      cleanup(firstProcessEngine);
+      cleanup(secondProcessEngine);
+
+    }
+
+  }
+
+  @Test
+  public void testJobNotificationWakesUpIdleAsyncExecutor() {
+
+    ProcessEngine firstProcessEngine = null;
+    ProcessEngine secondProcessEngine = null;
+
+    try {
+
+      JobNotificationChannel jobNotificationChannel = new LoopbackJobNotificationChannel();
+
+      // Only creates jobs
+      ProcessEngineConfigurationImpl firstProcessEngineConfiguration = createProcessEngineConfiguration();
+      firstProcessEngineConfiguration.setJobNotificationChannel(jobNotificationChannel);
+      firstProcessEngine = firstProcessEngineConfiguration.buildProcessEngine();
+      deploy(firstProcessEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+
+      // Only executes jobs, but would poll the job table once a minute only
+      ProcessEngineConfigurationImpl secondProcessEngineConfiguration = createProcessEngineConfiguration();
+      secondProcessEngineConfiguration.setJobNotificationChannel(jobNotificationChannel);
+      secondProcessEngineConfiguration.setAsyncExecutorActivate(true);
+      secondProcessEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(60000);
+      secondProcessEngine = secondProcessEngineConfiguration.buildProcessEngine();
+
+      for (int i = 0; i < 5; i++) {
+        firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+      }
+
+      waitForAllJobsBeingExecuted(secondProcessEngine, 10000L);
+      assertThat(firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(5);
+
+    } finally {
+
+      // Clean up
+      cleanup(firstProcessEngine);
+      cleanup(secondProcessEngine);
+
+    }
+
+  }
+
+  @Test
+  public void testTimerWheelMovesScheduledTimerWhenDue() {
+
+    ProcessEngine firstProcessEngine = null;
+    ProcessEngine secondProcessEngine = null;
+
+    try {
+
+      // The timer exists before the second engine starts, so its first acquisition schedules it
+      firstProcessEngine = createProcessEngine(false);
+      Date now = setClockToCurrentTime(firstProcessEngine);
+      deploy(firstProcessEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+      firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+      String timerJobId = firstProcessEngine.getManagementService().createTimerJobQuery().singleResult().getId();
+
+      // Timers due within 10 minutes are scheduled, but the timer table is only polled once a minute
+      ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration();
+      processEngineConfiguration.setAsyncExecutorActivate(true);
+      processEngineConfiguration.setAsyncExecutorTimerJobLookaheadInMillis(10 * 60 * 1000);
+      processEngineConfiguration.setAsyncExecutorTimerWheelTickInMillis(50);
+      processEngineConfiguration.setAsyncExecutorDefaultTimerJobAcquireWaitTime(60000);
+      processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+      secondProcessEngine = processEngineConfiguration.buildProcessEngine();
+      secondProcessEngine.getProcessEngineConfiguration().getClock().setCurrentTime(now);
+
+      waitForTimerJobToBeLocked(secondProcessEngine, timerJobId);
+      assertThat(secondProcessEngine.getTaskService().createTaskQuery().taskName("Task after timer").count()).isEqualTo(0);
+
+      // Move clock 5 minutes and 1 second: the timer wheel moves the timer long before the next acquisition
+      addSecondsToCurrentTime(secondProcessEngine, 301);
+      waitForAllJobsBeingExecuted(secondProcessEngine, 5000L);
+
+      assertThat(secondProcessEngine.getTaskService().createTaskQuery().taskName("Task after timer").count()).isEqualTo(1);
+      assertThat(secondProcessEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(0);
+
+    } finally {
+
+      // Clean up
+      cleanup(firstProcessEngine);
+      cleanup(secondProcessEngine);
+
+    }
+
+  }
+
+  @Test
+  public void testExclusiveJobLanes() {
+
+    ProcessEngine firstProcessEngine = null;
+    ProcessEngine secondProcessEngine = null;
+
+    try {
+
+      // Each process instance has 5 exclusive async branches, created on an engine without async executor
+      firstProcessEngine = createProcessEngine(false);
+      deploy(firstProcessEngine, "AsyncExecutorTest.testExclusiveJobLanes.bpmn20.xml");
+      for (int i = 0; i < 4; i++) {
+        firstProcessEngine.getRuntimeService().startProcessInstanceByKey("exclusiveBranches");
+      }
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(20);
+
+      // The branches of a process instance execute one after the other in the same lane. Without lanes, the 8 threads
+      // of the pool would run the exclusive jobs of up to 4 process instances at the same time
+      ConcurrencyRecordingDelegate.reset();
+      ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration();
+      processEngineConfiguration.setAsyncExecutorActivate(true);
+      processEngineConfiguration.setAsyncExecutorCorePoolSize(8);
+      processEngineConfiguration.setAsyncExecutorMaxPoolSize(8);
+      processEngineConfiguration.setAsyncExecutorExclusiveJobLaneCount(2);
+      processEngineConfiguration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(20);
+      processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+      processEngineConfiguration.setAsyncExecutorDefaultTimerJobAcquireWaitTime(50);
+      secondProcessEngine = processEngineConfiguration.buildProcessEngine();
+      waitForAllJobsBeingExecuted(secondProcessEngine);
+
+      assertThat(firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after join").count()).isEqualTo(4);
+      assertThat(firstProcessEngine.getManagementService().createJobQuery().count()).isEqualTo(0);
+      assertThat(firstProcessEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(0);
+      assertThat(firstProcessEngine.getManagementService().createDeadLetterJobQuery().count()).isEqualTo(0);
+      assertThat(ConcurrencyRecordingDelegate.runningPerProcessInstance).hasSize(4);
+      assertThat(ConcurrencyRecordingDelegate.maxRunningPerProcessInstance.get()).isEqualTo(1);
+      assertThat(ConcurrencyRecordingDelegate.maxRunning.get()).isBetween(1, 2);
+
+    } finally {
+
+      // Clean up
+      cleanup(firstProcessEngine);
+      cleanup(secondProcessEngine);
+
+    }
+
+  }
+
   // Helpers ////////////////////////////////////////////////////////
 
   private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
@@ -267,9 +489,11 @@ public class AsyncExecutorTest {
   }
 
   private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
-    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
-    processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
-    processEngineConfiguration.setDatabaseSchemaUpdate("true");
+    return createProcessEngine(enableAsyncExecutor, time, false);
+  }
+
+  private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, boolean pipelinedAcquisition) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration();
 
     if (enableAsyncExecutor) {
       processEngineConfiguration.setAsyncExecutorActivate(true);
@@ -277,6 +501,10 @@ public class AsyncExecutorTest {
       CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
       countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
       countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+      if (pipelinedAcquisition) {
+        countingAsyncExecutor.setPipelinedAcquisition(true);
+        countingAsyncExecutor.setMaxAsyncJobsDuePerAcquisition(6);
+      }
       processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
     }
 
@@ -289,6 +517,13 @@ public class AsyncExecutorTest {
     return processEngine;
   }
 
+  private ProcessEngineConfigurationImpl createProcessEngineConfiguration() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+    processEngineConfiguration.setDatabaseSchemaUpdate("true");
+    return processEngineConfiguration;
+  }
+
   private Date setClockToCurrentTime(ProcessEngine processEngine) {
     Date date = new Date();
     processEngine.getProcessEngineConfiguration().getClock().setCurrentTime(date);
@@ -321,6 +556,24 @@ public class AsyncExecutorTest {
     JobTestHelper.waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), maxWaitTime, 1000L, false);
   }
 
+  private void waitForTimerJobToBeLocked(ProcessEngine processEngine, String timerJobId) {
+    long maxWaitTime = System.currentTimeMillis() + 10000L;
+    while (System.currentTimeMillis() < maxWaitTime) {
+      String lockOwner = processEngine.getManagementService().executeCommand(
+          commandContext -> commandContext.getTimerJobEntityManager().findById(timerJobId).getLockOwner());
+      if (lockOwner != null) {
+        return;
+      }
+      try {
+        Thread.sleep(100L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    throw new ActivitiException("Timer job " + timerJobId + " was not locked within 10 seconds");
+  }
+
   private int getAsyncExecutorJobCount(ProcessEngine processEngine) {
     AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
     if (asyncExecutor instanceof CountingAsyncExecutor) {
@@ -329,6 +582,43 @@ public class AsyncExecutorTest {
     return 0;
   }
 
+  static class InFlightCountingVirtualThreadAsyncJobExecutor extends VirtualThreadAsyncJobExecutor {
+
+    private AtomicInteger jobsInFlight = new AtomicInteger(0);
+
+    private AtomicInteger maxJobsInFlight = new AtomicInteger(0);
+
+    @Override
+    protected Runnable createRunnableForJob(Job job) {
+      final Runnable runnable = super.createRunnableForJob(job);
+      return new Runnable() {
+        public void run() {
+          maxJobsInFlight.accumulateAndGet(jobsInFlight.incrementAndGet(), Math::max);
+          try {
+            // Long enough for the jobs of one acquisition to overlap
+            sleep(50L);
+            runnable.run();
+          } finally {
+            jobsInFlight.decrementAndGet();
+          }
+        }
+      };
+    }
+
+    private void sleep(long millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    public AtomicInteger getMaxJobsInFlight() {
+      return maxJobsInFlight;
+    }
+
+  }
+
   static class CountingAsyncExecutor extends DefaultAsyncJobExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(CountingAsyncExecutor.class);
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2020 Alfresco Software, Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.engine.test.jobexecutor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.activiti.engine.delegate.DelegateExecution;
+import org.activiti.engine.delegate.JavaDelegate;
+
+/**
+ * Records how many executions of this delegate run at the same time, overall and per process instance.
+ */
+public class ConcurrencyRecordingDelegate implements JavaDelegate {
+
+  public static final AtomicInteger running = new AtomicInteger();
+  public static final AtomicInteger maxRunning = new AtomicInteger();
+  public static final Map<String, AtomicInteger> runningPerProcessInstance = new ConcurrentHashMap<String, AtomicInteger>();
+  public static final AtomicInteger maxRunningPerProcessInstance = new AtomicInteger();
+
+  public static void reset() {
+    running.set(0);
+    maxRunning.set(0);
+    runningPerProcessInstance.clear();
+    maxRunningPerProcessInstance.set(0);
+  }
+
+  @Override
+  public void execute(DelegateExecution execution) {
+    AtomicInteger runningInProcessInstance = runningPerProcessInstance.computeIfAbsent(execution.getProcessInstanceId(), id -> new AtomicInteger());
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    maxRunningPerProcessInstance.accumulateAndGet(runningInProcessInstance.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(50L);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      runningInProcessInstance.decrementAndGet();
+      running.decrementAndGet();
+    }
+  }
+}
@@ -52,6 +52,7 @@ public class ActivitiProperties {
   private String javaClassFieldForJackson = JsonTypeInfo.Id.CLASS.getDefaultPropertyName();
   private Integer processDefinitionCacheLimit;
   private String processDefinitionCacheName;
+  private int deploymentParseParallelism = 1;
 
   public boolean isAsyncExecutorActivate() {
     return asyncExecutorActivate;
@@ -254,4 +255,12 @@ public class ActivitiProperties {
     public void setProcessDefinitionCacheName(String processDefinitionCacheName) {
         this.processDefinitionCacheName = processDefinitionCacheName;
     }
+
+    public int getDeploymentParseParallelism() {
+        return deploymentParseParallelism;
+    }
+
+    public void setDeploymentParseParallelism(int deploymentParseParallelism) {
+        this.deploymentParseParallelism = deploymentParseParallelism;
+    }
 }
@@ -155,6 +155,30 @@ public class AsyncExecutorProperties {
      */
     private boolean messageQueueMode = false;
 
+    /**
+     * Set this to true to execute every job on its own virtual thread instead of
+     * on the thread pool. Default is false.
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * The maximal number of jobs executed at the same time when using virtual
+     * threads. Default value = 100.
+     */
+    private int maxConcurrentJobs = 100;
+
+    /**
+     * Set this to true to log the code that pins a job virtual thread to its
+     * carrier thread (typically blocking inside synchronized code). Default is false.
+     */
+    private boolean reportVirtualThreadPinning = false;
+
+    /**
+     * The time (in milliseconds) a job virtual thread has to stay pinned to its
+     * carrier thread before it is reported. Default value = 20.
+     */
+    private long virtualThreadPinningThresholdInMillis = 20L;
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
@@ -203,6 +227,38 @@ public class AsyncExecutorProperties {
         this.messageQueueMode = isMessageQueueMode;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public boolean isReportVirtualThreadPinning() {
+        return reportVirtualThreadPinning;
+    }
+
+    public void setReportVirtualThreadPinning(boolean reportVirtualThreadPinning) {
+        this.reportVirtualThreadPinning = reportVirtualThreadPinning;
+    }
+
+    public long getVirtualThreadPinningThresholdInMillis() {
+        return virtualThreadPinningThresholdInMillis;
+    }
+
+    public void setVirtualThreadPinningThresholdInMillis(long virtualThreadPinningThresholdInMillis) {
+        this.virtualThreadPinningThresholdInMillis = virtualThreadPinningThresholdInMillis;
+    }
+
     public int getMaxTimerJobsPerAcquisition() {
         return maxTimerJobsPerAcquisition;
     }
@@ -36,6 +36,7 @@ import org.activiti.core.common.spring.project.ApplicationUpgradeContextService;
 import org.activiti.engine.ManagementService;
 import org.activiti.engine.RepositoryService;
 import org.activiti.engine.cfg.ProcessEngineConfigurator;
+import org.activiti.engine.impl.asyncexecutor.notification.JobNotificationChannel;
 import org.activiti.engine.impl.bpmn.behavior.VariablesPropagator;
 import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.event.EventSubscriptionPayloadMappingProvider;
@@ -108,13 +109,15 @@ public class ProcessEngineAutoConfiguration extends AbstractProcessEngineAutoCon
             ApplicationUpgradeContextService applicationUpgradeContextService,
             @Autowired(required = false) List<ProcessEngineConfigurationConfigurer> processEngineConfigurationConfigurers,
             @Autowired(required = false) List<ProcessEngineConfigurator> processEngineConfigurators,
-            ObjectProvider<DeploymentCache<ProcessDefinitionCacheEntry>> processDefinitionCacheProvider
+            ObjectProvider<DeploymentCache<ProcessDefinitionCacheEntry>> processDefinitionCacheProvider,
+            ObjectProvider<JobNotificationChannel> jobNotificationChannelProvider
         ) throws IOException {
 
         SpringProcessEngineConfiguration conf = new SpringProcessEngineConfiguration(applicationUpgradeContextService);
         conf.setConfigurators(processEngineConfigurators);
 
         processDefinitionCacheProvider.ifAvailable(conf::setProcessDefinitionCache);
+        jobNotificationChannelProvider.ifAvailable(conf::setJobNotificationChannel);
 
         configureResources(resourceFinder, resourceFinderDescriptors, conf);
 
@@ -145,6 +148,7 @@ public class ProcessEngineAutoConfiguration extends AbstractProcessEngineAutoCon
         conf.setCopyVariablesToLocalForTasks(activitiProperties.isCopyVariablesToLocalForTasks());
         conf.setSerializePOJOsInVariablesToJson(activitiProperties.isSerializePOJOsInVariablesToJson());
         conf.setJavaClassFieldForJackson(activitiProperties.getJavaClassFieldForJackson());
+        conf.setDeploymentParseParallelism(activitiProperties.getDeploymentParseParallelism());
 
         if (activitiProperties.getCustomMybatisMappers() != null) {
             conf.setCustomMybatisMappers(getCustomMybatisMapperClasses(activitiProperties.getCustomMybatisMappers()));
@@ -302,6 +306,11 @@ public class ProcessEngineAutoConfiguration extends AbstractProcessEngineAutoCon
             configuration.setAsyncExecutorThreadPoolQueueSize(properties.getQueueSize());
 
             configuration.setAsyncFailedJobWaitTime(properties.getRetryWaitTimeInMillis());
+
+            configuration.setAsyncExecutorVirtualThreads(properties.isVirtualThreads());
+            configuration.setAsyncExecutorMaxConcurrentJobs(properties.getMaxConcurrentJobs());
+            configuration.setAsyncExecutorReportVirtualThreadPinning(properties.isReportVirtualThreadPinning());
+            configuration.setAsyncExecutorVirtualThreadPinningThresholdInMillis(properties.getVirtualThreadPinningThresholdInMillis());
         };
     }
 
@@ -49,5 +49,7 @@ public class AsyncExecutorConfigurationTest {
         assertThat(asyncExecutor.getResetExpiredJobsPageSize()).isEqualTo(properties.getResetExpiredJobsPageSize());
         assertThat(asyncExecutor.getSecondsToWaitOnShutdown()).isEqualTo(properties.getSecondsToWaitOnShutdown());
         assertThat(asyncExecutor.getTimerLockTimeInMillis()).isEqualTo(properties.getTimerLockTimeInMillis());
+        assertThat(asyncExecutor.isVirtualThreads()).isEqualTo(properties.isVirtualThreads());
+        assertThat(asyncExecutor.getMaxConcurrentJobs()).isEqualTo(properties.getMaxConcurrentJobs());
     }
 }
@@ -16,13 +16,19 @@
 
 package org.activiti.spring;
 
+import java.time.Duration;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import org.activiti.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.activiti.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.activiti.engine.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
+import org.activiti.engine.impl.asyncexecutor.VirtualThreadPinningReporter;
+import org.activiti.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.activiti.engine.impl.persistence.entity.JobEntity;
 import org.activiti.engine.runtime.Job;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 /**
  * <p>
@@ -32,6 +38,11 @@ import org.springframework.core.task.TaskExecutor;
  * The idea behind this implementation is to externalize the configuration of the task executor, so it can leverage to Application servers controller thread pools, for example using the commonj API.
  * The use of unmanaged thread in application servers is discouraged by the Java EE spec.
  * </p>
+ * <p>
+ * With virtual threads enabled, the task executor is replaced by a {@link VirtualThreadTaskExecutor} and the number of
+ * concurrently executed jobs is limited by a semaphore of <code>maxConcurrentJobs</code> permits: a job that gets no
+ * permit is unacquired, so it is picked up again by a later acquisition.
+ * </p>
  *
 
  */
@@ -40,6 +51,14 @@ public class SpringAsyncExecutor extends DefaultAsyncJobExecutor {
   protected TaskExecutor taskExecutor;
   protected SpringRejectedJobsHandler rejectedJobsHandler;
 
+  protected boolean isVirtualThreads;
+  protected int maxConcurrentJobs = 100;
+  protected Semaphore concurrentJobsPermits;
+
+  protected boolean isReportPinning;
+  protected long pinningThresholdInMillis = 20L;
+  protected VirtualThreadPinningReporter pinningReporter;
+
   public SpringAsyncExecutor() {
   }
 
@@ -74,8 +93,72 @@ public class SpringAsyncExecutor extends DefaultAsyncJobExecutor {
     this.rejectedJobsHandler = rejectedJobsHandler;
   }
 
+  public boolean isVirtualThreads() {
+    return isVirtualThreads;
+  }
+
+  /**
+   * Executes every job on its own virtual thread, instead of on the injected {@link TaskExecutor}.
+   *
+   * @param isVirtualThreads
+   */
+  public void setVirtualThreads(boolean isVirtualThreads) {
+    this.isVirtualThreads = isVirtualThreads;
+  }
+
+  public int getMaxConcurrentJobs() {
+    return maxConcurrentJobs;
+  }
+
+  /**
+   * The maximal number of jobs executed at the same time on virtual threads.
+   *
+   * @param maxConcurrentJobs
+   */
+  public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+    this.maxConcurrentJobs = maxConcurrentJobs;
+  }
+
+  public boolean isReportPinning() {
+    return isReportPinning;
+  }
+
+  /**
+   * Logs the code that pins a job virtual thread to its carrier thread, see {@link VirtualThreadPinningReporter}.
+   *
+   * @param isReportPinning
+   */
+  public void setReportPinning(boolean isReportPinning) {
+    this.isReportPinning = isReportPinning;
+  }
+
+  public long getPinningThresholdInMillis() {
+    return pinningThresholdInMillis;
+  }
+
+  /**
+   * The time a job virtual thread has to stay pinned to its carrier thread before it is reported.
+   *
+   * @param pinningThresholdInMillis
+   */
+  public void setPinningThresholdInMillis(long pinningThresholdInMillis) {
+    this.pinningThresholdInMillis = pinningThresholdInMillis;
+  }
+
+  @Override
+  public void applyConfig(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    super.applyConfig(processEngineConfiguration);
+    isVirtualThreads = processEngineConfiguration.isAsyncExecutorVirtualThreads();
+    maxConcurrentJobs = processEngineConfiguration.getAsyncExecutorMaxConcurrentJobs();
+    isReportPinning = processEngineConfiguration.isAsyncExecutorReportVirtualThreadPinning();
+    pinningThresholdInMillis = processEngineConfiguration.getAsyncExecutorVirtualThreadPinningThresholdInMillis();
+  }
+
   @Override
   public boolean executeAsyncJob(Job job) {
+    if (concurrentJobsPermits != null) {
+      return executeAsyncJobOnVirtualThread(job);
+    }
     try {
       taskExecutor.execute(new ExecuteAsyncRunnable((JobEntity) job, processEngineConfiguration));
       return true;
@@ -85,9 +168,61 @@ public class SpringAsyncExecutor extends DefaultAsyncJobExecutor {
     }
   }
 
+  protected boolean executeAsyncJobOnVirtualThread(Job job) {
+    if (!concurrentJobsPermits.tryAcquire()) {
+      // Not handed to the rejected jobs handler: running the job in the caller would bypass the limit
+      unacquireJob(job);
+      return false;
+    }
+
+    final Runnable jobRunnable = new ExecuteAsyncRunnable((JobEntity) job, processEngineConfiguration);
+    try {
+      taskExecutor.execute(new Runnable() {
+        public void run() {
+          try {
+            jobRunnable.run();
+          } finally {
+            concurrentJobsPermits.release();
+          }
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      concurrentJobsPermits.release();
+      rejectedJobsHandler.jobRejected(this, job);
+      return false;
+    }
+  }
+
+  @Override
+  public void start() {
+    // Pipelined acquisition sizes its pages on the thread pool queue, which the Spring task executor doesn't expose
+    isPipelinedAcquisition = false;
+    super.start();
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    super.shutdown();
+    if (pinningReporter != null) {
+      pinningReporter.stop();
+    }
+  }
+
   @Override
   protected void initAsyncJobExecutionThreadPool() {
-    // Do nothing, using the Spring taskExecutor
+    // Using the Spring taskExecutor, unless the jobs run on virtual threads
+    if (isVirtualThreads && concurrentJobsPermits == null) {
+      taskExecutor = new VirtualThreadTaskExecutor(VirtualThreadAsyncJobExecutor.JOB_THREAD_NAME_PREFIX);
+      concurrentJobsPermits = new Semaphore(maxConcurrentJobs);
+
+      if (isReportPinning) {
+        pinningReporter = new VirtualThreadPinningReporter(Duration.ofMillis(pinningThresholdInMillis), VirtualThreadAsyncJobExecutor.JOB_THREAD_NAME_PREFIX);
+      }
+    }
+    if (pinningReporter != null) {
+      pinningReporter.start();
+    }
   }
 
 }
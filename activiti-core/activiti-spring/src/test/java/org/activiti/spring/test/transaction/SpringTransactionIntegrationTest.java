@@ -24,12 +24,17 @@ import java.util.List;
 import javax.sql.DataSource;
 
 import org.activiti.bpmn.exceptions.XMLException;
+import org.activiti.engine.impl.event.logger.AsyncEventLogWriter;
+import org.activiti.engine.impl.event.logger.EventLogger;
 import org.activiti.engine.runtime.ProcessInstance;
+import org.activiti.engine.task.Task;
 import org.activiti.engine.test.Deployment;
 import org.activiti.spring.impl.test.SpringActivitiTestCase;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ContextConfiguration("classpath:org/activiti/spring/test/transaction/SpringTransactionIntegrationTest-context.xml")
 public class SpringTransactionIntegrationTest extends SpringActivitiTestCase {
@@ -43,6 +48,9 @@ public class SpringTransactionIntegrationTest extends SpringActivitiTestCase {
     @Autowired
     protected DataSource dataSource;
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
 
     private void cleanUp() {
         List<org.activiti.engine.repository.Deployment> deployments = repositoryService.createDeploymentQuery().list();
@@ -91,6 +99,33 @@ public class SpringTransactionIntegrationTest extends SpringActivitiTestCase {
         jdbcTemplate.execute("drop table MY_TABLE if exists;");
     }
 
+    public void testAsyncEventLogNotWrittenOnRollback() {
+        AsyncEventLogWriter eventLogWriter = new AsyncEventLogWriter(100, 10);
+        eventLogWriter.start(processEngineConfiguration.getCommandExecutor());
+        EventLogger eventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper(), eventLogWriter);
+        runtimeService.addEventListener(eventLogger);
+
+        try {
+            // The command context closes before Spring rolls back the surrounding transaction
+            new TransactionTemplate(transactionManager).execute(status -> {
+                Task task = taskService.newTask();
+                task.setAssignee("kermit");
+                taskService.saveTask(task);
+                status.setRollbackOnly();
+                return null;
+            });
+
+            // Shutting down drains the queue
+            eventLogWriter.shutdown();
+
+            assertThat(taskService.createTaskQuery().count()).isEqualTo(0);
+            assertThat(managementService.getEventLogEntries(null, null)).isEmpty();
+        } finally {
+            eventLogWriter.shutdown();
+            runtimeService.removeEventListener(eventLogger);
+        }
+    }
+
     public void testRollBackOnDeployment() {
         // The second process should fail. None of the processes should be deployed, the first one should be rolled back
         assertThat(repositoryService.createProcessDefinitionQuery().count()).isEqualTo(0);